@@ -0,0 +1,44 @@
+package framework.benchmarks;
+
+import framework.utils.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the config getters called on every wait
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class ConfigManagerBenchmark {
+
+    @Benchmark
+    public int getElementTimeout() {
+        return ConfigManager.getElementTimeout();
+    }
+
+    @Benchmark
+    public String getBrowser() {
+        return ConfigManager.getBrowser();
+    }
+
+    @Benchmark
+    public boolean isHeadless() {
+        return ConfigManager.isHeadless();
+    }
+
+    @Benchmark
+    public String getMetricsDirWithDefault() {
+        // Not set in config.properties, so the default path is taken
+        return ConfigManager.getMetricsDir();
+    }
+}
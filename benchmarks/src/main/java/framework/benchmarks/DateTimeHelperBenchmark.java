@@ -0,0 +1,44 @@
+package framework.benchmarks;
+
+import framework.utils.DateTimeHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the date formatting used by the date pickers and test data
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+@State(Scope.Thread)
+public class DateTimeHelperBenchmark {
+
+    private final Date date = new Date(1_767_225_600_000L);
+
+    @Benchmark
+    public String formatDate() {
+        return DateTimeHelper.formatDate(date);
+    }
+
+    @Benchmark
+    public String formatDateWithPattern() {
+        return DateTimeHelper.formatDate(date, "yyyy-MM-dd");
+    }
+
+    @Benchmark
+    public Date getFutureDate() {
+        return DateTimeHelper.getFutureDate(date, 7);
+    }
+}
@@ -0,0 +1,59 @@
+package framework.benchmarks;
+
+import framework.elements.core.Button;
+import framework.elements.core.Element;
+import framework.elements.core.TextBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of element construction and of toString(), which every log line of an action calls
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+@State(Scope.Benchmark)
+public class ElementBenchmark {
+
+    private Button namedButton;
+    private Element unnamedElement;
+
+    @Setup
+    public void setUp(StubDriverState driver) {
+        namedButton = new Button("[data-selenium='searchButton']", "Search Button");
+        // Name equal to the locator, as with the single-argument constructors
+        unnamedElement = new Element("[data-selenium='adultValue']", "[data-selenium='adultValue']");
+    }
+
+    @Benchmark
+    public Button constructButton() {
+        return new Button("[data-selenium='searchButton']", "Search Button");
+    }
+
+    @Benchmark
+    public TextBox constructTextBox() {
+        return new TextBox("[data-selenium='textInput']", "Search Box");
+    }
+
+    @Benchmark
+    public String namedToString() {
+        return namedButton.toString();
+    }
+
+    @Benchmark
+    public String unnamedToString() {
+        return unnamedElement.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package framework.benchmarks;
+
+import com.google.gson.JsonObject;
+import framework.utils.LocatorManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of page object initialization from the JSON locator files (cached after the first load)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+@State(Scope.Benchmark)
+public class LocatorManagerBenchmark {
+
+    private static final String LOCATOR_FILE = "locators/agoda/agoda_locators.json";
+    private static final String PAGE_NAME = "AgodaHomePage";
+
+    private LocatorManager locatorManager;
+    private JsonObject pageLocators;
+
+    @Setup
+    public void setUp(StubDriverState driver) {
+        locatorManager = LocatorManager.getInstance();
+        pageLocators = locatorManager.getPageLocators(PAGE_NAME, LOCATOR_FILE);
+    }
+
+    @Benchmark
+    public JsonObject getPageLocators() {
+        return locatorManager.getPageLocators(PAGE_NAME, LOCATOR_FILE);
+    }
+
+    @Benchmark
+    public Object createButton() {
+        return locatorManager.createElement(pageLocators, "searchButton");
+    }
+
+    @Benchmark
+    public Object createTextBox() {
+        return locatorManager.createElement(pageLocators, "searchBox");
+    }
+}
@@ -0,0 +1,38 @@
+package framework.benchmarks;
+
+import framework.utils.LogUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the logging calls made around every element action
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class LogUtilsBenchmark {
+
+    @Benchmark
+    public void logAction() {
+        LogUtils.logAction("Button 'Search' [#search]", "Clicking");
+    }
+
+    @Benchmark
+    public void logActionWithParams() {
+        LogUtils.logAction("TextBox 'City' [#city]", "Typing", "Da Nang", "clear first");
+    }
+
+    @Benchmark
+    public void logSuccess() {
+        LogUtils.logSuccess("Button 'Search' [#search]", "Clicked successfully");
+    }
+}
@@ -0,0 +1,25 @@
+package framework.benchmarks;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Registers a {@link StubDriver} with Selenide for the benchmark thread
+ */
+@State(Scope.Thread)
+public class StubDriverState {
+
+    @Setup(Level.Trial)
+    public void install() {
+        WebDriverRunner.setWebDriver(new StubDriver());
+    }
+
+    @TearDown(Level.Trial)
+    public void remove() {
+        WebDriverRunner.closeWebDriver();
+    }
+}
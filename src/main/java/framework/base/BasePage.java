@@ -3,14 +3,24 @@ package framework.base;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.WebDriverRunner;
+import framework.metrics.PageMetrics;
+import framework.metrics.PageMetricsCollector;
+import framework.metrics.PerformanceBudgets;
+import framework.metrics.TraceRecorder;
+import framework.reporting.AllureSteps;
 import framework.utils.ConfigManager;
+import framework.utils.DomSnapshotStore;
 import framework.utils.LogUtils;
+import framework.utils.ScreenshotService;
 import framework.utils.BrowserUtils;
 import framework.utils.JavaScriptUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import static com.codeborne.selenide.Selenide.*;
 
 /**
@@ -19,7 +29,9 @@ import static com.codeborne.selenide.Selenide.*;
  * and JavaScript operations to JavaScriptUtils.
  */
 public abstract class BasePage {
+    private static final Duration SCREENSHOT_WRITE_TIMEOUT = Duration.ofSeconds(10);
     protected final String pageName;
+    private PageMetrics lastPageMetrics;
     
     /**
      * Constructor with page name for logging
@@ -43,7 +55,39 @@ public abstract class BasePage {
      */
     public void openPage(String url) {
         LogUtils.logAction(this.toString(), "Opening page: " + url);
-        BrowserUtils.openUrl(url);
+        try (AllureSteps.Step step = AllureSteps.start(this.toString(), "Opening page: " + url);
+             TraceRecorder.Span span = TraceRecorder.span("openPage " + pageName, TraceRecorder.PAGE, url)) {
+            // Observers must be registered before the navigation they measure
+            PageMetricsCollector.install();
+            BrowserUtils.openUrl(url);
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Metrics of the last load seen by {@link #waitForPageToLoad()}
+     * @return Page metrics, or null if not captured
+     */
+    public PageMetrics getLastPageMetrics() {
+        return lastPageMetrics;
+    }
+
+    /**
+     * Collect metrics of the current document and check them against this page's budget.
+     * {@link #waitForPageToLoad()} does this once per navigation; call it directly for pages
+     * reached without one, e.g. after a client-side route change.
+     * @return Budget violations, empty when within budget or page metrics are disabled
+     */
+    public List<PerformanceBudgets.Violation> checkBudget() {
+        LogUtils.logAction(this.toString(), "Checking performance budget");
+        PageMetrics metrics = PageMetricsCollector.collect(getPageKey());
+        if (metrics == null) {
+            return Collections.emptyList();
+        }
+        lastPageMetrics = metrics;
+        return PerformanceBudgets.check(metrics);
     }
 
     /**
@@ -137,7 +181,8 @@ public abstract class BasePage {
      */
     public void waitForPageToLoad() {
         LogUtils.logAction(this.toString(), "Waiting for page to load completely");
-        try {
+        try (AllureSteps.Step step = AllureSteps.start(this.toString(), "Waiting for page to load completely");
+             TraceRecorder.Span span = TraceRecorder.span("waitForPageToLoad " + pageName, TraceRecorder.PAGE, null)) {
             WebDriver driver = WebDriverRunner.getWebDriver();
             JavascriptExecutor js = (JavascriptExecutor) driver;
             
@@ -149,18 +194,59 @@ public abstract class BasePage {
                 String readyState = (String) js.executeScript("return document.readyState");
                 if (readyState.equals("complete")) {
                     LogUtils.logSuccess(this.toString(), "Page loaded completely");
+                    PageMetrics metrics = PageMetricsCollector.collectNavigation(getPageKey());
+                    if (metrics != null) {
+                        lastPageMetrics = metrics;
+                        PerformanceBudgets.check(metrics);
+                    }
+                    if (ConfigManager.isDomSnapshotCapture() && getLocatorFile() != null) {
+                        captureDomSnapshot();
+                    }
                     return;
                 }
                 sleep(100);
             }
             
             LogUtils.logWarning(this.toString(), "Page load timed out");
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(this.toString(), "Error while waiting for page to load", e);
             throw e;
         }
     }
     
+    /**
+     * Save a static DOM snapshot of the current page for offline locator validation,
+     * keyed by {@link #getLocatorFile()} and {@link #getPageKey()}.
+     * @return Path to the saved snapshot, or null if the page has no locator file
+     */
+    public Path captureDomSnapshot() {
+        String locatorFile = getLocatorFile();
+        if (locatorFile == null) {
+            LogUtils.logWarning(this.toString(), "No locator file, skipping DOM snapshot");
+            return null;
+        }
+        LogUtils.logAction(this.toString(), "Capturing DOM snapshot as " + getPageKey());
+        return DomSnapshotStore.capture(locatorFile, getPageKey());
+    }
+
+    /**
+     * Locator JSON file this page reads its locators from
+     * @return Path as passed to LocatorManager, or null for pages with inline locators
+     */
+    protected String getLocatorFile() {
+        return null;
+    }
+
+    /**
+     * Key of this page in its locator file, its DOM snapshot, its page metrics and the
+     * performance budget file
+     * @return Page key, the class name by default
+     */
+    protected String getPageKey() {
+        return getClass().getSimpleName();
+    }
+    
     /**
      * Refresh current page - delegates to BrowserUtils
      */
@@ -181,13 +267,15 @@ public abstract class BasePage {
     
     /**
      * Take screenshot of current page
-     * This is a page-specific operation so it belongs in BasePage
-     * @return Path to the screenshot file
+     * This is a page-specific operation so it belongs in BasePage.
+     * Waits until ScreenshotService has written the file, so it can be read straight away.
+     * @return Path to the written screenshot file
      */
     public String takeScreenshot() {
         LogUtils.logAction(this.toString(), "Taking screenshot");
         try {
-            String screenshotPath = screenshot("screenshot_" + System.currentTimeMillis());
+            String screenshotPath = ScreenshotService.getInstance()
+                .capturePageAndWait(pageName, SCREENSHOT_WRITE_TIMEOUT).toString();
             LogUtils.logSuccess(this.toString(), "Screenshot taken: " + screenshotPath);
             return screenshotPath;
         } catch (Exception e) {
@@ -195,6 +283,63 @@ public abstract class BasePage {
             throw e;
         }
     }
+
+    /**
+     * Take screenshot of current page without waiting for the file.
+     * The file is written in the background and may not exist yet when this returns;
+     * ScreenshotService.flush waits for it.
+     * @return Path the screenshot is written to
+     */
+    public String takeScreenshotAsync() {
+        LogUtils.logAction(this.toString(), "Taking screenshot in background");
+        try {
+            String screenshotPath = ScreenshotService.getInstance().capturePage(pageName).toString();
+            LogUtils.logSuccess(this.toString(), "Screenshot queued: " + screenshotPath);
+            return screenshotPath;
+        } catch (Exception e) {
+            LogUtils.logError(this.toString(), "Failed to take screenshot", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Take screenshot of one element, clipped to its bounding box.
+     * Waits until the file is written.
+     * @param element SelenideElement to capture
+     * @return Path to the written screenshot file
+     */
+    protected String takeScreenshot(SelenideElement element) {
+        LogUtils.logAction(this.toString(), "Taking element screenshot");
+        try {
+            String screenshotPath = ScreenshotService.getInstance()
+                .captureElementAndWait(element.toWebElement(), pageName + "_element", SCREENSHOT_WRITE_TIMEOUT)
+                .toString();
+            LogUtils.logSuccess(this.toString(), "Screenshot taken: " + screenshotPath);
+            return screenshotPath;
+        } catch (Exception e) {
+            LogUtils.logError(this.toString(), "Failed to take element screenshot", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Take screenshot of one element without waiting for the file.
+     * The file is written in the background and may not exist yet when this returns.
+     * @param element SelenideElement to capture
+     * @return Path the screenshot is written to
+     */
+    protected String takeScreenshotAsync(SelenideElement element) {
+        LogUtils.logAction(this.toString(), "Taking element screenshot in background");
+        try {
+            String screenshotPath = ScreenshotService.getInstance()
+                .captureElement(element.toWebElement(), pageName + "_element").toString();
+            LogUtils.logSuccess(this.toString(), "Screenshot queued: " + screenshotPath);
+            return screenshotPath;
+        } catch (Exception e) {
+            LogUtils.logError(this.toString(), "Failed to take element screenshot", e);
+            throw e;
+        }
+    }
     
     /**
      * Execute JavaScript on the page - delegates to JavaScriptUtils
@@ -1,7 +1,13 @@
 package framework.elements.container;
 
 import framework.elements.core.BaseElement;
+import framework.elements.core.ScopedLocator;
+import framework.utils.LogUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import org.openqa.selenium.NoSuchElementException;
 import com.codeborne.selenide.SelenideElement;
 import static com.codeborne.selenide.Selenide.$;
 import com.codeborne.selenide.Selenide;
@@ -10,11 +16,126 @@ import com.codeborne.selenide.Selenide;
  * Form element wrapper for handling form operations
  */
 public class Form extends BaseElement {
+
+    // Sets every field through the native value setter so framework-controlled inputs
+    // (React, Vue) see the change, then fires input and change like a user edit.
+    // validity.valid is read instead of checkValidity() to avoid firing 'invalid' events.
+    private static final String BATCH_FILL_SCRIPT =
+        "var form = arguments[0], data = arguments[1], results = {};" +
+        "function setNative(el, prop, value) {" +
+        "  var proto = Object.getPrototypeOf(el), desc;" +
+        "  while (proto && !(desc = Object.getOwnPropertyDescriptor(proto, prop))) proto = Object.getPrototypeOf(proto);" +
+        "  if (desc && desc.set) desc.set.call(el, value); else el[prop] = value;" +
+        "}" +
+        "function fire(el, type) { el.dispatchEvent(new Event(type, {bubbles: true})); }" +
+        "function state(el, result) {" +
+        "  var type = (el.type || '').toLowerCase();" +
+        "  result.value = (type === 'checkbox' || type === 'radio') ? String(el.checked) : el.value;" +
+        "  result.valid = el.validity ? el.validity.valid : true;" +
+        "  result.validationMessage = el.validationMessage || '';" +
+        "  return result;" +
+        "}" +
+        "Object.keys(data).forEach(function (selector) {" +
+        "  var value = data[selector], el = form.querySelector(selector);" +
+        "  if (!el) { results[selector] = {found: false, error: 'field not found'}; return; }" +
+        "  var tag = el.tagName.toLowerCase(), type = (el.type || '').toLowerCase();" +
+        "  if (tag === 'input' && (type === 'checkbox' || type === 'radio')) {" +
+        "    var checked = String(value).toLowerCase() === 'true';" +
+        "    if ((type === 'checkbox' || checked) && el.checked !== checked) el.click();" +
+        "  } else if (tag === 'select') {" +
+        "    var options = Array.prototype.slice.call(el.options);" +
+        "    var option = options.find(function (o) { return o.text.trim() === value; })" +
+        "      || options.find(function (o) { return o.value === value; });" +
+        "    if (!option) { results[selector] = state(el, {found: true, error: 'option not found: ' + value}); return; }" +
+        "    setNative(el, 'value', option.value); fire(el, 'input'); fire(el, 'change');" +
+        "  } else {" +
+        "    setNative(el, 'value', value); fire(el, 'input'); fire(el, 'change');" +
+        "  }" +
+        "  results[selector] = state(el, {found: true});" +
+        "});" +
+        "return results;";
+
+    private static final String BATCH_READ_SCRIPT =
+        "var data = {};" +
+        "arguments[0].querySelectorAll('input, select, textarea').forEach(function (field) {" +
+        "  var name = field.getAttribute('name');" +
+        "  if (name !== null && field.value !== null && field.value !== undefined) data[name] = field.value;" +
+        "});" +
+        "return data;";
+
+    /**
+     * Per-field outcome of a batch fill
+     */
+    public static class FieldResult {
+        private final String selector;
+        private final boolean found;
+        private final String value;
+        private final boolean valid;
+        private final String validationMessage;
+        private final String error;
+
+        FieldResult(String selector, Map<String, Object> raw) {
+            this.selector = selector;
+            this.found = Boolean.TRUE.equals(raw.get("found"));
+            this.value = (String) raw.get("value");
+            this.valid = !Boolean.FALSE.equals(raw.get("valid"));
+            this.validationMessage = raw.get("validationMessage") != null ? (String) raw.get("validationMessage") : "";
+            this.error = (String) raw.get("error");
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        /**
+         * Value after filling ("true"/"false" for checkboxes and radios)
+         */
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        public String getValidationMessage() {
+            return validationMessage;
+        }
+
+        /**
+         * Error if the field or select option could not be found, otherwise null
+         */
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            if (error != null) {
+                return String.format("%s: %s", selector, error);
+            }
+            return String.format("%s = '%s'%s", selector, value, valid ? "" : " (invalid: " + validationMessage + ")");
+        }
+    }
     
     public Form(String locator, String name) {
         super(locator, name);
     }
 
+    /**
+     * Constructor for forms nested in shadow roots.
+     * The form is resolved in one script call; field lookups then run inside it.
+     * @param scopedLocator Scoped locator chain ending at the form element
+     * @param name Descriptive name for logging
+     */
+    public Form(ScopedLocator scopedLocator, String name) {
+        super(scopedLocator, name);
+    }
+
     /**
      * Fill form fields with data
      * @param data Map of field locators and values
@@ -56,6 +177,50 @@ public class Form extends BaseElement {
         }
     }
 
+    /**
+     * Fill all fields in a single browser call. Values are set through native setters
+     * followed by input and change events; checkboxes and radios are clicked.
+     * @param data Map of field locators (CSS, relative to the form) and values
+     * @return Per-field value and validation state, in the order of the input map
+     * @throws NoSuchElementException if a field or select option is missing
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, FieldResult> fillBatch(Map<String, String> data) {
+        LogUtils.logAction(toString(), String.format("Batch filling %d fields", data.size()));
+        try {
+            Map<String, Object> raw = Selenide.executeJavaScript(BATCH_FILL_SCRIPT, getElement(), data);
+            Map<String, FieldResult> results = new LinkedHashMap<>();
+            List<String> errors = new ArrayList<>();
+            for (String selector : data.keySet()) {
+                FieldResult result = new FieldResult(selector, (Map<String, Object>) raw.get(selector));
+                results.put(selector, result);
+                if (result.getError() != null) {
+                    errors.add(result.toString());
+                } else if (!result.isValid()) {
+                    LogUtils.logWarning(toString(), "Field is invalid after fill: " + result);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new NoSuchElementException("Batch fill failed for " + String.join("; ", errors));
+            }
+            LogUtils.logSuccess(toString(), String.format("Batch filled %d fields", results.size()));
+            return results;
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to batch fill form", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Fill all fields in a single browser call with method chaining
+     * @param data Map of field locators and values
+     * @return this form for method chaining
+     */
+    public Form fillBatchAndChain(Map<String, String> data) {
+        fillBatch(data);
+        return this;
+    }
+
     /**
      * Submit the form (void version)
      */
@@ -108,6 +273,22 @@ public class Form extends BaseElement {
         return data;
     }
 
+    /**
+     * Get form data as map in a single browser call
+     * @return Map of field name attribute to current value
+     */
+    public Map<String, String> getFormDataBatch() {
+        LogUtils.logAction(toString(), "Reading form data in one call");
+        try {
+            Map<String, String> data = new LinkedHashMap<>(Selenide.executeJavaScript(BATCH_READ_SCRIPT, getElement()));
+            LogUtils.logSuccess(toString(), String.format("Read %d fields", data.size()));
+            return data;
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to read form data", e);
+            throw e;
+        }
+    }
+
     /**
      * Check if form is valid
      */
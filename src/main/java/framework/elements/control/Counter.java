@@ -1,15 +1,73 @@
 package framework.elements.control;
 
+import com.codeborne.selenide.Selenide;
 import framework.elements.core.Button;
+import framework.utils.LogUtils;
+import java.util.Map;
 
 /**
  * Counter element with increment/decrement buttons
  */
 public class Counter {
+    // Reads the value once, then clicks plus/minus up to |delta| times inside the browser.
+    // Yields a macrotask between clicks so async renderers can update the disabled state,
+    // stops at the first disabled button, and reports the final value.
+    private static final String COMPUTED_CLICKS_SCRIPT =
+        "var plusLocator = arguments[0], minusLocator = arguments[1], valueLocator = arguments[2];" +
+        "var attribute = arguments[3], target = arguments[4], done = arguments[arguments.length - 1];" +
+        "function read() {" +
+        "  var el = document.querySelector(valueLocator);" +
+        "  if (!el) return NaN;" +
+        "  var raw = attribute === 'value' ? el.value : el.getAttribute(attribute);" +
+        "  if (raw === null || raw === undefined) raw = el.textContent;" +
+        "  return parseInt(raw, 10);" +
+        "}" +
+        "function disabled(btn) {" +
+        "  return !btn || btn.disabled || btn.getAttribute('aria-disabled') === 'true'" +
+        "    || /(^|\\s)disabled(\\s|$)/.test(btn.className);" +
+        "}" +
+        "var start = read(), clicks = 0, limited = false;" +
+        "if (isNaN(start)) { done({error: 'value is not a number'}); return; }" +
+        "var remaining = Math.abs(target - start), locator = target > start ? plusLocator : minusLocator;" +
+        "(function step() {" +
+        "  if (remaining === 0) { done({start: start, clicks: clicks, limited: limited, value: read()}); return; }" +
+        "  var btn = document.querySelector(locator);" +
+        "  if (disabled(btn)) { limited = true; remaining = 0; step(); return; }" +
+        "  btn.click(); clicks++; remaining--;" +
+        "  setTimeout(step, 0);" +
+        "})();";
+
+    // Sets an input-backed counter through the native value setter and fires input/change
+    private static final String DIRECT_INPUT_SCRIPT =
+        "var el = document.querySelector(arguments[0]), value = String(arguments[1]);" +
+        "if (!el) return {error: 'value input not found'};" +
+        "var proto = Object.getPrototypeOf(el), desc;" +
+        "while (proto && !(desc = Object.getOwnPropertyDescriptor(proto, 'value'))) proto = Object.getPrototypeOf(proto);" +
+        "if (desc && desc.set) desc.set.call(el, value); else el.value = value;" +
+        "el.dispatchEvent(new Event('input', {bubbles: true}));" +
+        "el.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "return {value: parseInt(el.value, 10)};";
+
+    /**
+     * Strategies for setting the counter value
+     */
+    public enum SetMode {
+        /** Click once, re-read the value, repeat (original behaviour) */
+        STEPWISE,
+        /** Read once, click |delta| times in one in-browser loop, verify once */
+        COMPUTED_CLICKS,
+        /** Write the value into the backing input and fire input/change events */
+        DIRECT_INPUT
+    }
+
     private final Button incrementButton;
     private final Button decrementButton;
     private final Button valueContainer;
     private final String valueAttribute;
+    private final String plusLocator;
+    private final String minusLocator;
+    private final String valueLocator;
+    private final String name;
     
     public Counter(String plusLocator, String minusLocator, String valueLocator, 
                   String valueAttribute, String name) {
@@ -17,6 +75,10 @@ public class Counter {
         this.decrementButton = new Button(minusLocator, name + " Minus");
         this.valueContainer = new Button(valueLocator, name + " Value");
         this.valueAttribute = valueAttribute;
+        this.plusLocator = plusLocator;
+        this.minusLocator = minusLocator;
+        this.valueLocator = valueLocator;
+        this.name = name;
     }
 
     /**
@@ -44,6 +106,80 @@ public class Counter {
         }
     }
     
+    /**
+     * Set counter to specific value using the given strategy
+     * @param targetValue Desired value
+     * @param mode How to reach the value
+     * @throws IllegalStateException if the counter stops at a limit or ends on another value
+     */
+    public void setValue(int targetValue, SetMode mode) {
+        switch (mode) {
+            case COMPUTED_CLICKS:
+                setValueByComputedClicks(targetValue);
+                break;
+            case DIRECT_INPUT:
+                setValueDirect(targetValue);
+                break;
+            default:
+                setValue(targetValue);
+        }
+    }
+
+    /**
+     * Set counter to specific value using the given strategy with method chaining
+     * @param targetValue Desired value
+     * @param mode How to reach the value
+     * @return this counter for method chaining
+     */
+    public Counter setValueAndChain(int targetValue, SetMode mode) {
+        setValue(targetValue, mode);
+        return this;
+    }
+
+    private void setValueByComputedClicks(int targetValue) {
+        LogUtils.logAction(toString(), "Setting value with computed clicks: " + targetValue);
+        try {
+            incrementButton.waitForVisible();
+            Map<String, Object> result = Selenide.executeAsyncJavaScript(COMPUTED_CLICKS_SCRIPT,
+                plusLocator, minusLocator, valueLocator, valueAttribute, targetValue);
+            if (result.get("error") != null) {
+                throw new IllegalStateException("Cannot set counter: " + result.get("error"));
+            }
+            int finalValue = ((Number) result.get("value")).intValue();
+            if (finalValue != targetValue) {
+                throw new IllegalStateException(String.format(
+                    "Counter ended at %d instead of %d after %s clicks%s", finalValue, targetValue,
+                    result.get("clicks"), Boolean.TRUE.equals(result.get("limited")) ? " (limit reached)" : ""));
+            }
+            LogUtils.logSuccess(toString(), String.format("Value set from %s to %d with %s clicks",
+                result.get("start"), finalValue, result.get("clicks")));
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to set value with computed clicks", e);
+            throw e;
+        }
+    }
+
+    private void setValueDirect(int targetValue) {
+        LogUtils.logAction(toString(), "Setting value directly: " + targetValue);
+        try {
+            valueContainer.waitForVisible();
+            Map<String, Object> result = Selenide.executeJavaScript(DIRECT_INPUT_SCRIPT, valueLocator, targetValue);
+            if (result.get("error") != null) {
+                throw new IllegalStateException("Cannot set counter: " + result.get("error"));
+            }
+            // The page may clamp or reject the value on change; verify from the rendered state
+            int finalValue = getValue();
+            if (finalValue != targetValue) {
+                throw new IllegalStateException(String.format(
+                    "Counter shows %d after direct input of %d", finalValue, targetValue));
+            }
+            LogUtils.logSuccess(toString(), "Value set directly to " + finalValue);
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to set value directly", e);
+            throw e;
+        }
+    }
+    
     /**
      * Set counter to specific value with method chaining
      * @param targetValue Desired value
@@ -101,4 +237,9 @@ public class Counter {
     public boolean canDecrement() {
         return decrementButton.isEnabled();
     }
+
+    @Override
+    public String toString() {
+        return String.format("Counter '%s'", name);
+    }
 }
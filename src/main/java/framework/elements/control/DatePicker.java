@@ -1,22 +1,182 @@
 package framework.elements.control;
 
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import com.codeborne.selenide.Selenide;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
 import static com.codeborne.selenide.Selenide.$;
 
 /**
  * DatePicker element wrapper
+ *
+ * <p>When constructed with a {@link CalendarLayout}, date selection uses a calendar engine:
+ * the visible months and their enabled days are read in one script call, the picker is advanced
+ * to the target month in one scripted burst, and month→enabled-days maps are cached per
+ * browser session. Selecting a date any number of months ahead costs a constant number of
+ * round trips.
+ *
+ * <p>Each month is read from its own container, so a layout showing two months side by side
+ * caches their days separately. A session's cache is dropped when its driver quits, provided
+ * {@link SessionCacheCleaner} is registered with {@code WebDriverRunner.addListener}.
  */
 public class DatePicker extends BaseElement {
+
+    // Shared by both scripts: locate relative to the picker first, then in the document
+    private static final String CALENDAR_FUNCTIONS =
+        "var root = arguments[0], layout = arguments[1];" +
+        "function find(selector) { return root.querySelector(selector) || document.querySelector(selector); }" +
+        "function findAll(selector) {" +
+        "  var found = root.querySelectorAll(selector);" +
+        "  return found.length > 0 ? found : document.querySelectorAll(selector);" +
+        "}" +
+        "function text(el) { return el ? el.textContent.trim() : null; }" +
+        "function caption() { return text(find(layout.caption)); }" +
+        "function readDays(cells) {" +
+        "  var days = [];" +
+        "  for (var i = 0; i < cells.length; i++) {" +
+        "    var cell = cells[i], cls = ' ' + (cell.className || '') + ' ';" +
+        "    if (/ (outside|other-month|adjacent)[^ ]* /.test(cls)) continue;" +
+        "    var day = parseInt(cell.getAttribute('data-day') || cell.textContent, 10);" +
+        "    if (isNaN(day)) continue;" +
+        "    var disabled = cell.disabled || cell.getAttribute('aria-disabled') === 'true'" +
+        "      || / (disabled|unavailable)[^ ]* /.test(cls);" +
+        "    if (!disabled) days.push(day);" +
+        "  }" +
+        "  return days;" +
+        "}" +
+        // One entry per month container, or the whole calendar when the layout has none
+        "function readMonths() {" +
+        "  if (!layout.month) return {months: [{caption: caption(), days: readDays(findAll(layout.day))}]};" +
+        "  var panels = findAll(layout.month), months = [];" +
+        "  for (var i = 0; i < panels.length; i++) {" +
+        "    months.push({caption: text(panels[i].querySelector(layout.caption))," +
+        "      days: readDays(panels[i].querySelectorAll(layout.day))});" +
+        "  }" +
+        "  return {months: months};" +
+        "}";
+
+    private static final String READ_SCRIPT = CALENDAR_FUNCTIONS + "return readMonths();";
+
+    // Clicks next/previous |delta| times, waiting for the caption to change after each click
+    private static final String NAVIGATE_SCRIPT = CALENDAR_FUNCTIONS +
+        "var delta = arguments[2], timeout = arguments[3], done = arguments[arguments.length - 1];" +
+        "var selector = delta > 0 ? layout.next : layout.previous, remaining = Math.abs(delta);" +
+        "(function step() {" +
+        "  if (remaining === 0) { done(readMonths()); return; }" +
+        "  var button = find(selector);" +
+        "  if (!button) { done({error: 'navigation button not found: ' + selector}); return; }" +
+        "  var before = caption(), started = Date.now();" +
+        "  button.click();" +
+        "  (function waitForRender() {" +
+        "    if (caption() !== before) { remaining--; step(); return; }" +
+        "    if (Date.now() - started > timeout) { done({error: 'month did not change after ' + before}); return; }" +
+        "    setTimeout(waitForRender, 10);" +
+        "  })();" +
+        "})();";
+
+    // driver -> locator|month -> enabled days; weak keys as a fallback when no cleaner is registered
+    private static final Map<WebDriver, Map<String, Set<Integer>>> monthCache =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Drops the cached months of a browser session when its driver quits.
+     * Register once, before drivers are created: {@code WebDriverRunner.addListener(new SessionCacheCleaner())}.
+     */
+    public static class SessionCacheCleaner implements WebDriverListener {
+        @Override
+        public void beforeQuit(WebDriver driver) {
+            monthCache.remove(unwrap(driver));
+        }
+    }
+
+    /**
+     * Describes the calendar popup so the engine can read it in one call
+     */
+    public static class CalendarLayout {
+        private final String captionLocator;
+        private final DateTimeFormatter captionFormatter;
+        private final String dayCellLocator;
+        private final String nextLocator;
+        private final String previousLocator;
+        private final String monthLocator;
+
+        /**
+         * @param captionLocator CSS locator of the month caption, e.g. ".calendar-title"
+         * @param captionPattern Caption pattern, e.g. "MMMM yyyy"
+         * @param dayCellLocator CSS locator matching the day cells of the visible month
+         * @param nextLocator CSS locator of the next month button
+         * @param previousLocator CSS locator of the previous month button
+         * @param monthLocator CSS locator of each month container holding a caption and its day cells,
+         *                     for layouts showing several months; null when only one month is shown
+         */
+        public CalendarLayout(String captionLocator, String captionPattern, String dayCellLocator,
+                              String nextLocator, String previousLocator, String monthLocator) {
+            this.captionLocator = captionLocator;
+            this.captionFormatter = DateTimeFormatter.ofPattern(captionPattern, Locale.ENGLISH);
+            this.dayCellLocator = dayCellLocator;
+            this.nextLocator = nextLocator;
+            this.previousLocator = previousLocator;
+            this.monthLocator = monthLocator;
+        }
+
+        /**
+         * Layout showing one month at a time
+         */
+        public CalendarLayout(String captionLocator, String captionPattern, String dayCellLocator,
+                              String nextLocator, String previousLocator) {
+            this(captionLocator, captionPattern, dayCellLocator, nextLocator, previousLocator, null);
+        }
+
+        /**
+         * Layout using the default {@code [data-action='next']}/{@code [data-action='previous']} buttons
+         */
+        public CalendarLayout(String captionLocator, String captionPattern, String dayCellLocator) {
+            this(captionLocator, captionPattern, dayCellLocator, "[data-action='next']", "[data-action='previous']");
+        }
+
+        private Map<String, String> toScriptArgument() {
+            return Map.of("caption", captionLocator, "day", dayCellLocator,
+                "next", nextLocator, "previous", previousLocator, "month", monthLocator == null ? "" : monthLocator);
+        }
+    }
+
     private final String dateFormat;
     private final String dayLocatorFormat;
+    private final CalendarLayout calendarLayout;
     
     public DatePicker(String locator, String dayLocatorFormat, String dateFormat, String name) {
+        this(locator, dayLocatorFormat, dateFormat, null, name);
+    }
+
+    /**
+     * Constructor enabling the calendar engine
+     * @param calendarLayout Calendar popup description, or null for direct day clicks only
+     */
+    public DatePicker(String locator, String dayLocatorFormat, String dateFormat,
+                      CalendarLayout calendarLayout, String name) {
         super(locator, name);
         this.dayLocatorFormat = dayLocatorFormat;
         this.dateFormat = dateFormat;
+        this.calendarLayout = calendarLayout;
     }
 
     /**
@@ -44,6 +204,12 @@ public class DatePicker extends BaseElement {
      */
     public void selectDate(LocalDate date) {
         getElement().click(); // Open date picker
+        if (calendarLayout != null) {
+            YearMonth shown = showMonth(YearMonth.from(date));
+            if (!cachedDays(shown).contains(date.getDayOfMonth())) {
+                throw new IllegalStateException("Date is not selectable in " + this + ": " + date);
+            }
+        }
         String dayLocator = String.format(dayLocatorFormat, 
             date.getDayOfMonth(), date.getMonthValue(), date.getYear());
         $(dayLocator).click();
@@ -93,6 +259,16 @@ public class DatePicker extends BaseElement {
      * Check if date is enabled
      */
     public boolean isDateEnabled(LocalDate date) {
+        if (calendarLayout != null) {
+            YearMonth month = YearMonth.from(date);
+            Set<Integer> days = sessionCache().get(cacheKey(month));
+            if (days == null && readVisibleMonths().contains(month)) {
+                days = sessionCache().get(cacheKey(month));
+            }
+            if (days != null) {
+                return days.contains(date.getDayOfMonth());
+            }
+        }
         String dayLocator = String.format(dayLocatorFormat, 
             date.getDayOfMonth(), date.getMonthValue(), date.getYear());
         return !$(dayLocator).is(com.codeborne.selenide.Condition.disabled);
@@ -129,4 +305,118 @@ public class DatePicker extends BaseElement {
         previousMonth();
         return this;
     }
+
+    /**
+     * Get the enabled days of a month, navigating the open calendar there if not cached
+     * @param month Month to inspect
+     * @return Sorted enabled day numbers
+     */
+    public Set<Integer> getEnabledDays(YearMonth month) {
+        requireCalendarLayout();
+        Set<Integer> days = sessionCache().get(cacheKey(month));
+        if (days == null) {
+            showMonth(month);
+            days = cachedDays(month);
+        }
+        return days;
+    }
+
+    /**
+     * Navigate the open calendar to a month: one read, then at most one navigation burst.
+     * A month already visible in a multi-month layout needs no navigation.
+     * @param target Month to show
+     * @return The month shown afterwards
+     */
+    public YearMonth showMonth(YearMonth target) {
+        requireCalendarLayout();
+        LogUtils.logAction(this.toString(), "Showing month: " + target);
+        try {
+            List<YearMonth> visible = readVisibleMonths();
+            long delta = visible.contains(target) ? 0 : visible.get(0).until(target, ChronoUnit.MONTHS);
+            if (delta != 0) {
+                Map<String, Object> state = Selenide.executeAsyncJavaScript(NAVIGATE_SCRIPT,
+                    getElement(), calendarLayout.toScriptArgument(), delta, ConfigManager.getElementTimeout());
+                if (state.get("error") != null) {
+                    throw new IllegalStateException("Calendar navigation failed: " + state.get("error"));
+                }
+                visible = cacheMonths(state);
+            }
+            if (!visible.contains(target)) {
+                throw new IllegalStateException("Calendar shows " + visible + " instead of " + target);
+            }
+            LogUtils.logSuccess(this.toString(), String.format("Showing %s (moved %d months)", target, delta));
+            return target;
+        } catch (Exception e) {
+            LogUtils.logError(this.toString(), "Failed to show month: " + target, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop cached enabled days for every date picker, e.g. after availability changed
+     */
+    public static void clearCalendarCache() {
+        monthCache.clear();
+    }
+
+    private List<YearMonth> readVisibleMonths() {
+        Map<String, Object> state = Selenide.executeJavaScript(READ_SCRIPT,
+            getElement(), calendarLayout.toScriptArgument());
+        return cacheMonths(state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<YearMonth> cacheMonths(Map<String, Object> state) {
+        List<Map<String, Object>> panels = (List<Map<String, Object>>) state.get("months");
+        if (panels.isEmpty()) {
+            throw new IllegalStateException("Calendar month not found: " + calendarLayout.monthLocator);
+        }
+        Map<String, Set<Integer>> cache = sessionCache();
+        List<YearMonth> months = new ArrayList<>();
+        for (Map<String, Object> panel : panels) {
+            Object caption = panel.get("caption");
+            if (caption == null) {
+                throw new IllegalStateException("Calendar caption not found: " + calendarLayout.captionLocator);
+            }
+            YearMonth month;
+            try {
+                month = YearMonth.parse(caption.toString(), calendarLayout.captionFormatter);
+            } catch (DateTimeParseException e) {
+                throw new IllegalStateException("Unexpected calendar caption: " + caption, e);
+            }
+            Set<Integer> days = new TreeSet<>();
+            for (Object day : (List<Object>) panel.get("days")) {
+                days.add(((Number) day).intValue());
+            }
+            cache.put(cacheKey(month), Collections.unmodifiableSet(days));
+            months.add(month);
+        }
+        return months;
+    }
+
+    private Set<Integer> cachedDays(YearMonth month) {
+        return sessionCache().getOrDefault(cacheKey(month), Collections.emptySet());
+    }
+
+    private static Map<String, Set<Integer>> sessionCache() {
+        return monthCache.computeIfAbsent(unwrap(WebDriverRunner.getWebDriver()), driver -> new ConcurrentHashMap<>());
+    }
+
+    private String cacheKey(YearMonth month) {
+        return getLocator() + "|" + month;
+    }
+
+    // Listeners see the driver Selenide decorates, so both sides key by the innermost one
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+
+    private void requireCalendarLayout() {
+        if (calendarLayout == null) {
+            throw new IllegalStateException("No calendar layout configured for " + this);
+        }
+    }
 }
@@ -1,12 +1,65 @@
 package framework.elements.control;
 
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+import framework.utils.RemoteFileTransfer;
+import framework.utils.SyntheticFiles;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * File upload element wrapper
+ *
+ * <p>{@link #uploadLargeFile} and {@link #uploadSyntheticFile} are meant for upload-limit tests:
+ * against a remote grid the file is streamed compressed to the node instead of being encoded in
+ * memory, and the transfer time per MB is reported.
  */
 public class FileUpload extends BaseElement {
+
+    /**
+     * Timing of a large file upload
+     */
+    public static class UploadStats {
+        private final long bytes;
+        private final long elapsedMs;
+        private final boolean remote;
+
+        UploadStats(long bytes, long elapsedMs, boolean remote) {
+            this.bytes = bytes;
+            this.elapsedMs = elapsedMs;
+            this.remote = remote;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getElapsedMs() {
+            return elapsedMs;
+        }
+
+        /**
+         * True if the file was streamed to a remote grid node
+         */
+        public boolean isRemote() {
+            return remote;
+        }
+
+        public double getMillisPerMb() {
+            return bytes > 0 ? elapsedMs / (bytes / (1024.0 * 1024.0)) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d bytes %s in %d ms (%.1f ms/MB)", bytes,
+                remote ? "streamed to grid" : "attached locally", elapsedMs, getMillisPerMb());
+        }
+    }
+
     public FileUpload(String locator, String name) {
         super(locator, name);
     }
@@ -31,6 +84,45 @@ public class FileUpload extends BaseElement {
         return this;
     }
 
+    /**
+     * Upload a large file, streaming it compressed to the grid node when running remotely
+     * @param file File to upload
+     * @return Transfer timing
+     */
+    public UploadStats uploadLargeFile(Path file) {
+        LogUtils.logAction(toString(), "Uploading large file: " + file);
+        try {
+            long bytes = Files.size(file);
+            boolean remote = !ConfigManager.getRemoteGridUrl().isEmpty();
+            long start = System.currentTimeMillis();
+            if (remote) {
+                // The node-side path does not exist locally, so the file detector sends it as plain text
+                getElement().sendKeys(RemoteFileTransfer.upload(file));
+            } else {
+                getElement().uploadFile(file.toFile());
+            }
+            UploadStats stats = new UploadStats(bytes, System.currentTimeMillis() - start, remote);
+            LogUtils.logSuccess(toString(), "Uploaded " + stats);
+            return stats;
+        } catch (IOException e) {
+            LogUtils.logError(toString(), "Failed to read file: " + file, e);
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to upload large file", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Generate (or reuse) a deterministic file of the given size and upload it
+     * @param bytes File size
+     * @param extension File extension including the dot, e.g. ".pdf"
+     * @return Transfer timing
+     */
+    public UploadStats uploadSyntheticFile(long bytes, String extension) {
+        return uploadLargeFile(SyntheticFiles.pattern(bytes, extension));
+    }
+
     /**
      * Upload multiple files
      */
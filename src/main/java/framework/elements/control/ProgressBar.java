@@ -1,11 +1,124 @@
 package framework.elements.control;
 
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.JavaScriptUtils;
+import framework.utils.LogUtils;
+import java.util.Map;
 
 /**
  * Progress bar element wrapper
+ *
+ * <p>Waits run as one async script: a {@code MutationObserver} on the value attribute and
+ * style (including descendants) resolves as soon as the target is reached. Progress samples are
+ * used to compute the rate and ETA, and the wait fails early when the value stops moving for
+ * {@code progressStallTimeout} ms.
  */
 public class ProgressBar extends BaseElement {
+
+    private static final String WAIT_SCRIPT =
+        "var el = arguments[0], attribute = arguments[1], target = arguments[2];" +
+        "var timeout = arguments[3], stallTimeout = arguments[4], done = arguments[arguments.length - 1];" +
+        "function read() {" +
+        "  var raw = el.getAttribute(attribute);" +
+        "  if (raw !== null && raw !== '' && !isNaN(parseFloat(raw))) return parseFloat(raw);" +
+        "  var width = /width:\\s*([\\d.]+)%/.exec(el.getAttribute('style') || '');" +
+        "  return width ? parseFloat(width[1]) : 0;" +
+        "}" +
+        "var start = performance.now(), samples = [{t: start, v: read()}], lastMove = start, finished = false;" +
+        "function stats(reason) {" +
+        "  var last = samples[samples.length - 1], first = samples[0];" +
+        "  for (var i = samples.length - 1; i > 0 && last.t - samples[i - 1].t <= 5000; i--) first = samples[i - 1];" +
+        "  var rate = last.t > first.t ? (last.v - first.v) * 1000 / (last.t - first.t) : 0;" +
+        "  return {reason: reason, value: last.v, samples: samples.length, rate: rate," +
+        "    elapsed: Math.round(performance.now() - start)," +
+        "    eta: rate > 0 ? Math.round(Math.max(0, target - last.v) * 1000 / rate) : -1};" +
+        "}" +
+        "function finish(reason) {" +
+        "  if (finished) return;" +
+        "  finished = true; observer.disconnect(); clearInterval(timer); done(stats(reason));" +
+        "}" +
+        "function sample() {" +
+        "  var now = performance.now(), value = read();" +
+        "  if (value !== samples[samples.length - 1].v) {" +
+        "    samples.push({t: now, v: value}); lastMove = now;" +
+        "    if (samples.length > 1000) samples.splice(1, 1);" +
+        "  }" +
+        "  if (value >= target) finish('reached');" +
+        "  else if (now - lastMove >= stallTimeout) finish('stalled');" +
+        "  else if (now - start >= timeout) finish('timeout');" +
+        "}" +
+        "var observer = new MutationObserver(sample);" +
+        "observer.observe(el, {attributes: true, subtree: true});" +
+        "var timer = setInterval(sample, 250);" +
+        "sample();";
+
+    /**
+     * Outcome of a progress wait
+     */
+    public static class ProgressStats {
+        private final boolean reached;
+        private final String reason;
+        private final double value;
+        private final double ratePerSecond;
+        private final long etaMs;
+        private final long elapsedMs;
+        private final int samples;
+
+        ProgressStats(Map<String, Object> raw) {
+            this.reason = String.valueOf(raw.get("reason"));
+            this.reached = "reached".equals(reason);
+            this.value = ((Number) raw.get("value")).doubleValue();
+            this.ratePerSecond = ((Number) raw.get("rate")).doubleValue();
+            this.etaMs = ((Number) raw.get("eta")).longValue();
+            this.elapsedMs = ((Number) raw.get("elapsed")).longValue();
+            this.samples = ((Number) raw.get("samples")).intValue();
+        }
+
+        public boolean isReached() {
+            return reached;
+        }
+
+        /**
+         * "reached", "stalled" or "timeout"
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * Progress rate in percent per second over the last 5 seconds of samples
+         */
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        /**
+         * Estimated time to the target at the current rate, -1 if unknown
+         */
+        public long getEtaMs() {
+            return etaMs;
+        }
+
+        public long getElapsedMs() {
+            return elapsedMs;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s at %.1f%% after %d ms (%.2f%%/s, ETA %s, %d samples)", reason, value, elapsedMs,
+                ratePerSecond, etaMs < 0 ? "unknown" : etaMs + " ms", samples);
+        }
+    }
+
     private final String valueAttribute;
 
     public ProgressBar(String locator, String name) {
@@ -48,18 +161,37 @@ public class ProgressBar extends BaseElement {
     }
 
     /**
-     * Wait until progress reaches 100%
+     * Wait until progress reaches a value, failing early if it stalls
+     * @param expectedValue Target value
+     * @param timeoutMs Overall timeout
+     * @return Rate, ETA and timing of the wait
+     * @throws IllegalStateException if progress stalls or the timeout expires
      */
-    public void waitUntilComplete() {
-        while (getProgress() < 100) {
-            try {
-                Thread.sleep(500); // Check every 500ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+    public ProgressStats waitForProgress(int expectedValue, long timeoutMs) {
+        LogUtils.logAction(toString(), "Waiting for progress " + expectedValue + "%");
+        try {
+            long stallTimeout = ConfigManager.getProgressStallTimeout();
+            Map<String, Object> raw = JavaScriptUtils.executeAsyncJs(WAIT_SCRIPT, timeoutMs + 5000L,
+                getElement(), valueAttribute, expectedValue, timeoutMs, stallTimeout);
+            ProgressStats stats = new ProgressStats(raw);
+            if (!stats.isReached()) {
+                throw new IllegalStateException(String.format("Progress of %s did not reach %d%%: %s",
+                    getName(), expectedValue, stats));
             }
+            LogUtils.logSuccess(toString(), "Progress " + stats);
+            return stats;
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed waiting for progress " + expectedValue + "%", e);
+            throw e;
         }
     }
+
+    /**
+     * Wait until progress reaches 100%
+     */
+    public void waitUntilComplete() {
+        waitUntilValue(100);
+    }
     
     /**
      * Wait until progress reaches 100% with method chaining
@@ -74,14 +206,7 @@ public class ProgressBar extends BaseElement {
      * Wait until progress reaches specific value
      */
     public void waitUntilValue(int expectedValue) {
-        while (getProgress() < expectedValue) {
-            try {
-                Thread.sleep(500); // Check every 500ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
+        waitForProgress(expectedValue, ConfigManager.getPageLoadTimeout());
     }
     
     /**
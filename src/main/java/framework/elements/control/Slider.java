@@ -1,14 +1,68 @@
 package framework.elements.control;
 
 import framework.elements.core.BaseElement;
+import framework.utils.JavaScriptUtils;
 import framework.utils.LogUtils;
-import com.codeborne.selenide.Selenide;
-import org.openqa.selenium.interactions.Actions;
+import java.util.Map;
 
 /**
  * Slider element wrapper
+ *
+ * <p>Positioning is one {@code executeAsyncScript} command (besides locating the element): the
+ * script reads min, max, step and the track geometry, snaps the target to the step grid, applies
+ * it and verifies the result. Native range inputs are
+ * set through the value setter with {@code input}/{@code change} events; custom
+ * {@code role="slider"} widgets are driven by Home/End/arrow key events.
  */
 public class Slider extends BaseElement {
+
+    // mode: 'percent' | 'value' | 'offset' (pixels along the track)
+    private static final String POSITION_SCRIPT =
+        "var el = arguments[0], mode = arguments[1], amount = arguments[2], done = arguments[arguments.length - 1];" +
+        "var nativeRange = el.tagName === 'INPUT';" +
+        "function num(v, d) { var n = parseFloat(v); return isNaN(n) ? d : n; }" +
+        "function current() { return nativeRange ? num(el.value, 0) : num(el.getAttribute('aria-valuenow'), 0); }" +
+        "var min = nativeRange ? num(el.min, 0) : num(el.getAttribute('aria-valuemin'), 0);" +
+        "var max = nativeRange ? num(el.max, 100) : num(el.getAttribute('aria-valuemax'), 100);" +
+        "var step = num(nativeRange ? el.step : (el.getAttribute('data-step') || el.getAttribute('step')), 1);" +
+        "if (!(step > 0)) step = 0;" +
+        "var width = el.getBoundingClientRect().width, start = current(), target;" +
+        "if (mode === 'percent') target = min + (max - min) * amount / 100;" +
+        "else if (mode === 'offset') target = start + (width > 0 ? amount / width * (max - min) : 0);" +
+        "else target = amount;" +
+        "target = Math.min(max, Math.max(min, target));" +
+        "if (step) target = Math.min(max, min + Math.round((target - min) / step) * step);" +
+        "target = parseFloat(target.toFixed(10));" +
+        "function result() {" +
+        "  var value = current();" +
+        "  done({min: min, max: max, step: step, width: width, start: start, target: target, value: value," +
+        "    ok: Math.abs(value - target) <= (step || 1e-9) / 2});" +
+        "}" +
+        "if (nativeRange) {" +
+        "  var proto = Object.getPrototypeOf(el), desc;" +
+        "  while (proto && !(desc = Object.getOwnPropertyDescriptor(proto, 'value'))) proto = Object.getPrototypeOf(proto);" +
+        "  if (desc && desc.set) desc.set.call(el, String(target)); else el.value = String(target);" +
+        "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+        "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "  result(); return;" +
+        "}" +
+        "function press(key) {" +
+        "  el.dispatchEvent(new KeyboardEvent('keydown', {key: key, code: key, bubbles: true, cancelable: true}));" +
+        "  el.dispatchEvent(new KeyboardEvent('keyup', {key: key, code: key, bubbles: true, cancelable: true}));" +
+        "}" +
+        "el.focus();" +
+        "if (target === min) press('Home'); else if (target === max) press('End');" +
+        "var guard = step ? Math.ceil((max - min) / step) + 1 : 1000;" +
+        "(function stepTowards() {" +
+        "  var value = current(), remaining = target - value;" +
+        "  if (Math.abs(remaining) <= (step || 1e-9) / 2 || guard-- <= 0) { result(); return; }" +
+        "  press(remaining > 0 ? 'ArrowRight' : 'ArrowLeft');" +
+        "  setTimeout(function () {" +
+        "    if (current() === value) { result(); return; }" +
+        "    stepTowards();" +
+        "  }, 0);" +
+        "})();";
+
     
     public Slider(String locator, String name) {
         super(locator, name);
@@ -25,16 +79,9 @@ public class Slider extends BaseElement {
                 throw new IllegalArgumentException("Percentage must be between 0 and 100");
             }
 
-            int width = getElement().getSize().getWidth();
-            int xOffset = (int) (width * (percentage / 100.0)) - (width / 2);
-
-            new Actions(Selenide.webdriver().object())
-                .clickAndHold(getElement())
-                .moveByOffset(xOffset, 0)
-                .release()
-                .perform();
-                
-            LogUtils.logSuccess(toString(), String.format("Slider moved to %d%%", percentage));
+            Map<String, Object> result = position("percent", percentage);
+            LogUtils.logSuccess(toString(), String.format("Slider moved to %d%% (value %s)",
+                percentage, result.get("value")));
         } catch (Exception e) {
             LogUtils.logError(toString(), "Failed to move slider", e);
             throw e;
@@ -51,6 +98,44 @@ public class Slider extends BaseElement {
         return this;
     }
 
+    /**
+     * Set the slider to a value, snapped to the step grid and clamped to min/max (void version)
+     * @param value Target value
+     */
+    public void setValue(double value) {
+        LogUtils.logAction(toString(), "Setting slider value: " + value);
+        try {
+            Map<String, Object> result = position("value", value);
+            LogUtils.logSuccess(toString(), "Slider value set to " + result.get("value"));
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to set slider value", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Set the slider to a value with method chaining
+     * @param value Target value
+     * @return this slider for method chaining
+     */
+    public Slider setValueAndChain(double value) {
+        setValue(value);
+        return this;
+    }
+
+    /**
+     * Position the slider in one script call and verify the resulting value
+     */
+    private Map<String, Object> position(String mode, double amount) {
+        Map<String, Object> result = JavaScriptUtils.executeAsyncJs(POSITION_SCRIPT, 10000, getElement(), mode, amount);
+        if (!Boolean.TRUE.equals(result.get("ok"))) {
+            throw new IllegalStateException(String.format("Slider '%s' shows %s instead of %s (min %s, max %s, step %s)",
+                getName(), result.get("value"), result.get("target"), result.get("min"), result.get("max"),
+                result.get("step")));
+        }
+        return result;
+    }
+
     /**
      * Get current value
      */
@@ -72,12 +157,9 @@ public class Slider extends BaseElement {
     public void moveByOffset(int xOffset) {
         LogUtils.logAction(toString(), String.format("Moving slider by offset: %d", xOffset));
         try {
-            new Actions(Selenide.webdriver().object())
-                .clickAndHold(getElement())
-                .moveByOffset(xOffset, 0)
-                .release()
-                .perform();
-            LogUtils.logSuccess(toString(), "Slider moved by offset successfully");
+            Map<String, Object> result = position("offset", xOffset);
+            LogUtils.logSuccess(toString(), String.format("Slider moved by offset from %s to %s",
+                result.get("start"), result.get("value")));
         } catch (Exception e) {
             LogUtils.logError(toString(), "Failed to move slider by offset", e);
             throw e;
@@ -140,11 +222,7 @@ public class Slider extends BaseElement {
 
     @Override
     public String toString() {
-        try {
-            return String.format("Slider '%s' [%s] {value: %s, min: %s, max: %s}", 
-                getName(), getLocator(), getValue(), getMin(), getMax());
-        } catch (Exception e) {
-            return String.format("Slider '%s' [%s]", getName(), getLocator());
-        }
+        // getValue(), getMin() and getMax() log through toString(), so they cannot be used here
+        return String.format("Slider '%s' [%s]", getName(), getLocator());
     }
 }
@@ -3,15 +3,21 @@ package framework.elements.core;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.WebElementCondition;
+import framework.metrics.ActionTimer;
+import framework.metrics.Phase;
+import framework.reporting.AllureSteps;
 import framework.utils.ConfigManager;
+import framework.utils.LocatorManager;
 import framework.utils.LogUtils;
 import java.time.Duration;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 
 import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.$x;
 import com.codeborne.selenide.Selenide;
 
 /**
@@ -22,6 +28,8 @@ public abstract class BaseElement {
     protected final Supplier<SelenideElement> elementSupplier;
     protected final String name;
     protected final String locator;
+    // Custom locator strategy, null for plain CSS selectors
+    private final By by;
 
     /**
      * Constructor with explicit name for the element
@@ -29,9 +37,10 @@ public abstract class BaseElement {
      * @param name Descriptive name for logging and debugging
      */
     public BaseElement(String locator, String name) {
-        this.elementSupplier = () -> $(locator);
+        this.elementSupplier = () -> LocatorManager.isXPath(locator) ? $x(locator) : $(locator);
         this.name = name;
         this.locator = locator;
+        this.by = null;
     }
     
     /**
@@ -39,9 +48,23 @@ public abstract class BaseElement {
      * @param locator CSS or XPath selector
      */
     public BaseElement(String locator) {
-        this.elementSupplier = () -> $(locator);
+        this.elementSupplier = () -> LocatorManager.isXPath(locator) ? $x(locator) : $(locator);
         this.name = locator;
         this.locator = locator;
+        this.by = null;
+    }
+
+    /**
+     * Constructor for elements located by a custom {@link By} strategy
+     * (e.g. a {@link ScopedLocator} chain through shadow roots)
+     * @param by Locator strategy, re-evaluated on every lookup
+     * @param name Descriptive name for logging and debugging
+     */
+    protected BaseElement(By by, String name) {
+        this.elementSupplier = () -> $(by);
+        this.name = name;
+        this.locator = by.toString();
+        this.by = by;
     }
 
     // Get the actual element (lazy initialization)
@@ -55,7 +78,8 @@ public abstract class BaseElement {
     }
 
     public String getLocator() {
-        return locator;
+        // Custom strategies may change their selector at runtime (e.g. hot-reloaded locators)
+        return by != null ? by.toString() : locator;
     }
 
     // Visibility & State
@@ -106,12 +130,14 @@ public abstract class BaseElement {
      */
     public BaseElement clickAndChain() {
         LogUtils.logAction(toString(), "Clicking");
-        try {
+        try (ActionTimer timer = ActionTimer.start("click", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Clicking")) {
             waitForClickable();
             getElement().click();
             LogUtils.logSuccess(toString(), "Clicked successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to click", e);
             throw e;
         }
@@ -119,11 +145,13 @@ public abstract class BaseElement {
 
     public String getText() {
         LogUtils.logAction(toString(), "Getting text");
-        try {
+        try (ActionTimer timer = ActionTimer.start("getText", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Getting text")) {
             String text = getElement().getText();
             LogUtils.logSuccess(toString(), "Got text: " + text);
             return text;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to get text", e);
             throw e;
         }
@@ -131,11 +159,13 @@ public abstract class BaseElement {
 
     public String getAttribute(String attributeName) {
         LogUtils.logAction(toString(), "Getting attribute: " + attributeName);
-        try {
+        try (ActionTimer timer = ActionTimer.start("getAttribute", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Getting attribute: " + attributeName)) {
             String value = getElement().getAttribute(attributeName);
             LogUtils.logSuccess(toString(), String.format("Got attribute %s: %s", attributeName, value));
             return value;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to get attribute: " + attributeName, e);
             throw e;
         }
@@ -143,11 +173,13 @@ public abstract class BaseElement {
 
     public String getValue() {
         LogUtils.logAction(toString(), "Getting value");
-        try {
+        try (ActionTimer timer = ActionTimer.start("getValue", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Getting value")) {
             String value = getElement().getValue();
             LogUtils.logSuccess(toString(), "Got value: " + value);
             return value;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to get value", e);
             throw e;
         }
@@ -156,11 +188,13 @@ public abstract class BaseElement {
     // Wait Conditions
     public BaseElement waitForVisible() {
         LogUtils.logAction(toString(), "Waiting to be visible");
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForVisible", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting to be visible")) {
             getElement().shouldBe(Condition.visible, Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element became visible");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting to be visible", e);
             throw e;
         }
@@ -168,12 +202,14 @@ public abstract class BaseElement {
 
     public BaseElement waitForClickable() {
         LogUtils.logAction(toString(), "Waiting to be clickable");
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForClickable", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting to be clickable")) {
             getElement().shouldBe(Condition.visible, Duration.ofMillis(ConfigManager.getElementTimeout()));
             getElement().shouldBe(Condition.enabled, Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element became clickable");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting to be clickable", e);
             throw e;
         }
@@ -181,11 +217,13 @@ public abstract class BaseElement {
 
     public BaseElement waitForExist() {
         LogUtils.logAction(toString(), "Waiting to exist");
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForExist", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting to exist")) {
             getElement().shouldBe(Condition.exist, Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element exists");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting to exist", e);
             throw e;
         }
@@ -193,11 +231,13 @@ public abstract class BaseElement {
 
     public BaseElement waitForNotVisible() {
         LogUtils.logAction(toString(), "Waiting to be not visible");
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForNotVisible", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting to be not visible")) {
             getElement().shouldBe(Condition.hidden, Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element became not visible");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting to be not visible", e);
             throw e;
         }
@@ -206,12 +246,14 @@ public abstract class BaseElement {
     // New Enhanced Wait Methods
     public BaseElement waitForText(String expectedText) {
         LogUtils.logAction(toString(), "Waiting for text: " + expectedText);
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForText", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting for text: " + expectedText)) {
             getElement().shouldHave(Condition.exactText(expectedText), 
                 Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element has expected text");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting for text: " + expectedText, e);
             throw e;
         }
@@ -219,12 +261,14 @@ public abstract class BaseElement {
 
     public BaseElement waitForTextContains(String partialText) {
         LogUtils.logAction(toString(), "Waiting for text containing: " + partialText);
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForTextContains", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting for text containing: " + partialText)) {
             getElement().shouldHave(Condition.text(partialText), 
                 Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element contains expected text");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting for text containing: " + partialText, e);
             throw e;
         }
@@ -233,12 +277,14 @@ public abstract class BaseElement {
     public BaseElement waitForAttributeValue(String attribute, String value) {
         LogUtils.logAction(toString(), 
             String.format("Waiting for attribute %s to have value %s", attribute, value));
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForAttributeValue", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), String.format("Waiting for attribute %s to have value %s", attribute, value))) {
             getElement().shouldHave(Condition.attribute(attribute, value), 
                 Duration.ofMillis(ConfigManager.getElementTimeout()));
             LogUtils.logSuccess(toString(), "Element has expected attribute value");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), 
                 String.format("Failed waiting for attribute %s to have value %s", attribute, value), e);
             throw e;
@@ -259,11 +305,13 @@ public abstract class BaseElement {
      */
     public BaseElement hoverAndChain() {
         LogUtils.logAction(toString(), "Hovering");
-        try {
+        try (ActionTimer timer = ActionTimer.start("hover", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Hovering")) {
             getElement().hover();
             LogUtils.logSuccess(toString(), "Hovered successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to hover", e);
             throw e;
         }
@@ -282,11 +330,13 @@ public abstract class BaseElement {
      */
     public BaseElement rightClickAndChain() {
         LogUtils.logAction(toString(), "Right clicking");
-        try {
+        try (ActionTimer timer = ActionTimer.start("rightClick", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Right clicking")) {
             getElement().contextClick();
             LogUtils.logSuccess(toString(), "Right clicked successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to right click", e);
             throw e;
         }
@@ -294,11 +344,13 @@ public abstract class BaseElement {
 
     public BaseElement doubleClick() {
         LogUtils.logAction(toString(), "Double clicking");
-        try {
+        try (ActionTimer timer = ActionTimer.start("doubleClick", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Double clicking")) {
             getElement().doubleClick();
             LogUtils.logSuccess(toString(), "Double clicked successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to double click", e);
             throw e;
         }
@@ -307,11 +359,13 @@ public abstract class BaseElement {
     // Scroll
     public BaseElement scrollTo() {
         LogUtils.logAction(toString(), "Scrolling to element");
-        try {
+        try (ActionTimer timer = ActionTimer.start("scrollTo", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Scrolling to element")) {
             getElement().scrollTo();
             LogUtils.logSuccess(toString(), "Scrolled to element successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to scroll to element", e);
             throw e;
         }
@@ -319,14 +373,16 @@ public abstract class BaseElement {
 
     public BaseElement scrollIntoView() {
         LogUtils.logAction(toString(), "Scrolling element into view");
-        try {
+        try (ActionTimer timer = ActionTimer.start("scrollIntoView", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Scrolling element into view")) {
             Selenide.executeJavaScript(
                 "arguments[0].scrollIntoView({behavior: 'instant', block: 'center', inline: 'center'})",
                 getElement()
             );
             LogUtils.logSuccess(toString(), "Scrolled into view successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to scroll into view", e);
             throw e;
         }
@@ -335,11 +391,13 @@ public abstract class BaseElement {
     // CSS & Style
     public String getCssValue(String propertyName) {
         LogUtils.logAction(toString(), "Getting CSS value: " + propertyName);
-        try {
+        try (ActionTimer timer = ActionTimer.start("getCssValue", getClass(), getLocator(), Phase.ACT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Getting CSS value: " + propertyName)) {
             String value = getElement().getCssValue(propertyName);
             LogUtils.logSuccess(toString(), String.format("Got CSS value %s: %s", propertyName, value));
             return value;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed to get CSS value: " + propertyName, e);
             throw e;
         }
@@ -387,11 +445,13 @@ public abstract class BaseElement {
 
     public BaseElement waitForCondition(WebElementCondition condition, long timeoutMillis) {
         LogUtils.logAction(toString(), "Waiting for condition: " + condition);
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForCondition", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting for condition: " + condition)) {
             getElement().shouldBe(condition, Duration.ofMillis(timeoutMillis));
             LogUtils.logSuccess(toString(), "Condition met successfully");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting for condition: " + condition, e);
             throw e;
         }
@@ -425,7 +485,8 @@ public abstract class BaseElement {
     // Wait for AJAX calls to complete
     public BaseElement waitForAjaxComplete() {
         LogUtils.logAction(toString(), "Waiting for AJAX calls to complete");
-        try {
+        try (ActionTimer timer = ActionTimer.start("waitForAjaxComplete", getClass(), getLocator(), Phase.WAIT);
+             AllureSteps.Step step = AllureSteps.start(toString(), "Waiting for AJAX calls to complete")) {
             Selenide.executeJavaScript(
                 "return new Promise(resolve => {" +
                 "  const checkReady = () => {" +
@@ -443,7 +504,8 @@ public abstract class BaseElement {
             );
             LogUtils.logSuccess(toString(), "AJAX calls completed");
             return this;
-        } catch (Exception e) {
+        } catch (Exception | Error e) {
+            AllureSteps.failed(e);
             LogUtils.logError(toString(), "Failed waiting for AJAX calls to complete", e);
             throw e;
         }
@@ -452,6 +514,7 @@ public abstract class BaseElement {
     @Override
     public String toString() {
         String className = getClass().getSimpleName();
+        String locator = getLocator();
         
         // If name is the same as locator (when using the single-param constructor), 
         // just show the element type and locator to avoid redundancy
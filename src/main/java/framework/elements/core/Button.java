@@ -2,6 +2,7 @@ package framework.elements.core;
 
 import com.codeborne.selenide.Selenide;
 import framework.utils.LogUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.interactions.Actions;
 
@@ -14,6 +15,15 @@ public class Button extends BaseElement {
         super(locator, name);
     }
 
+    /**
+     * Constructor with a custom locator strategy
+     * @param by Locator strategy, re-evaluated on every lookup
+     * @param name Descriptive name for logging
+     */
+    public Button(By by, String name) {
+        super(by, name);
+    }
+
     /**
      * Submit form (if button is submit type)
      */
@@ -1,7 +1,9 @@
 package framework.elements.core;
 
 import com.codeborne.selenide.SelenideElement;
+import framework.utils.LocatorManager;
 import framework.utils.LogUtils;
+import org.openqa.selenium.By;
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.Selenide.$x;
 
@@ -11,6 +13,8 @@ import static com.codeborne.selenide.Selenide.$x;
 public class Element {
     protected final String locator;
     protected final String name;
+    // Custom locator strategy, null for plain CSS/XPath strings
+    private final By by;
     
     /**
      * Constructor
@@ -20,6 +24,18 @@ public class Element {
     public Element(String locator, String name) {
         this.locator = locator;
         this.name = name;
+        this.by = null;
+    }
+
+    /**
+     * Constructor with a custom locator strategy
+     * @param by Locator strategy, re-evaluated on every lookup
+     * @param name Descriptive name for logging
+     */
+    public Element(By by, String name) {
+        this.locator = by.toString();
+        this.name = name;
+        this.by = by;
     }
     
     /**
@@ -27,7 +43,10 @@ public class Element {
      * @return SelenideElement for this locator
      */
     public SelenideElement getElement() {
-        if (locator.startsWith("/")) {
+        if (by != null) {
+            return $(by);
+        }
+        if (LocatorManager.isXPath(locator)) {
             return $x(locator);
         } else {
             return $(locator);
@@ -85,6 +104,6 @@ public class Element {
     
     @Override
     public String toString() {
-        return name + " (" + locator + ")";
+        return name + " (" + (by != null ? by.toString() : locator) + ")";
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package framework.elements.core;
 
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.WebElementCondition;
+import org.openqa.selenium.By;
 import static com.codeborne.selenide.Selenide.$$;
 import java.util.List;
 
@@ -12,11 +13,33 @@ public class ElementCollection {
     protected final ElementsCollection elements;
     protected final String name;
     protected final String locator;
+    // Custom locator strategy, null for plain CSS selectors
+    private final By by;
 
     public ElementCollection(String locator, String name) {
         this.elements = $$(locator);
         this.name = name;
         this.locator = locator;
+        this.by = null;
+    }
+
+    /**
+     * Constructor with a custom locator strategy
+     * @param by Locator strategy, re-evaluated on every lookup
+     * @param name Descriptive name for logging
+     */
+    public ElementCollection(By by, String name) {
+        this.elements = $$(by);
+        this.name = name;
+        this.locator = by.toString();
+        this.by = by;
+    }
+
+    /**
+     * Get the selector used to derive single-element locators
+     */
+    protected String currentLocator() {
+        return by != null ? by.toString() : locator;
     }
 
     /**
@@ -24,21 +47,21 @@ public class ElementCollection {
      * @param index Index of element (0-based)
      */
     public BaseElement get(int index) {
-        return new BaseElement(locator + ":nth-child(" + (index + 1) + ")", name + "[" + index + "]") {};
+        return new BaseElement(currentLocator() + ":nth-child(" + (index + 1) + ")", name + "[" + index + "]") {};
     }
 
     /**
      * Get first element
      */
     public BaseElement first() {
-        return new BaseElement(locator + ":first-child", name + "[first]") {};
+        return new BaseElement(currentLocator() + ":first-child", name + "[first]") {};
     }
 
     /**
      * Get last element
      */
     public BaseElement last() {
-        return new BaseElement(locator + ":last-child", name + "[last]") {};
+        return new BaseElement(currentLocator() + ":last-child", name + "[last]") {};
     }
 
     /**
@@ -59,14 +82,14 @@ public class ElementCollection {
      * Find element by exact text
      */
     public BaseElement findByText(String text) {
-        return new BaseElement(locator + ":has-text('" + text + "')", name) {};
+        return new BaseElement(currentLocator() + ":has-text('" + text + "')", name) {};
     }
 
     /**
      * Find element that contains text
      */
     public BaseElement findByPartialText(String partialText) {
-        return new BaseElement(locator + ":contains('" + partialText + "')", name) {};
+        return new BaseElement(currentLocator() + ":contains('" + partialText + "')", name) {};
     }
 
     /**
@@ -77,7 +100,7 @@ public class ElementCollection {
         List<String> texts = elements.texts();
         for (int i = 0; i < texts.size(); i++) {
             if (texts.get(i).contains(text)) {
-                result.add(new BaseElement(locator + ":nth-child(" + (i + 1) + ")", name) {});
+                result.add(new BaseElement(currentLocator() + ":nth-child(" + (i + 1) + ")", name) {});
             }
         }
         return result;
@@ -87,7 +110,7 @@ public class ElementCollection {
      * Get element by attribute value
      */
     public BaseElement findByAttribute(String attribute, String value) {
-        return new BaseElement(locator + "[" + attribute + "='" + value + "']", name) {};
+        return new BaseElement(currentLocator() + "[" + attribute + "='" + value + "']", name) {};
     }
 
     /**
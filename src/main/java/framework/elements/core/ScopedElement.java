@@ -0,0 +1,42 @@
+package framework.elements.core;
+
+/**
+ * Element located through a {@link ScopedLocator} chain of open shadow roots
+ * in one script call.
+ */
+public class ScopedElement extends BaseElement {
+    private final ScopedLocator scopedLocator;
+
+    /**
+     * Constructor with an already parsed chain
+     * @param scopedLocator Scoped locator chain
+     * @param name Descriptive name for logging
+     */
+    public ScopedElement(ScopedLocator scopedLocator, String name) {
+        super(scopedLocator, name);
+        this.scopedLocator = scopedLocator;
+    }
+
+    /**
+     * Constructor with chain syntax, e.g. {@code shadow:my-app >> shadow:my-host >> css:button}
+     * @param chain Scoped locator chain
+     * @param name Descriptive name for logging
+     */
+    public ScopedElement(String chain, String name) {
+        this(ScopedLocator.parse(chain), name);
+    }
+
+    /**
+     * Get an element in the same innermost scope, reusing the cached scope handle
+     * @param css CSS selector relative to the innermost scope
+     * @param name Descriptive name for logging
+     * @return Child element
+     */
+    public ScopedElement child(String css, String name) {
+        return new ScopedElement(scopedLocator.child(css), name);
+    }
+
+    public ScopedLocator getScopedLocator() {
+        return scopedLocator;
+    }
+}
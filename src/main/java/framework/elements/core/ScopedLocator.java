@@ -0,0 +1,291 @@
+package framework.elements.core;
+
+import com.codeborne.selenide.WebDriverRunner;
+import framework.utils.LogUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Locator chain that descends through nested open shadow roots and resolves the
+ * target elements in a single script evaluation.
+ *
+ * <p>Chain syntax: steps separated by {@code >>}, each step prefixed with its type:
+ * <pre>
+ *   shadow:checkout-app &gt;&gt; shadow:payment-form &gt;&gt; css:input[name='card']
+ * </pre>
+ * Steps without a prefix are treated as {@code css:}. Only the last step may be a plain CSS step.
+ * The chain starts at the search context: the document for a driver, or the element for
+ * nested lookups such as {@code $(form).$(scopedLocator)}.
+ *
+ * <p>The innermost shadow host is cached after the first resolution and shared with locators
+ * created through {@link #child(String)}, so child lookups only walk from that scope. The cache
+ * is bound to the driver and search context it was resolved in and is dropped when either changes.
+ *
+ * <p>Iframes are not part of the chain: an element inside a frame can only be used while the
+ * driver is switched into that frame. Wrap the lookup in {@code Frame.withFrame}, which switches
+ * the driver, and resolve the chain inside it. Closed shadow roots cannot be entered from script.
+ */
+public class ScopedLocator extends By {
+    private static final String STEP_SEPARATOR = ">>";
+
+    private static final String RESOLVE_SCRIPT =
+        "var steps = arguments[0], host = arguments[1], start = arguments[2];" +
+        "var root = start || document;" +
+        "if (host) {" +
+        "  root = host.shadowRoot;" +
+        "  if (!root) return {failure: 'stale', step: -1};" +
+        "}" +
+        "for (var i = 0; i < steps.length; i++) {" +
+        "  var step = steps[i];" +
+        "  if (step.type === 'css') {" +
+        "    var found = Array.prototype.slice.call(root.querySelectorAll(step.selector));" +
+        "    return {elements: found, host: host};" +
+        "  }" +
+        "  var el = root.querySelector(step.selector);" +
+        "  if (!el) return {failure: 'missing', step: i};" +
+        "  if (!el.shadowRoot) return {failure: 'closed or missing shadow root', step: i};" +
+        "  root = el.shadowRoot;" +
+        "  host = el;" +
+        "}" +
+        "return {failure: 'chain does not end with a css step', step: steps.length - 1};";
+
+    /**
+     * Kinds of steps in a scoped locator chain
+     */
+    public enum StepType {
+        SHADOW("shadow"),
+        CSS("css");
+
+        private final String prefix;
+
+        StepType(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    /**
+     * Single step of the chain
+     */
+    public static class Step {
+        private final StepType type;
+        private final String selector;
+
+        public Step(StepType type, String selector) {
+            this.type = type;
+            this.selector = selector;
+        }
+
+        public StepType getType() {
+            return type;
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        @Override
+        public String toString() {
+            return type.getPrefix() + ":" + selector;
+        }
+    }
+
+    /**
+     * Resolved scope host shared between a locator and its children, valid only for the
+     * driver and search context it was resolved in
+     */
+    private static class ScopeHandle {
+        private final JavascriptExecutor driver;
+        private final WebElement start;
+        private final WebElement host;
+
+        private ScopeHandle(JavascriptExecutor driver, WebElement start, WebElement host) {
+            this.driver = driver;
+            this.start = start;
+            this.host = host;
+        }
+
+        private boolean matches(JavascriptExecutor otherDriver, WebElement otherStart) {
+            return driver == otherDriver && Objects.equals(start, otherStart);
+        }
+    }
+
+    private final List<Step> scopeSteps;
+    private final Step target;
+    private final AtomicReference<ScopeHandle> scopeCache;
+
+    private ScopedLocator(List<Step> scopeSteps, Step target, AtomicReference<ScopeHandle> scopeCache) {
+        this.scopeSteps = Collections.unmodifiableList(new ArrayList<>(scopeSteps));
+        this.target = target;
+        this.scopeCache = scopeCache;
+    }
+
+    /**
+     * Parse a chain such as {@code shadow:my-app >> shadow:my-host >> css:.button}
+     * @param chain Step chain
+     * @return Scoped locator
+     * @throws IllegalArgumentException if the chain is empty, contains a frame step
+     *         or does not end with a single css step
+     */
+    public static ScopedLocator parse(String chain) {
+        if (chain == null || chain.trim().isEmpty()) {
+            throw new IllegalArgumentException("Scoped locator chain must not be empty");
+        }
+        List<Step> steps = new ArrayList<>();
+        for (String rawStep : chain.split(STEP_SEPARATOR)) {
+            steps.add(parseStep(rawStep.trim()));
+        }
+        Step last = steps.remove(steps.size() - 1);
+        if (last.getType() != StepType.CSS) {
+            throw new IllegalArgumentException("Scoped locator chain must end with a css step: " + chain);
+        }
+        for (Step step : steps) {
+            if (step.getType() == StepType.CSS) {
+                throw new IllegalArgumentException("Only the last step may be a css step: " + chain);
+            }
+        }
+        return new ScopedLocator(steps, last, new AtomicReference<>());
+    }
+
+    private static Step parseStep(String rawStep) {
+        if (rawStep.startsWith("frame:")) {
+            throw new IllegalArgumentException(
+                "Frames cannot be part of a scoped locator chain, resolve it inside Frame.withFrame: " + rawStep);
+        }
+        for (StepType type : StepType.values()) {
+            String prefix = type.getPrefix() + ":";
+            if (rawStep.startsWith(prefix)) {
+                return new Step(type, rawStep.substring(prefix.length()).trim());
+            }
+        }
+        if (rawStep.isEmpty()) {
+            throw new IllegalArgumentException("Empty step in scoped locator chain");
+        }
+        return new Step(StepType.CSS, rawStep);
+    }
+
+    /**
+     * Create a locator for an element inside the same innermost scope.
+     * The child shares this locator's cached scope handle.
+     * @param css CSS selector relative to the innermost scope
+     * @return Child scoped locator
+     */
+    public ScopedLocator child(String css) {
+        return new ScopedLocator(scopeSteps, new Step(StepType.CSS, css), scopeCache);
+    }
+
+    /**
+     * Drop the cached scope handle so the next lookup walks the full chain again
+     */
+    public void invalidateScope() {
+        scopeCache.set(null);
+    }
+
+    public List<Step> getScopeSteps() {
+        return scopeSteps;
+    }
+
+    public Step getTarget() {
+        return target;
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> elements = findElements(context);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + this);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        JavascriptExecutor js = getExecutor(context);
+        // A WebElement context scopes the chain to that element, anything else to the document
+        WebElement start = context instanceof WebElement ? (WebElement) context : null;
+        ScopeHandle cached = scopeCache.get();
+        if (cached != null && cached.matches(js, start)) {
+            try {
+                // Only the target step is left to walk from the cached scope
+                return toResult(resolve(js, List.of(target), cached.host, start), js, start, true);
+            } catch (StaleElementReferenceException e) {
+                LogUtils.logWarning(toString(), "Cached scope is stale, resolving full chain");
+                scopeCache.compareAndSet(cached, null);
+            }
+        }
+        List<Step> allSteps = new ArrayList<>(scopeSteps);
+        allSteps.add(target);
+        return toResult(resolve(js, allSteps, null, start), js, start, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> resolve(JavascriptExecutor js, List<Step> steps, WebElement host, WebElement start) {
+        List<Map<String, String>> payload = new ArrayList<>();
+        for (Step step : steps) {
+            Map<String, String> item = new HashMap<>();
+            item.put("type", step.getType().getPrefix());
+            item.put("selector", step.getSelector());
+            payload.add(item);
+        }
+        return (Map<String, Object>) js.executeScript(RESOLVE_SCRIPT, payload, host, start);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WebElement> toResult(Map<String, Object> result, JavascriptExecutor js, WebElement start,
+                                      boolean fromCache) {
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        Object failure = result.get("failure");
+        if (failure != null) {
+            if (fromCache && "stale".equals(failure)) {
+                throw new StaleElementReferenceException("Cached scope of " + this + " is no longer attached");
+            }
+            if (!"missing".equals(failure)) {
+                LogUtils.logWarning(toString(), String.format("Cannot resolve step %s: %s", result.get("step"), failure));
+            }
+            return Collections.emptyList();
+        }
+        Object host = result.get("host");
+        if (!fromCache && host instanceof WebElement) {
+            scopeCache.set(new ScopeHandle(js, start, (WebElement) host));
+        }
+        Object elements = result.get("elements");
+        return elements instanceof List ? new ArrayList<>((List<WebElement>) elements) : Collections.emptyList();
+    }
+
+    private static JavascriptExecutor getExecutor(SearchContext context) {
+        if (context instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) context;
+        }
+        if (context instanceof WrapsDriver && ((WrapsDriver) context).getWrappedDriver() instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+        }
+        return (JavascriptExecutor) WebDriverRunner.getWebDriver();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder chain = new StringBuilder();
+        for (Step step : scopeSteps) {
+            chain.append(step).append(" ").append(STEP_SEPARATOR).append(" ");
+        }
+        return chain.append(target).toString();
+    }
+}
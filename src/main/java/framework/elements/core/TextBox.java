@@ -1,6 +1,7 @@
 package framework.elements.core;
 
 import framework.utils.LogUtils;
+import org.openqa.selenium.By;
 
 /**
  * TextBox element for text input operations
@@ -11,6 +12,15 @@ public class TextBox extends BaseElement {
         super(locator, name);
     }
 
+    /**
+     * Constructor with a custom locator strategy
+     * @param by Locator strategy, re-evaluated on every lookup
+     * @param name Descriptive name for logging
+     */
+    public TextBox(By by, String name) {
+        super(by, name);
+    }
+
     /**
      * Enter text into the field (void version)
      * @param text Text to enter
@@ -3,18 +3,200 @@ package framework.elements.dropdown;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.JavaScriptUtils;
 import framework.utils.LogUtils;
+import framework.utils.TypeaheadMetrics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 import static com.codeborne.selenide.Selenide.$$;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
 
 /**
  * AutoComplete element with suggestions list
+ *
+ * <p>Typing goes through a suggestion watcher: a {@code MutationObserver} is installed before
+ * the keystrokes, and selection waits until neither keystrokes nor suggestion changes happened
+ * for a quiet period (config {@code suggestionQuietPeriod}), so the debounced list is read once
+ * instead of racing it. The list must change after the last keystroke; a list left unchanged by
+ * it is accepted only when it is non-empty and every suggestion already contains the typed text
+ * (e.g. a cached result). Otherwise the wait runs to the element timeout, however long the
+ * debounce and the request take. The quiet period must exceed the page's debounce delay.
+ * Keystroke-to-suggestions latencies are recorded through {@link TypeaheadMetrics}.
  */
 public class AutoCompleteBox extends BaseElement {
+
+    // Records input events on the field and changes to the suggestion list
+    private static final String INSTALL_WATCHER_SCRIPT =
+        "var input = arguments[0], locator = arguments[1];" +
+        "if (input.__suggestionWatcher) input.__suggestionWatcher.stop();" +
+        "function signature() {" +
+        "  var texts = [];" +
+        "  document.querySelectorAll(locator).forEach(function (el) { texts.push(el.textContent.trim()); });" +
+        "  return texts.join('\\n');" +
+        "}" +
+        "function touches(nodes) {" +
+        "  for (var i = 0; i < nodes.length; i++) {" +
+        "    var n = nodes[i];" +
+        "    if (n.nodeType === 1 && (n.matches(locator) || n.querySelector(locator))) return true;" +
+        "  }" +
+        "  return false;" +
+        "}" +
+        "var w = {inputs: [], changes: [], lastChange: -1, signature: signature()};" +
+        "var onInput = function () { w.inputs.push(performance.now()); };" +
+        "w.observer = new MutationObserver(function (records) {" +
+        "  var hit = records.some(function (r) { return touches(r.addedNodes) || touches(r.removedNodes); });" +
+        "  var current = signature();" +
+        "  if (current !== w.signature) { w.signature = current; hit = true; }" +
+        "  if (hit) { w.lastChange = performance.now(); w.changes.push(w.lastChange); }" +
+        "});" +
+        "w.observer.observe(document.body, {childList: true, subtree: true, characterData: true});" +
+        "input.addEventListener('input', onInput);" +
+        "w.stop = function () { w.observer.disconnect(); input.removeEventListener('input', onInput); };" +
+        "input.__suggestionWatcher = w;";
+
+    // Waits for a list change after the last keystroke followed by the quiet period
+    private static final String AWAIT_SUGGESTIONS_SCRIPT =
+        "var input = arguments[0], locator = arguments[1], quiet = arguments[2], timeout = arguments[3];" +
+        "var done = arguments[arguments.length - 1], w = input.__suggestionWatcher, start = performance.now();" +
+        "if (!w) { done({error: 'suggestion watcher not installed'}); return; }" +
+        "function finish(timedOut) {" +
+        "  w.stop(); delete input.__suggestionWatcher;" +
+        "  var latencies = w.inputs.map(function (t) {" +
+        "    for (var i = 0; i < w.changes.length; i++) if (w.changes[i] >= t) return Math.round(w.changes[i] - t);" +
+        "    return -1;" +
+        "  });" +
+        "  var lastInput = w.inputs.length ? w.inputs[w.inputs.length - 1] : start;" +
+        "  var texts = [];" +
+        "  document.querySelectorAll(locator).forEach(function (el) { texts.push(el.textContent.trim()); });" +
+        "  done({texts: texts, latencies: latencies, timedOut: timedOut," +
+        "    settle: w.lastChange >= lastInput ? Math.round(w.lastChange - lastInput) : -1});" +
+        "}" +
+        // Non-empty list where every suggestion contains the current input, e.g. a cached result
+        "function matchesInput() {" +
+        "  var query = input.value.trim().toLowerCase(), items = document.querySelectorAll(locator);" +
+        "  if (items.length === 0) return false;" +
+        "  for (var i = 0; i < items.length; i++) {" +
+        "    if (items[i].textContent.toLowerCase().indexOf(query) < 0) return false;" +
+        "  }" +
+        "  return true;" +
+        "}" +
+        "(function check() {" +
+        "  var now = performance.now(), lastInput = w.inputs.length ? w.inputs[w.inputs.length - 1] : start;" +
+        "  if (w.lastChange >= lastInput && now - w.lastChange >= quiet) { finish(false); return; }" +
+        "  if (w.lastChange < lastInput && now - lastInput >= quiet && matchesInput()) { finish(false); return; }" +
+        "  if (now - start >= timeout) { finish(true); return; }" +
+        "  setTimeout(check, 20);" +
+        "})();";
+
+    /**
+     * Stable suggestion list after typing, with timing data
+     */
+    public static class SuggestionResult {
+        private final List<String> texts;
+        private final List<Long> keystrokeLatencies;
+        private final long settleMs;
+        private final boolean timedOut;
+
+        SuggestionResult(List<String> texts, List<Long> keystrokeLatencies, long settleMs, boolean timedOut) {
+            this.texts = Collections.unmodifiableList(texts);
+            this.keystrokeLatencies = Collections.unmodifiableList(keystrokeLatencies);
+            this.settleMs = settleMs;
+            this.timedOut = timedOut;
+        }
+
+        public List<String> getTexts() {
+            return texts;
+        }
+
+        /**
+         * Latency from each input event to the next suggestion change, -1 if none followed
+         */
+        public List<Long> getKeystrokeLatencies() {
+            return keystrokeLatencies;
+        }
+
+        /**
+         * Time from the last keystroke to the last suggestion change, -1 if the list did not
+         * change after the last keystroke (an unchanged list that already matched, or a timeout)
+         */
+        public long getSettleMs() {
+            return settleMs;
+        }
+
+        /**
+         * True if the list did not settle within the element timeout
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+    }
+
     private final ElementsCollection suggestions;
+    private final String suggestionsLocator;
     
     public AutoCompleteBox(String inputLocator, String suggestionsLocator, String name) {
         super(inputLocator, name);
         this.suggestions = $$(suggestionsLocator);
+        this.suggestionsLocator = suggestionsLocator;
+    }
+
+    /**
+     * Type text and wait until the suggestion list is stable
+     * @param text Text to type
+     * @return Suggestion texts and keystroke latencies
+     */
+    @SuppressWarnings("unchecked")
+    public SuggestionResult typeAndWaitForSuggestions(String text) {
+        LogUtils.logAction(toString(), "Typing text and waiting for suggestions: " + text);
+        try {
+            waitForVisible();
+            SelenideElement input = getElement();
+            int quietPeriod = ConfigManager.getSuggestionQuietPeriod();
+            int timeout = ConfigManager.getElementTimeout();
+            executeJavaScript(INSTALL_WATCHER_SCRIPT, input, suggestionsLocator);
+            input.setValue(text);
+            Map<String, Object> raw = JavaScriptUtils.executeAsyncJs(AWAIT_SUGGESTIONS_SCRIPT,
+                timeout + quietPeriod + 5000L, input, suggestionsLocator, quietPeriod, timeout);
+            if (raw.get("error") != null) {
+                throw new IllegalStateException(String.valueOf(raw.get("error")));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Object latency : (List<Object>) raw.get("latencies")) {
+                latencies.add(((Number) latency).longValue());
+            }
+            SuggestionResult result = new SuggestionResult((List<String>) raw.get("texts"), latencies,
+                ((Number) raw.get("settle")).longValue(), Boolean.TRUE.equals(raw.get("timedOut")));
+            TypeaheadMetrics.record(getName(), text, latencies, result.getSettleMs(), result.getTexts().size());
+
+            if (result.isTimedOut()) {
+                LogUtils.logWarning(toString(), "Suggestions did not settle within " + timeout + "ms");
+            }
+            LogUtils.logSuccess(toString(), result.getSettleMs() >= 0
+                ? String.format("Got %d suggestions, settled %dms after last keystroke",
+                    result.getTexts().size(), result.getSettleMs())
+                : String.format("Got %d suggestions, unchanged by the last keystroke", result.getTexts().size()));
+            return result;
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to wait for suggestions", e);
+            throw e;
+        }
+    }
+
+    private String selectSuggestion(String text, String description, Predicate<String> matcher) {
+        List<String> texts = typeAndWaitForSuggestions(text).getTexts();
+        for (int i = 0; i < texts.size(); i++) {
+            if (matcher.test(texts.get(i))) {
+                suggestions.get(i).click();
+                return texts.get(i);
+            }
+        }
+        throw new NoSuchElementException(String.format("No suggestion %s for '%s' in %s", description, text, texts));
     }
 
     /**
@@ -24,11 +206,7 @@ public class AutoCompleteBox extends BaseElement {
     public void typeAndSelectFirst(String text) {
         LogUtils.logAction(toString(), "Typing text and selecting first suggestion: " + text);
         try {
-            waitForVisible();
-            getElement().setValue(text);
-            SelenideElement firstSuggestion = suggestions.first();
-            String selectedText = firstSuggestion.getText();
-            firstSuggestion.click();
+            String selectedText = selectSuggestion(text, "at index 0", suggestion -> true);
             LogUtils.logSuccess(toString(), String.format("Selected first suggestion: '%s'", selectedText));
         } catch (Exception e) {
             LogUtils.logError(toString(), "Failed to type and select first suggestion", e);
@@ -55,11 +233,8 @@ public class AutoCompleteBox extends BaseElement {
         LogUtils.logAction(toString(), String.format("Typing text and selecting suggestion at index %d: %s", 
             index, text));
         try {
-            waitForVisible();
-            getElement().setValue(text);
-            SelenideElement suggestion = suggestions.get(index);
-            String selectedText = suggestion.getText();
-            suggestion.click();
+            int[] position = {0};
+            String selectedText = selectSuggestion(text, "at index " + index, suggestion -> position[0]++ == index);
             LogUtils.logSuccess(toString(), String.format("Selected suggestion at index %d: '%s'", 
                 index, selectedText));
         } catch (Exception e) {
@@ -88,11 +263,7 @@ public class AutoCompleteBox extends BaseElement {
         LogUtils.logAction(toString(), String.format("Typing text and selecting suggestion: '%s'", 
             suggestionText));
         try {
-            waitForVisible();
-            getElement().setValue(text);
-            SelenideElement suggestion = suggestions.findBy(
-                com.codeborne.selenide.Condition.exactText(suggestionText));
-            suggestion.click();
+            selectSuggestion(text, "equal to '" + suggestionText + "'", suggestionText::equals);
             LogUtils.logSuccess(toString(), String.format("Selected suggestion: '%s'", suggestionText));
         } catch (Exception e) {
             LogUtils.logError(toString(), 
@@ -121,12 +292,8 @@ public class AutoCompleteBox extends BaseElement {
         LogUtils.logAction(toString(), String.format("Typing text and selecting suggestion containing: '%s'", 
             containsText));
         try {
-            waitForVisible();
-            getElement().setValue(text);
-            SelenideElement suggestion = suggestions.findBy(
-                com.codeborne.selenide.Condition.text(containsText));
-            String selectedText = suggestion.getText();
-            suggestion.click();
+            String selectedText = selectSuggestion(text, "containing '" + containsText + "'",
+                suggestion -> suggestion.toLowerCase().contains(containsText.toLowerCase()));
             LogUtils.logSuccess(toString(), 
                 String.format("Selected suggestion containing '%s': '%s'", containsText, selectedText));
         } catch (Exception e) {
@@ -8,10 +8,21 @@ import java.util.List;
  * Dropdown/Select element wrapper
  */
 public class Dropdown extends BaseElement {
+    private volatile OptionModel optionModel;
+
     public Dropdown(String selectLocator, String name) {
         super(selectLocator, name);
     }
 
+    /**
+     * Get the option model, refetching the options only if the select changed since the last call
+     */
+    public OptionModel getOptionModel() {
+        OptionModel model = OptionModel.refresh(getElement(), optionModel);
+        optionModel = model;
+        return model;
+    }
+
     /**
      * Select option by visible text (void version)
      */
@@ -120,7 +131,7 @@ public class Dropdown extends BaseElement {
     public List<String> getAllOptions() {
         LogUtils.logAction(toString(), "Getting all option texts");
         try {
-            List<String> options = getElement().getOptions().texts();
+            List<String> options = getOptionModel().getTexts();
             LogUtils.logSuccess(toString(), String.format("Got %d options", options.size()));
             return options;
         } catch (Exception e) {
@@ -135,9 +146,7 @@ public class Dropdown extends BaseElement {
     public List<String> getAllValues() {
         LogUtils.logAction(toString(), "Getting all option values");
         try {
-            List<String> values = getElement().getOptions().stream()
-                    .map(option -> option.getValue())
-                    .toList();
+            List<String> values = getOptionModel().getValues();
             LogUtils.logSuccess(toString(), String.format("Got %d option values", values.size()));
             return values;
         } catch (Exception e) {
@@ -152,7 +161,7 @@ public class Dropdown extends BaseElement {
     public boolean hasOption(String text) {
         LogUtils.logAction(toString(), "Checking if option exists: " + text);
         try {
-            boolean exists = getElement().getOptions().texts().contains(text);
+            boolean exists = getOptionModel().findByText(text) != null;
             LogUtils.logSuccess(toString(), String.format("Option '%s' %s", text, 
                 exists ? "exists" : "does not exist"));
             return exists;
@@ -168,7 +177,7 @@ public class Dropdown extends BaseElement {
     public boolean hasValue(String value) {
         LogUtils.logAction(toString(), "Checking if value exists: " + value);
         try {
-            boolean exists = getAllValues().contains(value);
+            boolean exists = getOptionModel().findByValue(value) != null;
             LogUtils.logSuccess(toString(), String.format("Value '%s' %s", value, 
                 exists ? "exists" : "does not exist"));
             return exists;
@@ -183,7 +192,7 @@ public class Dropdown extends BaseElement {
      */
     public int getOptionsCount() {
         try {
-            int count = getElement().getOptions().size();
+            int count = getOptionModel().size();
             LogUtils.logAction("Dropdown '" + getName() + "'", "Got options count: " + count);
             return count;
         } catch (Exception e) {
@@ -195,13 +204,9 @@ public class Dropdown extends BaseElement {
     @Override
     public String toString() {
         try {
-            int count = getElement().getOptions().size();
-            String selectedText = "unknown";
-            try {
-                selectedText = getElement().getSelectedOption().getText();
-            } catch (Exception e) {
-                // Ignore
-            }
+            OptionModel model = getOptionModel();
+            int count = model.size();
+            String selectedText = model.getSelected().isEmpty() ? "unknown" : model.getSelected().get(0).getText();
             return String.format("Dropdown '%s' with %d options, selected: '%s'", 
                 getName(), 
                 count, 
@@ -1,24 +1,35 @@
 package framework.elements.dropdown;
 
 import framework.elements.core.BaseElement;
+import framework.utils.LogUtils;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * ListBox element wrapper for multi-select lists
  */
 public class ListBox extends BaseElement {
+    private volatile OptionModel optionModel;
+
     public ListBox(String locator, String name) {
         super(locator, name);
     }
 
     /**
-     * Select multiple options by visible text
+     * Get the option model, refetching the options only if the list changed since the last call
+     */
+    public OptionModel getOptionModel() {
+        OptionModel model = OptionModel.refresh(getElement(), optionModel);
+        optionModel = model;
+        return model;
+    }
+
+    /**
+     * Select multiple options by visible text in one operation (single change event)
      */
     public void selectByTexts(String... texts) {
-        waitForClickable();
-        for (String text : texts) {
-            getElement().selectOption(text);
-        }
+        apply(false, true, texts);
     }
     
     /**
@@ -34,10 +45,7 @@ public class ListBox extends BaseElement {
      * Select multiple options by values
      */
     public void selectByValues(String... values) {
-        waitForClickable();
-        for (String value : values) {
-            getElement().selectOptionByValue(value);
-        }
+        apply(true, true, values);
     }
     
     /**
@@ -53,25 +61,21 @@ public class ListBox extends BaseElement {
      * Get all selected options text
      */
     public List<String> getSelectedTexts() {
-        return getElement().getSelectedOptions().texts();
+        return getOptionModel().getSelected().stream().map(OptionModel.Option::getText).toList();
     }
 
     /**
      * Get all selected option values
      */
     public List<String> getSelectedValues() {
-        return getElement().getSelectedOptions().stream()
-                .map(option -> option.getValue())
-                .toList();
+        return getOptionModel().getSelected().stream().map(OptionModel.Option::getValue).toList();
     }
 
     /**
      * Deselect all options
      */
     public void deselectAll() {
-        getSelectedTexts().forEach(text -> {
-            getElement().selectOption(text); // clicking again deselects in multi-select
-        });
+        apply(true, false, getSelectedValues().toArray(new String[0]));
     }
     
     /**
@@ -87,11 +91,7 @@ public class ListBox extends BaseElement {
      * Deselect options by visible text
      */
     public void deselectByTexts(String... texts) {
-        for (String text : texts) {
-            if (getSelectedTexts().contains(text)) {
-                getElement().selectOption(text); // clicking again deselects in multi-select
-            }
-        }
+        apply(false, false, texts);
     }
     
     /**
@@ -110,11 +110,33 @@ public class ListBox extends BaseElement {
         return "multiple".equals(getElement().getAttribute("multiple"));
     }
 
+    private void apply(boolean byValue, boolean selected, String... keys) {
+        String description = String.format("%s options by %s: %s", selected ? "Selecting" : "Deselecting",
+            byValue ? "value" : "text", Arrays.toString(keys));
+        LogUtils.logAction(toString(), description);
+        try {
+            waitForClickable();
+            List<String> missing = OptionModel.apply(getElement(), byValue, Arrays.asList(keys), selected);
+            if (!missing.isEmpty()) {
+                throw new NoSuchElementException("Options not available in " + getName() + ": " + missing);
+            }
+            LogUtils.logSuccess(toString(), "Options updated successfully");
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to update options", e);
+            throw e;
+        }
+    }
+
     @Override
     public String toString() {
-        return String.format("ListBox '%s' [%d selected of %d options]", 
-            getName(), 
-            getSelectedTexts().size(),
-            getElement().getOptions().size());
+        try {
+            OptionModel model = getOptionModel();
+            return String.format("ListBox '%s' [%d selected of %d options]", 
+                getName(), 
+                model.getSelected().size(),
+                model.size());
+        } catch (Exception e) {
+            return String.format("ListBox '%s'", getName());
+        }
     }
 }
@@ -0,0 +1,186 @@
+package framework.elements.dropdown;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of all options of a select element, indexed by text and value.
+ *
+ * <p>The first snapshot installs a {@code MutationObserver} and a {@code change} listener on
+ * the select element that bump a version counter. {@link #refresh} sends the known version
+ * and gets the full option list back only when something changed, so every lookup costs one
+ * small script call instead of one WebDriver call per option. Selections made through script
+ * without a {@code change} event are not detected.
+ */
+public class OptionModel {
+
+    // Returns {token, version} when nothing changed, otherwise the full option list
+    private static final String SNAPSHOT_SCRIPT =
+        "var select = arguments[0], knownToken = arguments[1], knownVersion = arguments[2];" +
+        "var model = select.__optionModel;" +
+        "if (!model) {" +
+        "  model = select.__optionModel = {token: Math.random().toString(36).slice(2), version: 0};" +
+        "  var bump = function () { model.version++; };" +
+        "  new MutationObserver(bump).observe(select," +
+        "    {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "  select.addEventListener('change', bump);" +
+        "}" +
+        "if (model.token === knownToken && model.version === knownVersion) {" +
+        "  return {token: model.token, version: model.version};" +
+        "}" +
+        "var options = [];" +
+        "for (var i = 0; i < select.options.length; i++) {" +
+        "  var o = select.options[i];" +
+        "  options.push({text: o.text.trim(), value: o.value, disabled: o.disabled, selected: o.selected});" +
+        "}" +
+        "return {token: model.token, version: model.version, options: options};";
+
+    // Sets the selected state of several options and fires one input/change pair
+    private static final String APPLY_SCRIPT =
+        "var select = arguments[0], byValue = arguments[1], keys = arguments[2], selected = arguments[3];" +
+        "var targets = [], missing = [];" +
+        "keys.forEach(function (key) {" +
+        "  var match = null;" +
+        "  for (var i = 0; i < select.options.length && !match; i++) {" +
+        "    var o = select.options[i];" +
+        "    if ((byValue ? o.value : o.text.trim()) === key) match = o;" +
+        "  }" +
+        "  if (!match) missing.push(key);" +
+        "  else if (selected && match.disabled) missing.push(key + ' (disabled)');" +
+        "  else targets.push(match);" +
+        "});" +
+        "if (missing.length) return missing;" +
+        "var changed = false;" +
+        "targets.forEach(function (o) { if (o.selected !== selected) { o.selected = selected; changed = true; } });" +
+        "if (changed) {" +
+        "  select.dispatchEvent(new Event('input', {bubbles: true}));" +
+        "  select.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "}" +
+        "return missing;";
+
+    /**
+     * One option of the select element
+     */
+    public static class Option {
+        private final int index;
+        private final String text;
+        private final String value;
+        private final boolean disabled;
+        private final boolean selected;
+
+        Option(int index, String text, String value, boolean disabled, boolean selected) {
+            this.index = index;
+            this.text = text;
+            this.value = value;
+            this.disabled = disabled;
+            this.selected = selected;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isDisabled() {
+            return disabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+    }
+
+    private final String token;
+    private final long version;
+    private final List<Option> options;
+    private final Map<String, Option> byText = new HashMap<>();
+    private final Map<String, Option> byValue = new HashMap<>();
+
+    private OptionModel(String token, long version, List<Option> options) {
+        this.token = token;
+        this.version = version;
+        this.options = Collections.unmodifiableList(options);
+        for (Option option : options) {
+            // Keep the first option for duplicate texts/values, as Select does
+            byText.putIfAbsent(option.text, option);
+            byValue.putIfAbsent(option.value, option);
+        }
+    }
+
+    /**
+     * Return the current model for a select element, reusing the previous one if unchanged
+     * @param select Select element
+     * @param previous Model from an earlier call, or null
+     * @return Up-to-date model
+     */
+    @SuppressWarnings("unchecked")
+    public static OptionModel refresh(SelenideElement select, OptionModel previous) {
+        Map<String, Object> result = Selenide.executeJavaScript(SNAPSHOT_SCRIPT, select,
+            previous != null ? previous.token : null, previous != null ? previous.version : -1);
+        List<Map<String, Object>> rawOptions = (List<Map<String, Object>>) result.get("options");
+        if (rawOptions == null && previous != null) {
+            return previous;
+        }
+        List<Option> options = new ArrayList<>();
+        for (Map<String, Object> raw : rawOptions) {
+            options.add(new Option(options.size(), (String) raw.get("text"), (String) raw.get("value"),
+                Boolean.TRUE.equals(raw.get("disabled")), Boolean.TRUE.equals(raw.get("selected"))));
+        }
+        return new OptionModel((String) result.get("token"), ((Number) result.get("version")).longValue(), options);
+    }
+
+    /**
+     * Select or deselect several options in one script call with a single change event
+     * @param select Select element
+     * @param byValue Match keys against option values instead of visible texts
+     * @param keys Option texts or values
+     * @param selected Target selected state
+     * @return Keys that matched no option (or a disabled one); nothing is changed if not empty
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> apply(SelenideElement select, boolean byValue, Collection<String> keys, boolean selected) {
+        return (List<String>) Selenide.executeJavaScript(APPLY_SCRIPT, select, byValue, new ArrayList<>(keys), selected);
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    public Option findByText(String text) {
+        return byText.get(text);
+    }
+
+    public Option findByValue(String value) {
+        return byValue.get(value);
+    }
+
+    public List<String> getTexts() {
+        return options.stream().map(Option::getText).toList();
+    }
+
+    public List<String> getValues() {
+        return options.stream().map(Option::getValue).toList();
+    }
+
+    public List<Option> getSelected() {
+        return options.stream().filter(Option::isSelected).toList();
+    }
+
+    public int size() {
+        return options.size();
+    }
+}
@@ -0,0 +1,50 @@
+package framework.elements.input;
+
+import com.codeborne.selenide.SelenideElement;
+
+import java.util.function.Supplier;
+
+/**
+ * Editor-specific operations used by {@link RichTextEditor}.
+ *
+ * <p>Implementations are registered in {@link EditorAdapters}. Script-based adapters resolve the
+ * editor instance themselves; the element supplier is only resolved when an operation needs it,
+ * since the configured locator may not exist for every editor.
+ */
+public interface EditorAdapter {
+
+    /**
+     * Short name used in logs and for registry lookups
+     */
+    String getName();
+
+    boolean isReady(Supplier<SelenideElement> editor);
+
+    void setContent(Supplier<SelenideElement> editor, String html);
+
+    void insertContent(Supplier<SelenideElement> editor, String text);
+
+    String getContent(Supplier<SelenideElement> editor);
+
+    void clear(Supplier<SelenideElement> editor);
+
+    void applyFormat(Supplier<SelenideElement> editor, RichTextEditor.FormatType format);
+
+    /**
+     * Body of a JS function {@code (el, html, done)} that replaces the content with {@code html}
+     * through the editor's transactional API and calls {@code done()} when the editor has applied it.
+     * Used by {@link RichTextEditor#bulkLoad}.
+     */
+    default String bulkCommitScript() {
+        return "el.innerHTML = html;" +
+            "el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "done();";
+    }
+
+    /**
+     * Whether {@link #bulkCommitScript()} uses {@code el}; if not, the element is not looked up
+     */
+    default boolean bulkCommitUsesElement() {
+        return true;
+    }
+}
@@ -0,0 +1,258 @@
+package framework.elements.input;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.Keys;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of {@link EditorAdapter}s with the built-in TinyMCE, CKEditor, Quill and
+ * generic contenteditable adapters. Projects can register adapters for other editors.
+ */
+public class EditorAdapters {
+
+    private static final Map<String, EditorAdapter> adapters = new ConcurrentHashMap<>();
+
+    static {
+        register(new TinyMceAdapter());
+        register(new CkEditorAdapter());
+        register(new QuillAdapter());
+        register(new GenericAdapter());
+    }
+
+    private EditorAdapters() {
+        // Utility class
+    }
+
+    /**
+     * Register an adapter under its name, replacing any adapter with the same name
+     */
+    public static void register(EditorAdapter adapter) {
+        adapters.put(adapter.getName().toUpperCase(), adapter);
+    }
+
+    /**
+     * Look up an adapter by name (case-insensitive)
+     * @throws IllegalArgumentException if no adapter is registered under that name
+     */
+    public static EditorAdapter get(String name) {
+        EditorAdapter adapter = adapters.get(name.toUpperCase());
+        if (adapter == null) {
+            throw new IllegalArgumentException("No editor adapter registered for: " + name);
+        }
+        return adapter;
+    }
+
+    /**
+     * Adapter for a built-in editor type
+     */
+    public static EditorAdapter forType(RichTextEditor.EditorType type) {
+        return get(type.name());
+    }
+
+    private static class TinyMceAdapter implements EditorAdapter {
+        @Override
+        public String getName() {
+            return "TINYMCE";
+        }
+
+        @Override
+        public boolean isReady(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return (typeof tinymce !== 'undefined' && tinymce.activeEditor !== null)");
+        }
+
+        @Override
+        public void setContent(Supplier<SelenideElement> editor, String html) {
+            Selenide.executeJavaScript("tinymce.activeEditor.setContent(arguments[0])", html);
+        }
+
+        @Override
+        public void insertContent(Supplier<SelenideElement> editor, String text) {
+            Selenide.executeJavaScript("tinymce.activeEditor.insertContent(arguments[0])", text);
+        }
+
+        @Override
+        public String getContent(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return tinymce.activeEditor.getContent()");
+        }
+
+        @Override
+        public void clear(Supplier<SelenideElement> editor) {
+            Selenide.executeJavaScript("tinymce.activeEditor.setContent('')");
+        }
+
+        @Override
+        public void applyFormat(Supplier<SelenideElement> editor, RichTextEditor.FormatType format) {
+            String command = format == RichTextEditor.FormatType.BOLD ? "Bold"
+                : format == RichTextEditor.FormatType.ITALIC ? "Italic" : "Underline";
+            Selenide.executeJavaScript("tinymce.activeEditor.execCommand(arguments[0])", command);
+        }
+
+        @Override
+        public String bulkCommitScript() {
+            // One undo level for the whole document
+            return "var ed = tinymce.activeEditor;" +
+                "ed.undoManager.transact(function () { ed.setContent(html); });" +
+                "done();";
+        }
+
+        @Override
+        public boolean bulkCommitUsesElement() {
+            return false;
+        }
+    }
+
+    private static class CkEditorAdapter implements EditorAdapter {
+        private static final String INSTANCE = "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]]";
+
+        @Override
+        public String getName() {
+            return "CKEDITOR";
+        }
+
+        @Override
+        public boolean isReady(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return (typeof CKEDITOR !== 'undefined' && Object.keys(CKEDITOR.instances).length > 0)");
+        }
+
+        @Override
+        public void setContent(Supplier<SelenideElement> editor, String html) {
+            Selenide.executeJavaScript(INSTANCE + ".setData(arguments[0])", html);
+        }
+
+        @Override
+        public void insertContent(Supplier<SelenideElement> editor, String text) {
+            Selenide.executeJavaScript(INSTANCE + ".insertText(arguments[0])", text);
+        }
+
+        @Override
+        public String getContent(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return " + INSTANCE + ".getData()");
+        }
+
+        @Override
+        public void clear(Supplier<SelenideElement> editor) {
+            Selenide.executeJavaScript(INSTANCE + ".setData('')");
+        }
+
+        @Override
+        public void applyFormat(Supplier<SelenideElement> editor, RichTextEditor.FormatType format) {
+            Selenide.executeJavaScript(INSTANCE + ".execCommand(arguments[0])", format.name().toLowerCase());
+        }
+
+        @Override
+        public String bulkCommitScript() {
+            // setData parses asynchronously; the callback fires once the new document is in place
+            return "var ed = " + INSTANCE + ";" +
+                "ed.setData(html, {callback: function () { ed.fire('saveSnapshot'); done(); }});";
+        }
+
+        @Override
+        public boolean bulkCommitUsesElement() {
+            return false;
+        }
+    }
+
+    private static class QuillAdapter implements EditorAdapter {
+        @Override
+        public String getName() {
+            return "QUILL";
+        }
+
+        @Override
+        public boolean isReady(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return document.querySelector('.ql-editor') !== null");
+        }
+
+        @Override
+        public void setContent(Supplier<SelenideElement> editor, String html) {
+            Selenide.executeJavaScript("document.querySelector('.ql-editor').innerHTML = arguments[0]", html);
+        }
+
+        @Override
+        public void insertContent(Supplier<SelenideElement> editor, String text) {
+            // Focus the editor first
+            Selenide.executeJavaScript("document.querySelector('.ql-editor').focus()");
+            editor.get().sendKeys(text);
+        }
+
+        @Override
+        public String getContent(Supplier<SelenideElement> editor) {
+            return Selenide.executeJavaScript("return document.querySelector('.ql-editor').innerHTML");
+        }
+
+        @Override
+        public void clear(Supplier<SelenideElement> editor) {
+            Selenide.executeJavaScript("document.querySelector('.ql-editor').innerHTML = ''");
+        }
+
+        @Override
+        public void applyFormat(Supplier<SelenideElement> editor, RichTextEditor.FormatType format) {
+            Selenide.executeJavaScript("document.querySelector(arguments[0]).click()",
+                ".ql-" + format.name().toLowerCase());
+        }
+
+        @Override
+        public String bulkCommitScript() {
+            // dangerouslyPasteHTML applies a single delta (one history entry); fall back to the DOM
+            return "var root = document.querySelector('.ql-editor');" +
+                "var quill = typeof Quill !== 'undefined' && root ? Quill.find(root.parentElement) : null;" +
+                "if (quill && quill.clipboard) quill.clipboard.dangerouslyPasteHTML(html);" +
+                "else root.innerHTML = html;" +
+                "done();";
+        }
+
+        @Override
+        public boolean bulkCommitUsesElement() {
+            return false;
+        }
+    }
+
+    private static class GenericAdapter implements EditorAdapter {
+        @Override
+        public String getName() {
+            return "GENERIC";
+        }
+
+        @Override
+        public boolean isReady(Supplier<SelenideElement> editor) {
+            return editor.get().isDisplayed();
+        }
+
+        @Override
+        public void setContent(Supplier<SelenideElement> editor, String html) {
+            // For other editors, use the content-editable div
+            editor.get().sendKeys(html);
+        }
+
+        @Override
+        public void insertContent(Supplier<SelenideElement> editor, String text) {
+            editor.get().sendKeys(text);
+        }
+
+        @Override
+        public String getContent(Supplier<SelenideElement> editor) {
+            return editor.get().getAttribute("innerHTML");
+        }
+
+        @Override
+        public void clear(Supplier<SelenideElement> editor) {
+            // Clear via select all and delete
+            SelenideElement element = editor.get();
+            element.click();
+            element.sendKeys(Keys.chord(Keys.CONTROL, "a"));
+            element.sendKeys(Keys.DELETE);
+        }
+
+        @Override
+        public void applyFormat(Supplier<SelenideElement> editor, RichTextEditor.FormatType format) {
+            // Use keyboard shortcuts
+            String key = format == RichTextEditor.FormatType.BOLD ? "b"
+                : format == RichTextEditor.FormatType.ITALIC ? "i" : "u";
+            editor.get().sendKeys(Keys.chord(Keys.CONTROL, key));
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package framework.elements.input;
 
+import com.codeborne.selenide.DownloadOptions;
+import com.codeborne.selenide.files.FileFilter;
 import framework.elements.core.Button;
+import framework.utils.DownloadWatcher;
 import framework.utils.FileUtils;
 import framework.utils.LogUtils;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
  * Specialized button for file downloads
+ *
+ * <p>Downloads are detected by a {@link DownloadWatcher}. Without an explicit directory, Chromium
+ * sessions download into their own {@code <downloadDir>/<sessionId>} directory; other browsers
+ * use {@code ~/Downloads}. Browsers on a remote grid download through Selenide's
+ * {@code download()} with the configured {@code Configuration.fileDownload} mode.
  */
 public class FileDownloadButton extends Button {
-    private final String downloadDirectory;
+    private final String configuredDirectory;
     private final int downloadTimeoutSeconds;
 
     /**
@@ -20,7 +29,7 @@ public class FileDownloadButton extends Button {
      */
     public FileDownloadButton(String locator, String name, String downloadDirectory, int downloadTimeoutSeconds) {
         super(locator, name);
-        this.downloadDirectory = downloadDirectory;
+        this.configuredDirectory = downloadDirectory;
         this.downloadTimeoutSeconds = downloadTimeoutSeconds;
     }
 
@@ -28,14 +37,19 @@ public class FileDownloadButton extends Button {
      * Constructor with default download directory and timeout
      */
     public FileDownloadButton(String locator, String name) {
-        this(locator, name, getDefaultDownloadDirectory(), 30);
+        this(locator, name, null, 30);
     }
 
     /**
-     * Get default download directory
+     * Resolve the default directory lazily, it depends on the browser session
      */
-    private static String getDefaultDownloadDirectory() {
-        return System.getProperty("user.home") + "/Downloads";
+    private String resolveDownloadDirectory() {
+        if (configuredDirectory != null) {
+            return configuredDirectory;
+        }
+        return DownloadWatcher.isDownloadDirectoryControllable()
+            ? DownloadWatcher.sessionDirectory().toString()
+            : System.getProperty("user.home") + "/Downloads";
     }
 
     /**
@@ -46,27 +60,9 @@ public class FileDownloadButton extends Button {
         
         try {
             // Delete existing file with same name if exists
-            FileUtils.deleteFile(expectedFileName, downloadDirectory);
-            
-            // Click the download button
-            click();
-            
-            // Wait for file to be downloaded
-            boolean downloaded = FileUtils.waitForFileDownload(expectedFileName, downloadTimeoutSeconds);
+            FileUtils.deleteFile(expectedFileName, resolveDownloadDirectory());
             
-            if (downloaded) {
-                Path filePath = Paths.get(downloadDirectory, expectedFileName);
-                File downloadedFile = filePath.toFile();
-                LogUtils.logSuccess(toString(), String.format(
-                    "File downloaded successfully: %s (%d bytes)", 
-                    expectedFileName, downloadedFile.length()));
-                return downloadedFile;
-            } else {
-                LogUtils.logError(toString(), 
-                    "Download failed: File not found after " + downloadTimeoutSeconds + " seconds", 
-                    new RuntimeException("Download timeout"));
-                throw new RuntimeException("Download failed: Timeout waiting for file " + expectedFileName);
-            }
+            return clickAndAwait(expectedFileName::equals);
         } catch (Exception e) {
             LogUtils.logError(toString(), "Download failed: " + e.getMessage(), e);
             throw e;
@@ -80,75 +76,59 @@ public class FileDownloadButton extends Button {
         LogUtils.logAction(toString(), "Downloading file with pattern matcher");
         
         try {
-            // Get list of files before download
-            File dir = new File(downloadDirectory);
-            File[] filesBefore = dir.listFiles();
-            
-            // Click the download button
-            click();
-            
-            // Wait for new file to appear
-            long endTime = System.currentTimeMillis() + (downloadTimeoutSeconds * 1000L);
-            File newFile = null;
-            
-            while (System.currentTimeMillis() < endTime) {
-                File[] filesAfter = dir.listFiles();
-                
-                // Look for new files that match the pattern
-                for (File file : filesAfter) {
-                    if ((filesBefore == null || !containsFile(filesBefore, file)) && 
-                            fileNameMatcher.test(file.getName())) {
-                        newFile = file;
-                        break;
-                    }
-                }
-                
-                if (newFile != null) {
-                    break;
-                }
-                
-                // Wait a bit before checking again
-                Thread.sleep(500);
-            }
-            
-            if (newFile != null) {
-                LogUtils.logSuccess(toString(), String.format(
-                    "File downloaded successfully: %s (%d bytes)", 
-                    newFile.getName(), newFile.length()));
-                return newFile;
-            } else {
-                LogUtils.logError(toString(), 
-                    "Download failed: No matching file found after " + downloadTimeoutSeconds + " seconds", 
-                    new RuntimeException("Download timeout"));
-                throw new RuntimeException("Download failed: No matching file found");
-            }
-        } catch (InterruptedException e) {
-            LogUtils.logError(toString(), "Download interrupted", e);
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Download interrupted", e);
+            return clickAndAwait(fileNameMatcher);
         } catch (Exception e) {
             LogUtils.logError(toString(), "Download failed: " + e.getMessage(), e);
             throw e;
         }
     }
-    
+
     /**
-     * Check if array contains file
+     * Click and wait for the first finished file created afterwards that matches
      */
-    private boolean containsFile(File[] files, File targetFile) {
-        for (File file : files) {
-            if (file.getAbsolutePath().equals(targetFile.getAbsolutePath())) {
-                return true;
-            }
+    private File clickAndAwait(Predicate<String> fileNameMatcher) {
+        if (DownloadWatcher.isRemoteBrowser()) {
+            return downloadFromRemote(fileNameMatcher);
         }
-        return false;
+        try (DownloadWatcher watcher = DownloadWatcher.start(Paths.get(resolveDownloadDirectory()))) {
+            click();
+            File downloadedFile = watcher.awaitFile(fileNameMatcher, Duration.ofSeconds(downloadTimeoutSeconds)).toFile();
+            LogUtils.logSuccess(toString(), String.format(
+                "File downloaded successfully: %s (%d bytes)", 
+                downloadedFile.getName(), downloadedFile.length()));
+            return downloadedFile;
+        }
+    }
+
+    /**
+     * Let Selenide click and fetch the file, since a remote browser's directory is not visible here
+     */
+    private File downloadFromRemote(Predicate<String> fileNameMatcher) {
+        FileFilter filter = new FileFilter() {
+            @Override
+            public boolean match(File file) {
+                return fileNameMatcher.test(file.getName());
+            }
+
+            @Override
+            public String description() {
+                return "matching file name";
+            }
+        };
+        File downloadedFile = getElement().download(DownloadOptions.file()
+            .withFilter(filter)
+            .withTimeout(Duration.ofSeconds(downloadTimeoutSeconds)));
+        LogUtils.logSuccess(toString(), String.format(
+            "File downloaded from remote browser: %s (%d bytes)",
+            downloadedFile.getName(), downloadedFile.length()));
+        return downloadedFile;
     }
 
     /**
      * Get the path where files will be downloaded
      */
     public String getDownloadPath() {
-        return downloadDirectory;
+        return resolveDownloadDirectory();
     }
 
     /**
@@ -176,7 +156,7 @@ public class FileDownloadButton extends Button {
     public String getDownloadedFilePath(String fileName) {
         LogUtils.logAction(toString(), "Getting path for downloaded file: " + fileName);
         try {
-            Path filePath = Paths.get(downloadDirectory, fileName);
+            Path filePath = Paths.get(resolveDownloadDirectory(), fileName);
             String path = filePath.toString();
             LogUtils.logSuccess(toString(), "File path: " + path);
             return path;
@@ -190,7 +170,7 @@ public class FileDownloadButton extends Button {
     public String toString() {
         try {
             return String.format("FileDownloadButton '%s' [%s] {dir: %s}", 
-                getName(), getLocator(), downloadDirectory);
+                getName(), getLocator(), configuredDirectory != null ? configuredDirectory : "per session");
         } catch (Exception e) {
             return String.format("FileDownloadButton '%s'", getName());
         }
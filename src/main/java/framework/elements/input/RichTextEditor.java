@@ -2,23 +2,106 @@ package framework.elements.input;
 
 import com.codeborne.selenide.Selenide;
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.JavaScriptUtils;
 import framework.utils.LogUtils;
-import org.openqa.selenium.Keys;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Rich Text Editor element wrapper (WYSIWYG editors like TinyMCE, CKEditor, Quill)
+ *
+ * <p>Editor-specific behaviour lives in {@link EditorAdapter}s looked up from
+ * {@link EditorAdapters}. {@link #bulkLoad} transfers large documents in chunks into a
+ * page-side buffer and commits them in one editor transaction.
  */
 public class RichTextEditor extends BaseElement {
+    public static final int DEFAULT_CHUNK_SIZE = 512 * 1024;
+
+    private static final String APPEND_CHUNK_SCRIPT =
+        "var buffers = window.__editorBulk = window.__editorBulk || {};" +
+        "(buffers[arguments[0]] = buffers[arguments[0]] || []).push(arguments[1]);" +
+        "return buffers[arguments[0]].length;";
+
+    private static final String DISCARD_BUFFER_SCRIPT =
+        "if (window.__editorBulk) delete window.__editorBulk[arguments[0]];";
+
+    // Wraps the adapter's commit body: (el, html, done)
+    private static final String COMMIT_SCRIPT_TEMPLATE =
+        "var el = arguments[0], id = arguments[1], callback = arguments[arguments.length - 1];" +
+        "var html = window.__editorBulk[id].join('');" +
+        "delete window.__editorBulk[id];" +
+        "var start = performance.now();" +
+        "try {" +
+        "  (function (el, html, done) { %s })(el, html, function () {" +
+        "    callback({chars: html.length, commitMs: Math.round(performance.now() - start)});" +
+        "  });" +
+        "} catch (e) { callback({error: e.message}); }";
+
+    /**
+     * Timing of a {@link #bulkLoad}
+     */
+    public static class BulkLoadStats {
+        private final long chars;
+        private final int chunks;
+        private final long transferMs;
+        private final long commitMs;
+
+        BulkLoadStats(long chars, int chunks, long transferMs, long commitMs) {
+            this.chars = chars;
+            this.chunks = chunks;
+            this.transferMs = transferMs;
+            this.commitMs = commitMs;
+        }
+
+        public long getChars() {
+            return chars;
+        }
+
+        public int getChunks() {
+            return chunks;
+        }
+
+        public long getTransferMs() {
+            return transferMs;
+        }
+
+        /**
+         * Time the editor took to apply the content, measured in the page
+         */
+        public long getCommitMs() {
+            return commitMs;
+        }
+
+        /**
+         * Characters inserted per second by the editor
+         */
+        public double getInsertCharsPerSecond() {
+            return commitMs > 0 ? chars * 1000.0 / commitMs : chars * 1000.0;
+        }
+
+        /**
+         * Characters transferred to the page per second
+         */
+        public double getTransferCharsPerSecond() {
+            return transferMs > 0 ? chars * 1000.0 / transferMs : chars * 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d chars in %d chunks, transfer %d ms (%.0f chars/s), insert %d ms (%.0f chars/s)",
+                chars, chunks, transferMs, getTransferCharsPerSecond(), commitMs, getInsertCharsPerSecond());
+        }
+    }
+
     private final String frameLocator; // Used for iframe-based editors
-    private final EditorType editorType;
+    private final EditorAdapter adapter;
 
     /**
      * Constructor for iframe-based editors
      */
     public RichTextEditor(String editorLocator, String frameLocator, String name, EditorType editorType) {
-        super(editorLocator, name);
-        this.frameLocator = frameLocator;
-        this.editorType = editorType;
+        this(editorLocator, frameLocator, name, EditorAdapters.forType(editorType));
     }
 
     /**
@@ -28,6 +111,16 @@ public class RichTextEditor extends BaseElement {
         this(editorLocator, null, name, editorType);
     }
 
+    /**
+     * Constructor with a custom adapter (see {@link EditorAdapters#register})
+     * @param frameLocator Editor iframe locator, or null
+     */
+    public RichTextEditor(String editorLocator, String frameLocator, String name, EditorAdapter adapter) {
+        super(editorLocator, name);
+        this.frameLocator = frameLocator;
+        this.adapter = adapter;
+    }
+
     /**
      * Set text to editor (replaces existing content)
      */
@@ -39,21 +132,7 @@ public class RichTextEditor extends BaseElement {
             // Clear existing content
             clearEditor();
             
-            // Insert new content based on editor type
-            switch (editorType) {
-                case TINYMCE:
-                    Selenide.executeJavaScript("tinymce.activeEditor.setContent(arguments[0])", text);
-                    break;
-                case CKEDITOR:
-                    Selenide.executeJavaScript("CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].setData(arguments[0])", text);
-                    break;
-                case QUILL:
-                    Selenide.executeJavaScript("document.querySelector('.ql-editor').innerHTML = arguments[0]", text);
-                    break;
-                default:
-                    // For other editors, use the content-editable div
-                    getElement().sendKeys(text);
-            }
+            adapter.setContent(this::getElement, text);
             
             LogUtils.logSuccess(toString(), "Text set successfully");
             switchToDefaultContent();
@@ -64,6 +143,69 @@ public class RichTextEditor extends BaseElement {
         }
     }
 
+    /**
+     * Replace the content with a large document: chunked transfer into a page-side buffer,
+     * then one commit through the editor's transactional API
+     * @param html Document to load
+     * @return Transfer and insert throughput
+     */
+    public BulkLoadStats bulkLoad(String html) {
+        return bulkLoad(html, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Replace the content with a large document using a specific chunk size
+     * @param html Document to load
+     * @param chunkSize Maximum characters per script call
+     * @return Transfer and insert throughput
+     */
+    public BulkLoadStats bulkLoad(String html, int chunkSize) {
+        LogUtils.logAction(toString(), String.format("Bulk loading %d chars in chunks of %d", html.length(), chunkSize));
+        String bufferId = UUID.randomUUID().toString();
+        try {
+            switchToEditorFrame();
+
+            long transferStart = System.currentTimeMillis();
+            int chunks = 0;
+            for (int from = 0; from < html.length(); chunks++) {
+                int to = Math.min(html.length(), from + chunkSize);
+                // Never split a surrogate pair across chunks
+                if (to < html.length() && Character.isHighSurrogate(html.charAt(to - 1))) {
+                    to--;
+                }
+                Selenide.executeJavaScript(APPEND_CHUNK_SCRIPT, bufferId, html.substring(from, to));
+                from = to;
+            }
+            if (chunks == 0) {
+                Selenide.executeJavaScript(APPEND_CHUNK_SCRIPT, bufferId, "");
+            }
+            long transferMs = System.currentTimeMillis() - transferStart;
+
+            Map<String, Object> result = JavaScriptUtils.executeAsyncJs(
+                String.format(COMMIT_SCRIPT_TEMPLATE, adapter.bulkCommitScript()),
+                ConfigManager.getPageLoadTimeout(),
+                adapter.bulkCommitUsesElement() ? getElement() : null, bufferId);
+            if (result.get("error") != null) {
+                throw new IllegalStateException("Editor rejected bulk content: " + result.get("error"));
+            }
+
+            BulkLoadStats stats = new BulkLoadStats(html.length(), chunks, transferMs,
+                ((Number) result.get("commitMs")).longValue());
+            LogUtils.logSuccess(toString(), "Bulk load complete: " + stats);
+            switchToDefaultContent();
+            return stats;
+        } catch (Exception e) {
+            try {
+                Selenide.executeJavaScript(DISCARD_BUFFER_SCRIPT, bufferId);
+            } catch (Exception ignored) {
+                // Best effort, the page may be gone
+            }
+            switchToDefaultContent();
+            LogUtils.logError(toString(), "Failed to bulk load content", e);
+            throw e;
+        }
+    }
+
     /**
      * Insert text at current cursor position
      */
@@ -72,24 +214,7 @@ public class RichTextEditor extends BaseElement {
         try {
             switchToEditorFrame();
             
-            switch (editorType) {
-                case TINYMCE:
-                    Selenide.executeJavaScript("tinymce.activeEditor.insertContent(arguments[0])", text);
-                    break;
-                case CKEDITOR:
-                    Selenide.executeJavaScript(
-                        "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].insertText(arguments[0])", 
-                        text);
-                    break;
-                case QUILL:
-                    // Focus the editor first
-                    Selenide.executeJavaScript("document.querySelector('.ql-editor').focus()");
-                    getElement().sendKeys(text);
-                    break;
-                default:
-                    // For other editors, simply send keys
-                    getElement().sendKeys(text);
-            }
+            adapter.insertContent(this::getElement, text);
             
             LogUtils.logSuccess(toString(), "Text inserted successfully");
             switchToDefaultContent();
@@ -108,22 +233,7 @@ public class RichTextEditor extends BaseElement {
         try {
             switchToEditorFrame();
             
-            String content;
-            switch (editorType) {
-                case TINYMCE:
-                    content = Selenide.executeJavaScript("return tinymce.activeEditor.getContent()");
-                    break;
-                case CKEDITOR:
-                    content = Selenide.executeJavaScript(
-                        "return CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].getData()");
-                    break;
-                case QUILL:
-                    content = Selenide.executeJavaScript("return document.querySelector('.ql-editor').innerHTML");
-                    break;
-                default:
-                    // For other editors, get the HTML content
-                    content = getElement().getAttribute("innerHTML");
-            }
+            String content = adapter.getContent(this::getElement);
             
             LogUtils.logSuccess(toString(), "Got text from editor: " + 
                 (content.length() > 100 ? content.substring(0, 97) + "..." : content));
@@ -144,23 +254,7 @@ public class RichTextEditor extends BaseElement {
         try {
             switchToEditorFrame();
             
-            switch (editorType) {
-                case TINYMCE:
-                    Selenide.executeJavaScript("tinymce.activeEditor.setContent('')");
-                    break;
-                case CKEDITOR:
-                    Selenide.executeJavaScript(
-                        "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].setData('')");
-                    break;
-                case QUILL:
-                    Selenide.executeJavaScript("document.querySelector('.ql-editor').innerHTML = ''");
-                    break;
-                default:
-                    // For other editors, clear via select all and delete
-                    getElement().click();
-                    getElement().sendKeys(Keys.chord(Keys.CONTROL, "a"));
-                    getElement().sendKeys(Keys.DELETE);
-            }
+            adapter.clear(this::getElement);
             
             LogUtils.logSuccess(toString(), "Editor cleared successfully");
             switchToDefaultContent();
@@ -179,66 +273,7 @@ public class RichTextEditor extends BaseElement {
         try {
             switchToEditorFrame();
             
-            switch (editorType) {
-                case TINYMCE:
-                    switch (formatType) {
-                        case BOLD:
-                            Selenide.executeJavaScript("tinymce.activeEditor.execCommand('Bold')");
-                            break;
-                        case ITALIC:
-                            Selenide.executeJavaScript("tinymce.activeEditor.execCommand('Italic')");
-                            break;
-                        case UNDERLINE:
-                            Selenide.executeJavaScript("tinymce.activeEditor.execCommand('Underline')");
-                            break;
-                    }
-                    break;
-                    
-                case CKEDITOR:
-                    switch (formatType) {
-                        case BOLD:
-                            Selenide.executeJavaScript(
-                                "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].execCommand('bold')");
-                            break;
-                        case ITALIC:
-                            Selenide.executeJavaScript(
-                                "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].execCommand('italic')");
-                            break;
-                        case UNDERLINE:
-                            Selenide.executeJavaScript(
-                                "CKEDITOR.instances[Object.keys(CKEDITOR.instances)[0]].execCommand('underline')");
-                            break;
-                    }
-                    break;
-                    
-                case QUILL:
-                    switch (formatType) {
-                        case BOLD:
-                            Selenide.executeJavaScript("document.querySelector('.ql-bold').click()");
-                            break;
-                        case ITALIC:
-                            Selenide.executeJavaScript("document.querySelector('.ql-italic').click()");
-                            break;
-                        case UNDERLINE:
-                            Selenide.executeJavaScript("document.querySelector('.ql-underline').click()");
-                            break;
-                    }
-                    break;
-                    
-                default:
-                    // For other editors, use keyboard shortcuts
-                    switch (formatType) {
-                        case BOLD:
-                            getElement().sendKeys(Keys.chord(Keys.CONTROL, "b"));
-                            break;
-                        case ITALIC:
-                            getElement().sendKeys(Keys.chord(Keys.CONTROL, "i"));
-                            break;
-                        case UNDERLINE:
-                            getElement().sendKeys(Keys.chord(Keys.CONTROL, "u"));
-                            break;
-                    }
-            }
+            adapter.applyFormat(this::getElement, formatType);
             
             LogUtils.logSuccess(toString(), "Format applied successfully: " + formatType);
             switchToDefaultContent();
@@ -285,20 +320,7 @@ public class RichTextEditor extends BaseElement {
         try {
             switchToEditorFrame();
             
-            boolean ready;
-            switch (editorType) {
-                case TINYMCE:
-                    ready = Selenide.executeJavaScript("return (typeof tinymce !== 'undefined' && tinymce.activeEditor !== null)");
-                    break;
-                case CKEDITOR:
-                    ready = Selenide.executeJavaScript("return (typeof CKEDITOR !== 'undefined' && Object.keys(CKEDITOR.instances).length > 0)");
-                    break;
-                case QUILL:
-                    ready = Selenide.executeJavaScript("return document.querySelector('.ql-editor') !== null");
-                    break;
-                default:
-                    ready = getElement().isDisplayed();
-            }
+            boolean ready = adapter.isReady(this::getElement);
             
             LogUtils.logSuccess(toString(), "Editor is " + (ready ? "ready" : "not ready"));
             switchToDefaultContent();
@@ -314,7 +336,7 @@ public class RichTextEditor extends BaseElement {
     public String toString() {
         try {
             return String.format("RichTextEditor '%s' [%s] {type: %s, frame: %s}", 
-                getName(), getLocator(), editorType, 
+                getName(), getLocator(), adapter.getName(), 
                 frameLocator != null ? frameLocator : "none");
         } catch (Exception e) {
             return String.format("RichTextEditor '%s'", getName());
@@ -0,0 +1,279 @@
+package framework.elements.media;
+
+import com.codeborne.selenide.Selenide;
+import framework.utils.LogUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Checks every {@code img} on the page (or inside a container) in one script call.
+ *
+ * <p>For each image it reports load state, natural size against rendered size (in device
+ * pixels) and load time and payload from {@code PerformanceResourceTiming}. Images are flagged as
+ * broken, oversized or slow. Timing is missing (-1) for images whose entry was dropped because the
+ * browser's resource timing buffer (250 entries by default) was full, and sizes are 0 for
+ * cross-origin images served without {@code Timing-Allow-Origin}.
+ */
+public class ImageScanner {
+
+    private static final String SCAN_SCRIPT =
+        "var scope = arguments[0] ? document.querySelector(arguments[0]) : document;" +
+        "if (!scope) return null;" +
+        "var timings = {};" +
+        "performance.getEntriesByType('resource').forEach(function (e) { timings[e.name] = e; });" +
+        "var dpr = window.devicePixelRatio || 1, images = [];" +
+        "scope.querySelectorAll('img').forEach(function (img) {" +
+        "  var src = img.currentSrc || img.src || '', rect = img.getBoundingClientRect(), t = timings[src];" +
+        "  images.push({src: src, alt: img.getAttribute('alt'), complete: img.complete," +
+        "    naturalWidth: img.naturalWidth, naturalHeight: img.naturalHeight," +
+        "    renderedWidth: Math.round(rect.width * dpr), renderedHeight: Math.round(rect.height * dpr)," +
+        "    duration: t ? Math.round(t.duration) : -1, transferSize: t ? t.transferSize || 0 : -1," +
+        "    decodedSize: t ? t.decodedBodySize || 0 : -1});" +
+        "});" +
+        "return images;";
+
+    /**
+     * Health of one image
+     */
+    public static class ImageReport {
+        private final String src;
+        private final String alt;
+        private final boolean complete;
+        private final int naturalWidth;
+        private final int naturalHeight;
+        private final int renderedWidth;
+        private final int renderedHeight;
+        private final long loadMs;
+        private final long transferBytes;
+        private final long decodedBytes;
+        private final boolean broken;
+        private final boolean oversized;
+        private final boolean slow;
+
+        ImageReport(Map<String, Object> raw, double oversizeFactor, long slowMs) {
+            this.src = (String) raw.get("src");
+            this.alt = (String) raw.get("alt");
+            this.complete = Boolean.TRUE.equals(raw.get("complete"));
+            this.naturalWidth = intValue(raw, "naturalWidth");
+            this.naturalHeight = intValue(raw, "naturalHeight");
+            this.renderedWidth = intValue(raw, "renderedWidth");
+            this.renderedHeight = intValue(raw, "renderedHeight");
+            this.loadMs = longValue(raw, "duration");
+            this.transferBytes = longValue(raw, "transferSize");
+            this.decodedBytes = longValue(raw, "decodedSize");
+            // A finished image without pixels failed to load or decode; lazy images still loading are not broken
+            this.broken = complete && naturalWidth == 0 && !src.isEmpty();
+            this.oversized = renderedWidth > 0 && renderedHeight > 0
+                && (naturalWidth > renderedWidth * oversizeFactor || naturalHeight > renderedHeight * oversizeFactor);
+            this.slow = loadMs > slowMs;
+        }
+
+        private static int intValue(Map<String, Object> raw, String key) {
+            return ((Number) raw.get(key)).intValue();
+        }
+
+        private static long longValue(Map<String, Object> raw, String key) {
+            return ((Number) raw.get(key)).longValue();
+        }
+
+        public String getSrc() {
+            return src;
+        }
+
+        public String getAlt() {
+            return alt;
+        }
+
+        public boolean isComplete() {
+            return complete;
+        }
+
+        public int getNaturalWidth() {
+            return naturalWidth;
+        }
+
+        public int getNaturalHeight() {
+            return naturalHeight;
+        }
+
+        /**
+         * Rendered width in device pixels
+         */
+        public int getRenderedWidth() {
+            return renderedWidth;
+        }
+
+        /**
+         * Rendered height in device pixels
+         */
+        public int getRenderedHeight() {
+            return renderedHeight;
+        }
+
+        /**
+         * Load time from resource timing, -1 if unavailable
+         */
+        public long getLoadMs() {
+            return loadMs;
+        }
+
+        /**
+         * Bytes transferred over the network (0 when cached or cross-origin), -1 if unavailable
+         */
+        public long getTransferBytes() {
+            return transferBytes;
+        }
+
+        /**
+         * Decoded body size in bytes, -1 if unavailable
+         */
+        public long getDecodedBytes() {
+            return decodedBytes;
+        }
+
+        public boolean isBroken() {
+            return broken;
+        }
+
+        public boolean isOversized() {
+            return oversized;
+        }
+
+        public boolean isSlow() {
+            return slow;
+        }
+
+        public boolean hasProblem() {
+            return broken || oversized || slow;
+        }
+
+        @Override
+        public String toString() {
+            List<String> flags = new ArrayList<>();
+            if (broken) {
+                flags.add("BROKEN");
+            }
+            if (oversized) {
+                flags.add("OVERSIZED");
+            }
+            if (slow) {
+                flags.add("SLOW");
+            }
+            return String.format("%s %s natural %dx%d, rendered %dx%d, %d ms, %d bytes",
+                flags.isEmpty() ? "OK" : String.join("|", flags), src, naturalWidth, naturalHeight,
+                renderedWidth, renderedHeight, loadMs, transferBytes);
+        }
+    }
+
+    /**
+     * Result of one scan
+     */
+    public static class ScanResult {
+        private final List<ImageReport> images;
+
+        ScanResult(List<ImageReport> images) {
+            this.images = Collections.unmodifiableList(images);
+        }
+
+        public List<ImageReport> getImages() {
+            return images;
+        }
+
+        public List<ImageReport> getProblems() {
+            return images.stream().filter(ImageReport::hasProblem).collect(Collectors.toList());
+        }
+
+        public List<ImageReport> getBroken() {
+            return images.stream().filter(ImageReport::isBroken).collect(Collectors.toList());
+        }
+
+        public List<ImageReport> getOversized() {
+            return images.stream().filter(ImageReport::isOversized).collect(Collectors.toList());
+        }
+
+        public List<ImageReport> getSlow() {
+            return images.stream().filter(ImageReport::isSlow).collect(Collectors.toList());
+        }
+
+        public long getTotalTransferBytes() {
+            return images.stream().mapToLong(image -> Math.max(0, image.getTransferBytes())).sum();
+        }
+
+        public long getTotalDecodedBytes() {
+            return images.stream().mapToLong(image -> Math.max(0, image.getDecodedBytes())).sum();
+        }
+
+        public boolean isHealthy() {
+            return getProblems().isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d images: %d broken, %d oversized, %d slow, %d bytes transferred, %d bytes decoded",
+                images.size(), getBroken().size(), getOversized().size(), getSlow().size(),
+                getTotalTransferBytes(), getTotalDecodedBytes());
+        }
+    }
+
+    private final double oversizeFactor;
+    private final long slowMs;
+
+    /**
+     * Constructor with explicit thresholds
+     * @param oversizeFactor Natural size may exceed the rendered size (in device pixels) by this factor
+     * @param slowMs Images loading longer than this are flagged as slow
+     */
+    public ImageScanner(double oversizeFactor, long slowMs) {
+        this.oversizeFactor = oversizeFactor;
+        this.slowMs = slowMs;
+    }
+
+    /**
+     * Constructor with default thresholds: 2x oversize, 1000 ms
+     */
+    public ImageScanner() {
+        this(2.0, 1000);
+    }
+
+    /**
+     * Scan all images on the page
+     */
+    public ScanResult scan() {
+        return scan(null);
+    }
+
+    /**
+     * Scan the images inside a container
+     * @param containerCss CSS selector of the container, or null for the whole page
+     */
+    @SuppressWarnings("unchecked")
+    public ScanResult scan(String containerCss) {
+        LogUtils.logAction(toString(), "Scanning images" + (containerCss != null ? " in " + containerCss : ""));
+        try {
+            List<Map<String, Object>> raw = Selenide.executeJavaScript(SCAN_SCRIPT, containerCss);
+            if (raw == null) {
+                throw new IllegalArgumentException("Container not found: " + containerCss);
+            }
+            List<ImageReport> images = new ArrayList<>();
+            for (Map<String, Object> image : raw) {
+                images.add(new ImageReport(image, oversizeFactor, slowMs));
+            }
+            ScanResult result = new ScanResult(images);
+            result.getProblems().forEach(image -> LogUtils.logWarning(toString(), image.toString()));
+            LogUtils.logSuccess(toString(), result.toString());
+            return result;
+        } catch (Exception e) {
+            LogUtils.logError(toString(), "Failed to scan images", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ImageScanner";
+    }
+}
@@ -3,13 +3,173 @@ package framework.elements.navigation;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import framework.elements.core.BaseElement;
+import framework.utils.ConfigManager;
+import framework.utils.JavaScriptUtils;
 import framework.utils.LogUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import static com.codeborne.selenide.Selenide.$$;
 
 /**
  * Pagination controls element wrapper
+ *
+ * <p>{@link #crawl} and {@link #pages} harvest results across pages with one async script per
+ * page: it waits for the previous transition (mutations in the results container followed by a
+ * quiet period, or a fresh document), reads the records described by an {@link Extractor}, and
+ * clicks next before returning. The Java side processes page N while the browser is already
+ * loading page N+1. The extractor is passed as data and read by the fixed script, so crawling
+ * works on pages whose Content-Security-Policy forbids {@code eval}.
  */
 public class PaginationControls extends BaseElement {
+
+    private static final String CRAWL_SCRIPT =
+        "var containerLocator = arguments[0], nextLocator = arguments[1], extractor = arguments[2];" +
+        "var token = arguments[3], awaitTransition = arguments[4], navigate = arguments[5];" +
+        "var quiet = arguments[6], timeout = arguments[7], resultsLocator = arguments[8];" +
+        "var done = arguments[arguments.length - 1], start = Date.now();" +
+        "function isDisabled(el) {" +
+        "  return /(^|\\s)disabled(\\s|$)/.test(el.className) || el.getAttribute('aria-disabled') === 'true';" +
+        "}" +
+        "function extract(results) {" +
+        "  var items = results.querySelectorAll(extractor.item), records = [];" +
+        "  for (var i = 0; i < items.length; i++) {" +
+        "    var record = {};" +
+        "    for (var j = 0; j < extractor.fields.length; j++) {" +
+        "      var field = extractor.fields[j];" +
+        "      var el = field.locator ? items[i].querySelector(field.locator) : items[i];" +
+        "      record[field.name] = !el ? null : field.attribute ? el.getAttribute(field.attribute) : el.textContent.trim();" +
+        "    }" +
+        "    records.push(record);" +
+        "  }" +
+        "  return records;" +
+        "}" +
+        "function run() {" +
+        "  var root = document.querySelector(containerLocator);" +
+        "  if (!root) { done({error: 'pagination container not found'}); return; }" +
+        "  var results = document.querySelector(resultsLocator);" +
+        "  if (!results) { done({error: 'results container not found: ' + resultsLocator}); return; }" +
+        "  var records = extract(results);" +
+        "  var next = root.querySelector(nextLocator);" +
+        "  var hasNext = !!next && !next.disabled && !isDisabled(next)" +
+        "    && !(next.parentElement && isDisabled(next.parentElement));" +
+        "  if (hasNext && navigate) {" +
+        "    var state = {token: token, changed: false, last: 0};" +
+        // Only mutations inside the results container, or replacing it, count as the transition
+        "    state.observer = new MutationObserver(function (mutations) {" +
+        "      var current = document.querySelector(resultsLocator);" +
+        "      for (var i = 0; i < mutations.length; i++) {" +
+        "        var target = mutations[i].target;" +
+        "        if (current ? current.contains(target) || target.contains(current) : target.contains(results)) {" +
+        "          state.changed = true; state.last = Date.now(); return;" +
+        "        }" +
+        "      }" +
+        "    });" +
+        "    state.observer.observe(document.body, {childList: true, subtree: true, characterData: true});" +
+        "    window.__paginationCrawl = state;" +
+        "    setTimeout(function () { next.click(); }, 0);" +
+        "  }" +
+        "  done({records: records, hasNext: hasNext});" +
+        "}" +
+        "if (!awaitTransition) { run(); return; }" +
+        "(function poll() {" +
+        "  var state = window.__paginationCrawl;" +
+        "  if (!state || state.token !== token) {" +
+        "    if (document.readyState === 'complete' && document.querySelector(resultsLocator)) { run(); return; }" +
+        "  } else if (state.changed && Date.now() - state.last >= quiet && document.querySelector(resultsLocator)) {" +
+        "    state.observer.disconnect(); delete window.__paginationCrawl; run(); return;" +
+        "  }" +
+        "  if (Date.now() - start > timeout) { done({error: 'no page transition within ' + timeout + 'ms'}); return; }" +
+        "  setTimeout(poll, 20);" +
+        "})();";
+
+    /**
+     * Describes the records to read from each page: one record per item element, with fields
+     * taken from the text or an attribute of elements inside it
+     *
+     * <pre>
+     * new Extractor(".hotel-card")
+     *     .text("name", "h3")
+     *     .text("price", ".price")
+     *     .attribute("url", "a", "href");
+     * </pre>
+     */
+    public static class Extractor {
+        private final String itemLocator;
+        private final List<Map<String, String>> fields = new ArrayList<>();
+
+        /**
+         * @param itemLocator CSS locator of one record, searched in the results container
+         */
+        public Extractor(String itemLocator) {
+            this.itemLocator = itemLocator;
+        }
+
+        /**
+         * Add a field holding the trimmed text of an element inside the item
+         * @param field Field name in the record
+         * @param locator CSS locator inside the item, or null for the item itself
+         * @return this Extractor for method chaining
+         */
+        public Extractor text(String field, String locator) {
+            return attribute(field, locator, null);
+        }
+
+        /**
+         * Add a field holding an attribute of an element inside the item
+         * @param field Field name in the record
+         * @param locator CSS locator inside the item, or null for the item itself
+         * @param attribute Attribute name, or null for the trimmed text
+         * @return this Extractor for method chaining
+         */
+        public Extractor attribute(String field, String locator, String attribute) {
+            Map<String, String> spec = new HashMap<>();
+            spec.put("name", field);
+            spec.put("locator", locator);
+            spec.put("attribute", attribute);
+            fields.add(spec);
+            return this;
+        }
+
+        private Map<String, Object> toScriptArgument() {
+            return Map.of("item", itemLocator, "fields", fields);
+        }
+    }
+
+    /**
+     * Records extracted from one page by {@link #pages} or {@link #crawl}
+     */
+    public static class CrawledPage {
+        private final int pageNumber;
+        private final List<Map<String, Object>> records;
+
+        CrawledPage(int pageNumber, List<Map<String, Object>> records) {
+            this.pageNumber = pageNumber;
+            this.records = Collections.unmodifiableList(records);
+        }
+
+        /**
+         * 1-based position in the crawl (not the page number shown by the site)
+         */
+        public int getPageNumber() {
+            return pageNumber;
+        }
+
+        /**
+         * Records in page order; a field is null when its element was not found in the item
+         */
+        public List<Map<String, Object>> getRecords() {
+            return records;
+        }
+    }
+
     private final String pageButtonsLocator;
     private final String nextButtonLocator;
     private final String previousButtonLocator;
@@ -250,13 +410,113 @@ public class PaginationControls extends BaseElement {
         return this;
     }
     
-    @Override
-    public String toString() {
+    /**
+     * Iterate over pages starting at the current one, reading records from the pagination
+     * container. Each {@code next()} is one script call.
+     * @param extractor Records to read from each page
+     * @param maxPages Maximum number of pages to visit
+     * @return Iterator over extracted pages
+     */
+    public Iterator<CrawledPage> pages(Extractor extractor, int maxPages) {
+        return pages(getLocator(), extractor, maxPages);
+    }
+
+    /**
+     * Iterate over pages starting at the current one. Each {@code next()} is one script call.
+     * @param resultsLocator CSS locator of the results container; the next page is read once it
+     *                       stops changing for {@code paginationQuietPeriod} ms
+     * @param extractor Records to read from each page, searched in the results container
+     * @param maxPages Maximum number of pages to visit
+     * @return Iterator over extracted pages
+     */
+    public Iterator<CrawledPage> pages(String resultsLocator, Extractor extractor, int maxPages) {
+        String containerLocator = getLocator();
+        Map<String, Object> extractorArgument = extractor.toScriptArgument();
+        int timeout = ConfigManager.getPageLoadTimeout();
+        int quietPeriod = ConfigManager.getPaginationQuietPeriod();
+        return new Iterator<>() {
+            private final String token = UUID.randomUUID().toString();
+            private int visited;
+            private boolean more = maxPages > 0;
+
+            @Override
+            public boolean hasNext() {
+                return more;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public CrawledPage next() {
+                if (!more) {
+                    throw new NoSuchElementException("No more pages");
+                }
+                boolean navigate = visited + 1 < maxPages;
+                Map<String, Object> result = JavaScriptUtils.executeAsyncJs(CRAWL_SCRIPT, timeout + 5000L,
+                    containerLocator, nextButtonLocator, extractorArgument, token, visited > 0, navigate,
+                    quietPeriod, timeout, resultsLocator);
+                if (result.get("error") != null) {
+                    more = false;
+                    throw new IllegalStateException("Crawl failed after " + visited + " pages: " + result.get("error"));
+                }
+                visited++;
+                more = navigate && Boolean.TRUE.equals(result.get("hasNext"));
+                return new CrawledPage(visited, (List<Map<String, Object>>) result.get("records"));
+            }
+        };
+    }
+
+    /**
+     * Crawl pages and stream every record to a consumer
+     * @param resultsLocator CSS locator of the results container, see {@link #pages(String, Extractor, int)}
+     * @param extractor Records to read from each page
+     * @param consumer Receives records in page order; runs while the browser loads the next page,
+     *                 so it must not use the browser
+     * @param maxPages Maximum number of pages to visit
+     * @return Number of records consumed
+     */
+    public int crawl(String resultsLocator, Extractor extractor, Consumer<Map<String, Object>> consumer, int maxPages) {
+        return crawl(resultsLocator, extractor, consumer, maxPages, page -> false);
+    }
+
+    /**
+     * Crawl pages until a predicate matches, streaming every record to a consumer.
+     * The page after the matching one may already have been requested.
+     * @param resultsLocator CSS locator of the results container, see {@link #pages(String, Extractor, int)}
+     * @param extractor Records to read from each page
+     * @param consumer Receives records in page order; must not use the browser
+     * @param maxPages Maximum number of pages to visit
+     * @param until Stops the crawl after the first page it accepts
+     * @return Number of records consumed
+     */
+    public int crawl(String resultsLocator, Extractor extractor, Consumer<Map<String, Object>> consumer, int maxPages,
+                     Predicate<CrawledPage> until) {
+        LogUtils.logAction(toString(), "Crawling up to " + maxPages + " pages");
+        long start = System.currentTimeMillis();
+        int records = 0;
+        int pages = 0;
         try {
-            return String.format("PaginationControls '%s' [%s] {current: %d, total: %d}", 
-                getName(), getLocator(), getCurrentPage(), getTotalPages());
+            Iterator<CrawledPage> iterator = pages(resultsLocator, extractor, maxPages);
+            while (iterator.hasNext()) {
+                CrawledPage page = iterator.next();
+                pages++;
+                page.getRecords().forEach(consumer);
+                records += page.getRecords().size();
+                if (until.test(page)) {
+                    break;
+                }
+            }
+            LogUtils.logSuccess(toString(), String.format("Crawled %d pages, %d records in %d ms",
+                pages, records, System.currentTimeMillis() - start));
+            return records;
         } catch (Exception e) {
-            return String.format("PaginationControls '%s' [%s]", getName(), getLocator());
+            LogUtils.logError(toString(), "Failed to crawl pages", e);
+            throw e;
         }
     }
+
+    @Override
+    public String toString() {
+        // getCurrentPage() and getTotalPages() log through toString(), so they cannot be used here
+        return String.format("PaginationControls '%s' [%s]", getName(), getLocator());
+    }
 }
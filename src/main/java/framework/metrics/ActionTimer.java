@@ -0,0 +1,144 @@
+package framework.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Times one element action and splits it into {@link Phase}s.
+ *
+ * <p>Timers are pooled per thread and nest: while an inner action runs (e.g. the
+ * {@code waitForClickable} inside {@code click}) the enclosing actions account the time to the
+ * inner action's phase. Time spent in WebDriver find calls, reported by
+ * {@link LocateTimingListener}, is accounted as {@link Phase#LOCATE} for every active timer.
+ * Starting and closing a timer does not allocate, unless a {@link TraceRecorder} trace is being
+ * recorded on the thread: then the action is also recorded as a span, even with metrics disabled.
+ *
+ * <pre>
+ * try (ActionTimer timer = ActionTimer.start("click", getClass(), locator, Phase.ACT)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class ActionTimer implements AutoCloseable {
+
+    private static final int MAX_DEPTH = 8;
+    private static final ActionTimer NOOP = new ActionTimer(null);
+    // Only ends the trace span; used while tracing without metrics
+    private static final ActionTimer TRACE_ONLY = new ActionTimer(null);
+    private static final ThreadLocal<TimerStack> STACK = ThreadLocal.withInitial(TimerStack::new);
+
+    private final TimerStack stack;
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private MetricsRegistry.ActionStats stats;
+    private Phase primary;
+    private Phase current;
+    private long startNanos;
+    private long segmentStart;
+    private boolean traced;
+
+    private ActionTimer(TimerStack stack) {
+        this.stack = stack;
+    }
+
+    /**
+     * Start timing an action on the current thread
+     * @param action Action name, e.g. "click"
+     * @param elementType Element class
+     * @param locator Element locator
+     * @param phase Phase the action's own time belongs to (WAIT for wait methods, ACT otherwise)
+     * @return Timer to close when the action ends (without timing when metrics are disabled)
+     */
+    public static ActionTimer start(String action, Class<?> elementType, String locator, Phase phase) {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        TimerStack stack = registry.isEnabled() ? STACK.get() : null;
+        if (stack == null || stack.depth == MAX_DEPTH) {
+            if (TraceRecorder.isRecording()) {
+                beginSpan(action, elementType, locator, phase);
+                return TRACE_ONLY;
+            }
+            return NOOP;
+        }
+        long now = System.nanoTime();
+        stack.switchAll(stack.locating > 0 ? Phase.LOCATE : phase, now);
+        ActionTimer timer = stack.timers[stack.depth++];
+        timer.stats = registry.stats(action, elementType, locator);
+        timer.primary = phase;
+        timer.current = stack.locating > 0 ? Phase.LOCATE : phase;
+        timer.startNanos = now;
+        timer.segmentStart = now;
+        Arrays.fill(timer.phaseNanos, 0);
+        if (TraceRecorder.isRecording()) {
+            beginSpan(action, elementType, locator, phase);
+            timer.traced = true;
+        }
+        return timer;
+    }
+
+    private static void beginSpan(String action, Class<?> elementType, String locator, Phase phase) {
+        TraceRecorder.begin(action, phase == Phase.WAIT ? TraceRecorder.WAIT : TraceRecorder.ACTION,
+            elementType.getSimpleName() + " " + locator);
+    }
+
+    @Override
+    public void close() {
+        if (stack == null) {
+            if (this == TRACE_ONLY) {
+                TraceRecorder.end();
+            }
+            return;
+        }
+        long now = System.nanoTime();
+        accumulate(now);
+        stats.record(phaseNanos, now - startNanos);
+        stats = null;
+        if (traced) {
+            traced = false;
+            TraceRecorder.end();
+        }
+        stack.depth--;
+        if (stack.depth > 0) {
+            stack.switchAll(stack.locating > 0 ? Phase.LOCATE : stack.timers[stack.depth - 1].primary, now);
+        }
+    }
+
+    static void locateStarted() {
+        TimerStack stack = STACK.get();
+        if (stack.locating++ == 0 && stack.depth > 0) {
+            stack.switchAll(Phase.LOCATE, System.nanoTime());
+        }
+    }
+
+    static void locateFinished() {
+        TimerStack stack = STACK.get();
+        if (stack.locating == 0) {
+            return;
+        }
+        if (--stack.locating == 0 && stack.depth > 0) {
+            stack.switchAll(stack.timers[stack.depth - 1].primary, System.nanoTime());
+        }
+    }
+
+    private void accumulate(long now) {
+        phaseNanos[current.ordinal()] += now - segmentStart;
+        segmentStart = now;
+    }
+
+    private static final class TimerStack {
+        private final ActionTimer[] timers = new ActionTimer[MAX_DEPTH];
+        private int depth;
+        // Nesting level of find calls in progress
+        private int locating;
+
+        private TimerStack() {
+            for (int i = 0; i < MAX_DEPTH; i++) {
+                timers[i] = new ActionTimer(this);
+            }
+        }
+
+        private void switchAll(Phase phase, long now) {
+            for (int i = 0; i < depth; i++) {
+                timers[i].accumulate(now);
+                timers[i].current = phase;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package framework.metrics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Reports WebDriver find calls to the active {@link ActionTimer}s so their time is accounted
+ * as {@link Phase#LOCATE}. Register before the driver is created:
+ * {@code WebDriverRunner.addListener(new LocateTimingListener())}.
+ */
+public class LocateTimingListener implements WebDriverListener {
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        ActionTimer.locateStarted();
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        ActionTimer.locateFinished();
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        ActionTimer.locateStarted();
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        ActionTimer.locateFinished();
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        ActionTimer.locateStarted();
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        ActionTimer.locateFinished();
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        ActionTimer.locateStarted();
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        ActionTimer.locateFinished();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed lookups (element not there yet) skip the "after" callbacks
+        if (method.getName().startsWith("findElement")) {
+            ActionTimer.locateFinished();
+        }
+    }
+}
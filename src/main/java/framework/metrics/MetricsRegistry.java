@@ -0,0 +1,206 @@
+package framework.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide latency histograms per action, element class and locator.
+ *
+ * <p>The enabled flag is read from {@code metricsEnabled} once; lookups of existing entries
+ * go through nested maps keyed by the caller's own strings and class, so recording does not
+ * allocate. {@link #dump()} writes {@code action-latency.json} and {@code action-latency.csv}
+ * to the configured metrics directory.
+ */
+public class MetricsRegistry {
+
+    public static final String FILE_NAME = "action-latency";
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry(ConfigManager.isMetricsEnabled());
+
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, ConcurrentMap<String, ActionStats>>> stats =
+            new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get (or create) the statistics of one action on one element
+     */
+    public ActionStats stats(String action, Class<?> elementType, String locator) {
+        String key = locator != null ? locator : "";
+        ConcurrentMap<Class<?>, ConcurrentMap<String, ActionStats>> byType = stats.get(action);
+        if (byType == null) {
+            byType = stats.computeIfAbsent(action, a -> new ConcurrentHashMap<>());
+        }
+        ConcurrentMap<String, ActionStats> byLocator = byType.get(elementType);
+        if (byLocator == null) {
+            byLocator = byType.computeIfAbsent(elementType, t -> new ConcurrentHashMap<>());
+        }
+        ActionStats actionStats = byLocator.get(key);
+        if (actionStats == null) {
+            actionStats = byLocator.computeIfAbsent(key, l -> new ActionStats(action, elementType.getSimpleName(), l));
+        }
+        return actionStats;
+    }
+
+    /**
+     * All recorded statistics, slowest total p99 first
+     */
+    public List<ActionStats> snapshot() {
+        List<ActionStats> result = new ArrayList<>();
+        stats.values().forEach(byType -> byType.values().forEach(byLocator -> result.addAll(byLocator.values())));
+        result.sort(Comparator.comparingLong((ActionStats s) -> s.getTotal().getPercentile(99)).reversed());
+        return result;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Write JSON and CSV reports to the configured metrics directory
+     */
+    public void dump() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Path dir = Paths.get(ConfigManager.getMetricsDir());
+        LogUtils.logAction("MetricsRegistry", "Writing action latency reports to " + dir);
+        try {
+            Files.createDirectories(dir);
+            List<ActionStats> snapshot = snapshot();
+            writeJson(snapshot, dir.resolve(FILE_NAME + ".json"));
+            writeCsv(snapshot, dir.resolve(FILE_NAME + ".csv"));
+            LogUtils.logSuccess("MetricsRegistry", "Wrote latency of " + snapshot.size() + " element actions");
+        } catch (IOException e) {
+            LogUtils.logError("MetricsRegistry", "Failed to write action latency reports", e);
+        }
+    }
+
+    void writeJson(List<ActionStats> snapshot, Path file) throws IOException {
+        JsonArray actions = new JsonArray();
+        for (ActionStats actionStats : snapshot) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("action", actionStats.getAction());
+            entry.addProperty("element", actionStats.getElementType());
+            entry.addProperty("locator", actionStats.getLocator());
+            entry.addProperty("count", actionStats.getTotal().getCount());
+            entry.add("total", toJson(actionStats.getTotal()));
+            for (Phase phase : Phase.values()) {
+                entry.add(phase.name().toLowerCase(Locale.ROOT), toJson(actionStats.getHistogram(phase)));
+            }
+            actions.add(entry);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(actions, writer);
+        }
+    }
+
+    void writeCsv(List<ActionStats> snapshot, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("action,element,locator,phase,count,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+            for (ActionStats actionStats : snapshot) {
+                writeCsvRow(writer, actionStats, "TOTAL", actionStats.getTotal());
+                for (Phase phase : Phase.values()) {
+                    writeCsvRow(writer, actionStats, phase.name(), actionStats.getHistogram(phase));
+                }
+            }
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, ActionStats actionStats, String phase,
+                                    LatencyHistogram histogram) throws IOException {
+        writer.write(String.format(Locale.ROOT, "%s,%s,\"%s\",%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+            actionStats.getAction(), actionStats.getElementType(), actionStats.getLocator().replace("\"", "\"\""),
+            phase, histogram.getCount(), histogram.getMean() / 1000.0, histogram.getPercentile(50) / 1000.0,
+            histogram.getPercentile(90) / 1000.0, histogram.getPercentile(99) / 1000.0,
+            histogram.getMax() / 1000.0));
+    }
+
+    private static JsonObject toJson(LatencyHistogram histogram) {
+        JsonObject json = new JsonObject();
+        json.addProperty("meanMs", histogram.getMean() / 1000.0);
+        json.addProperty("p50Ms", histogram.getPercentile(50) / 1000.0);
+        json.addProperty("p90Ms", histogram.getPercentile(90) / 1000.0);
+        json.addProperty("p99Ms", histogram.getPercentile(99) / 1000.0);
+        json.addProperty("maxMs", histogram.getMax() / 1000.0);
+        return json;
+    }
+
+    /**
+     * Histograms of one action on one element: the total and one per phase, in microseconds
+     */
+    public static class ActionStats {
+        private final String action;
+        private final String elementType;
+        private final String locator;
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+
+        ActionStats(String action, String elementType, String locator) {
+            this.action = action;
+            this.elementType = elementType;
+            this.locator = locator;
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        void record(long[] phaseNanos, long totalNanos) {
+            total.record(totalNanos / 1000);
+            for (int i = 0; i < phases.length; i++) {
+                phases[i].record(phaseNanos[i] / 1000);
+            }
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getElementType() {
+            return elementType;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public LatencyHistogram getTotal() {
+            return total;
+        }
+
+        public LatencyHistogram getHistogram(Phase phase) {
+            return phases[phase.ordinal()];
+        }
+    }
+}
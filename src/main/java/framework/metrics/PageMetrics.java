@@ -0,0 +1,159 @@
+package framework.metrics;
+
+import java.util.Map;
+
+/**
+ * Navigation timing and Core Web Vitals of one page load, as seen when the page finished loading.
+ * Times are milliseconds relative to navigation start; null when the browser does not report the
+ * metric. LCP is the largest paint so far, the browser may still update it after load.
+ */
+public class PageMetrics {
+    private final String page;
+    private final String url;
+    private final long capturedAt;
+    private final Double timeToFirstByte;
+    private final Double domContentLoaded;
+    private final Double loadEvent;
+    private final Long transferSize;
+    private final int requestCount;
+    private final Double firstContentfulPaint;
+    private final Double largestContentfulPaint;
+    private final double cumulativeLayoutShift;
+    private final int longTaskCount;
+    private final double longTaskTotal;
+    private final double longestTask;
+    private final double totalBlockingTime;
+    private final boolean earlyObserver;
+
+    public PageMetrics(String page, String url, long capturedAt, Double timeToFirstByte, Double domContentLoaded,
+                       Double loadEvent, Long transferSize, int requestCount, Double firstContentfulPaint,
+                       Double largestContentfulPaint, double cumulativeLayoutShift, int longTaskCount,
+                       double longTaskTotal, double longestTask, double totalBlockingTime, boolean earlyObserver) {
+        this.page = page;
+        this.url = url;
+        this.capturedAt = capturedAt;
+        this.timeToFirstByte = timeToFirstByte;
+        this.domContentLoaded = domContentLoaded;
+        this.loadEvent = loadEvent;
+        this.transferSize = transferSize;
+        this.requestCount = requestCount;
+        this.firstContentfulPaint = firstContentfulPaint;
+        this.largestContentfulPaint = largestContentfulPaint;
+        this.cumulativeLayoutShift = cumulativeLayoutShift;
+        this.longTaskCount = longTaskCount;
+        this.longTaskTotal = longTaskTotal;
+        this.longestTask = longestTask;
+        this.totalBlockingTime = totalBlockingTime;
+        this.earlyObserver = earlyObserver;
+    }
+
+    /**
+     * Build from the map returned by the collection script (see {@link PageMetricsCollector})
+     */
+    public static PageMetrics fromScriptResult(String page, Map<String, Object> result) {
+        return new PageMetrics(page, (String) result.get("url"), System.currentTimeMillis(),
+            toDouble(result.get("ttfb")), toDouble(result.get("domContentLoaded")), toDouble(result.get("load")),
+            result.get("transferSize") instanceof Number n ? n.longValue() : null, (int) orZero(result.get("requests")),
+            toDouble(result.get("fcp")), toDouble(result.get("lcp")), orZero(result.get("cls")),
+            (int) orZero(result.get("longTasks")), orZero(result.get("longTaskMs")), orZero(result.get("maxLongTask")),
+            orZero(result.get("tbt")),
+            Boolean.TRUE.equals(result.get("early")));
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number n ? n.doubleValue() : null;
+    }
+
+    private static double orZero(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Epoch milliseconds when the metrics were read
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public Double getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    public Double getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public Double getLoadEvent() {
+        return loadEvent;
+    }
+
+    public Long getTransferSize() {
+        return transferSize;
+    }
+
+    /**
+     * Document plus resource requests recorded by Resource Timing
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public Double getFirstContentfulPaint() {
+        return firstContentfulPaint;
+    }
+
+    public Double getLargestContentfulPaint() {
+        return largestContentfulPaint;
+    }
+
+    public double getCumulativeLayoutShift() {
+        return cumulativeLayoutShift;
+    }
+
+    public int getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public double getLongTaskTotal() {
+        return longTaskTotal;
+    }
+
+    public double getLongestTask() {
+        return longestTask;
+    }
+
+    /**
+     * Sum of the long task time beyond 50 ms each
+     */
+    public double getTotalBlockingTime() {
+        return totalBlockingTime;
+    }
+
+    /**
+     * True when the observers were injected before the page's own scripts ran (CDP);
+     * false when they were attached after load and only buffered entries were seen
+     */
+    public boolean isEarlyObserver() {
+        return earlyObserver;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: TTFB %s ms, DCL %s ms, load %s ms, FCP %s ms, LCP %s ms, CLS %.3f, "
+                + "%d requests, %d long tasks (TBT %.0f ms)", page, format(timeToFirstByte), format(domContentLoaded),
+            format(loadEvent), format(firstContentfulPaint), format(largestContentfulPaint),
+            cumulativeLayoutShift, requestCount, longTaskCount, totalBlockingTime);
+    }
+
+    private static String format(Double value) {
+        return value == null ? "n/a" : String.format("%.0f", value);
+    }
+}
@@ -0,0 +1,226 @@
+package framework.metrics;
+
+import com.google.gson.GsonBuilder;
+import framework.utils.ConfigManager;
+import framework.utils.DevToolsUtils;
+import framework.utils.JavaScriptUtils;
+import framework.utils.LogUtils;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects navigation timing and Core Web Vitals (FCP, LCP, CLS, long tasks) per page load.
+ *
+ * <p>On Chromium browsers a {@code PerformanceObserver} bootstrap is registered with
+ * {@code Page.addScriptToEvaluateOnNewDocument}, so it runs before the page's own scripts.
+ * Elsewhere the same bootstrap is attached when the metrics are read and sees only buffered
+ * entries (long tasks are not buffered, so they are missed). CLS is the sum of all layout shifts
+ * without recent input. Records are kept for the suite-level export ({@link #dump()}) and per
+ * thread until taken with {@link #takeThreadRecords()}.
+ */
+public class PageMetricsCollector {
+
+    public static final String FILE_NAME = "page-metrics";
+
+    private static final String BOOTSTRAP_SCRIPT =
+        "(function () {" +
+        "  if (window.__pageMetrics) return;" +
+        "  var m = window.__pageMetrics = {fcp: null, lcp: null, cls: 0, longTasks: 0, longTaskMs: 0, maxLongTask: 0, tbt: 0," +
+        "    early: !!window.__pageMetricsEarly};" +
+        // The default buffer of 250 entries would cap the request count
+        "  if (performance.setResourceTimingBufferSize) performance.setResourceTimingBufferSize(5000);" +
+        "  function observe(type, callback) {" +
+        "    try {" +
+        "      new PerformanceObserver(function (list) { list.getEntries().forEach(callback); })" +
+        "        .observe({type: type, buffered: true});" +
+        "    } catch (e) { /* entry type not supported by this browser */ }" +
+        "  }" +
+        "  observe('paint', function (e) { if (e.name === 'first-contentful-paint') m.fcp = e.startTime; });" +
+        "  observe('largest-contentful-paint', function (e) { m.lcp = e.startTime; });" +
+        "  observe('layout-shift', function (e) { if (!e.hadRecentInput) m.cls += e.value; });" +
+        "  observe('longtask', function (e) {" +
+        "    m.longTasks++; m.longTaskMs += e.duration; m.maxLongTask = Math.max(m.maxLongTask, e.duration);" +
+        "    m.tbt += Math.max(0, e.duration - 50);" +
+        "  });" +
+        "})();";
+
+    private static final String COLLECT_SCRIPT =
+        "var done = arguments[arguments.length - 1], newNavigationOnly = arguments[0];" +
+        "var navigation = performance.getEntriesByType('navigation')[0];" +
+        // The navigation entry is replaced only when a new document loads
+        "if (newNavigationOnly && navigation && window.__pageMetricsNavigation === navigation) { done(null); return; }" +
+        "if (navigation) window.__pageMetricsNavigation = navigation;" +
+        "var attachedLate = !window.__pageMetrics;" +
+        BOOTSTRAP_SCRIPT +
+        // Buffered entries are delivered in a later task
+        "setTimeout(function () {" +
+        "  var m = window.__pageMetrics;" +
+        "  var nav = performance.getEntriesByType('navigation')[0];" +
+        "  var fcp = m.fcp;" +
+        "  if (fcp === null) {" +
+        "    var paint = performance.getEntriesByName('first-contentful-paint')[0];" +
+        "    fcp = paint ? paint.startTime : null;" +
+        "  }" +
+        "  done({url: location.href, ttfb: nav ? nav.responseStart : null," +
+        "    domContentLoaded: nav ? nav.domContentLoadedEventEnd : null, load: nav ? nav.loadEventEnd : null," +
+        "    transferSize: nav ? nav.transferSize : null, requests: performance.getEntriesByType('resource').length + 1," +
+        "    fcp: fcp, lcp: m.lcp, cls: m.cls, longTasks: m.longTasks, longTaskMs: m.longTaskMs," +
+        "    maxLongTask: m.maxLongTask, tbt: m.tbt, early: m.early});" +
+        "}, attachedLate ? 50 : 0);";
+
+    private static final long COLLECT_TIMEOUT_MS = 5000;
+    private static final boolean ENABLED = ConfigManager.isPageMetricsCapture();
+
+    private static final Queue<PageMetrics> records = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<List<PageMetrics>> threadRecords = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<DevTools, Boolean> devToolsWithBootstrap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PageMetricsCollector() {
+        // Utility class
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Register the observer bootstrap for new documents of the current browser (once per
+     * DevTools connection). Call before navigating; a no-op without CDP.
+     */
+    public static void install() {
+        if (!ENABLED) {
+            return;
+        }
+        Optional<DevTools> maybeDevTools = DevToolsUtils.getDevTools();
+        if (maybeDevTools.isEmpty() || devToolsWithBootstrap.containsKey(maybeDevTools.get())) {
+            return;
+        }
+        DevTools devTools = maybeDevTools.get();
+        try {
+            devTools.send(DevToolsUtils.command("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", "window.__pageMetricsEarly = true;" + BOOTSTRAP_SCRIPT)));
+            devToolsWithBootstrap.put(devTools, Boolean.TRUE);
+            LogUtils.logSuccess("PageMetrics", "Performance observers registered for new documents");
+        } catch (Exception e) {
+            LogUtils.logWarning("PageMetrics", "Could not register performance observers: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the metrics of the current document and record them, even if this document
+     * was recorded before (e.g. after a client-side route change)
+     * @param pageName Page object name
+     * @return Metrics, or null when disabled or the page could not be read
+     */
+    public static PageMetrics collect(String pageName) {
+        return collect(pageName, false);
+    }
+
+    /**
+     * Read and record the metrics of the current document unless its navigation was already
+     * recorded, so repeated waits on one page load yield a single record
+     * @param pageName Page object name
+     * @return Metrics, or null when disabled, already recorded or the page could not be read
+     */
+    public static PageMetrics collectNavigation(String pageName) {
+        return collect(pageName, true);
+    }
+
+    private static PageMetrics collect(String pageName, boolean newNavigationOnly) {
+        if (!ENABLED) {
+            return null;
+        }
+        try {
+            Map<String, Object> result = JavaScriptUtils.executeAsyncJs(COLLECT_SCRIPT, COLLECT_TIMEOUT_MS,
+                newNavigationOnly);
+            if (result == null) {
+                LogUtils.logAction("PageMetrics", "Navigation of " + pageName + " already recorded");
+                return null;
+            }
+            PageMetrics metrics = PageMetrics.fromScriptResult(pageName, result);
+            records.add(metrics);
+            threadRecords.get().add(metrics);
+            LogUtils.logSuccess("PageMetrics", metrics.toString());
+            return metrics;
+        } catch (Exception e) {
+            LogUtils.logWarning("PageMetrics", "Failed to read page metrics for " + pageName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Return and clear the records collected on the current thread since the last call
+     */
+    public static List<PageMetrics> takeThreadRecords() {
+        List<PageMetrics> pending = threadRecords.get();
+        List<PageMetrics> taken = new ArrayList<>(pending);
+        pending.clear();
+        return taken;
+    }
+
+    /**
+     * All records of the run, in collection order
+     */
+    public static List<PageMetrics> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    /**
+     * Serialize records as a JSON array
+     */
+    public static String toJson(List<PageMetrics> metrics) {
+        return new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(metrics);
+    }
+
+    /**
+     * Write all records as JSON and CSV to the configured metrics directory
+     */
+    public static void dump() {
+        if (records.isEmpty()) {
+            return;
+        }
+        Path dir = Paths.get(ConfigManager.getMetricsDir());
+        LogUtils.logAction("PageMetrics", "Writing page metrics to " + dir);
+        List<PageMetrics> snapshot = getRecords();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(FILE_NAME + ".json"), toJson(snapshot), StandardCharsets.UTF_8);
+            try (Writer writer = Files.newBufferedWriter(dir.resolve(FILE_NAME + ".csv"), StandardCharsets.UTF_8)) {
+                writer.write("page,url,captured_at,ttfb_ms,dcl_ms,load_ms,transfer_bytes,requests,fcp_ms,lcp_ms,cls,"
+                    + "long_tasks,long_task_ms,longest_task_ms,tbt_ms,early_observer\n");
+                for (PageMetrics m : snapshot) {
+                    writer.write(String.format(Locale.ROOT, "%s,\"%s\",%d,%s,%s,%s,%s,%d,%s,%s,%.4f,%d,%.1f,%.1f,%.1f,%s%n",
+                        m.getPage(), m.getUrl().replace("\"", "\"\""), m.getCapturedAt(),
+                        csv(m.getTimeToFirstByte()), csv(m.getDomContentLoaded()), csv(m.getLoadEvent()),
+                        m.getTransferSize() != null ? m.getTransferSize() : "", m.getRequestCount(),
+                        csv(m.getFirstContentfulPaint()), csv(m.getLargestContentfulPaint()),
+                        m.getCumulativeLayoutShift(), m.getLongTaskCount(), m.getLongTaskTotal(),
+                        m.getLongestTask(), m.getTotalBlockingTime(), m.isEarlyObserver()));
+                }
+            }
+            LogUtils.logSuccess("PageMetrics", "Wrote metrics of " + snapshot.size() + " page loads");
+        } catch (IOException e) {
+            LogUtils.logError("PageMetrics", "Failed to write page metrics", e);
+        }
+    }
+
+    private static String csv(Double value) {
+        return value == null ? "" : String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -0,0 +1,211 @@
+package framework.metrics;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Declarative performance budgets per page object, checked against {@link PageMetrics}.
+ *
+ * <p>Budgets live in a JSON file next to the locators (config {@code performanceBudgetFile}),
+ * keyed by page class name; every limit is a maximum:
+ * <pre>
+ * {
+ *   "SearchResultsPage": {"largestContentfulPaint": 2500, "requestCount": 120, "longestTask": 200}
+ * }
+ * </pre>
+ * Violations do not throw: they are kept per thread until taken with
+ * {@link #takeThreadViolations()}, so a test listener can report them as soft failures.
+ */
+public class PerformanceBudgets {
+
+    private static final Map<String, Function<PageMetrics, Number>> METRICS = new LinkedHashMap<>();
+
+    static {
+        METRICS.put("timeToFirstByte", PageMetrics::getTimeToFirstByte);
+        METRICS.put("domContentLoaded", PageMetrics::getDomContentLoaded);
+        METRICS.put("loadEvent", PageMetrics::getLoadEvent);
+        METRICS.put("transferSize", PageMetrics::getTransferSize);
+        METRICS.put("requestCount", PageMetrics::getRequestCount);
+        METRICS.put("firstContentfulPaint", PageMetrics::getFirstContentfulPaint);
+        METRICS.put("largestContentfulPaint", PageMetrics::getLargestContentfulPaint);
+        METRICS.put("cumulativeLayoutShift", PageMetrics::getCumulativeLayoutShift);
+        METRICS.put("longTaskCount", PageMetrics::getLongTaskCount);
+        METRICS.put("longestTask", PageMetrics::getLongestTask);
+        METRICS.put("totalBlockingTime", PageMetrics::getTotalBlockingTime);
+    }
+
+    private static final ThreadLocal<List<Violation>> threadViolations = ThreadLocal.withInitial(ArrayList::new);
+    private static volatile Map<String, Map<String, Double>> budgets;
+
+    private PerformanceBudgets() {
+        // Utility class
+    }
+
+    /**
+     * Check page metrics against the page's budget and keep the violations for the current thread
+     * @param metrics Measured metrics, looked up in the budget file by their page key (ignored when null)
+     * @return Violations of this check, empty when within budget or no budget is defined
+     */
+    public static List<Violation> check(PageMetrics metrics) {
+        if (metrics == null) {
+            return Collections.emptyList();
+        }
+        String page = metrics.getPage();
+        Map<String, Double> budget = getBudgets().get(page);
+        if (budget == null) {
+            return Collections.emptyList();
+        }
+        List<Violation> violations = evaluate(page, budget, metrics);
+        if (violations.isEmpty()) {
+            LogUtils.logSuccess("PerformanceBudgets", page + " is within budget");
+        } else {
+            violations.forEach(v -> LogUtils.logWarning("PerformanceBudgets", v.toString()));
+            threadViolations.get().addAll(violations);
+        }
+        return violations;
+    }
+
+    /**
+     * Compare metrics with a budget; metrics the browser did not report are skipped
+     */
+    public static List<Violation> evaluate(String page, Map<String, Double> budget, PageMetrics metrics) {
+        List<Violation> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> limit : budget.entrySet()) {
+            Function<PageMetrics, Number> metric = METRICS.get(limit.getKey());
+            if (metric == null) {
+                LogUtils.logWarning("PerformanceBudgets", "Unknown budget metric for " + page + ": " + limit.getKey());
+                continue;
+            }
+            Number actual = metric.apply(metrics);
+            if (actual != null && actual.doubleValue() > limit.getValue()) {
+                violations.add(new Violation(page, metrics.getUrl(), limit.getKey(), limit.getValue(),
+                    actual.doubleValue(), metrics));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Return and clear the violations found on the current thread since the last call
+     */
+    public static List<Violation> takeThreadViolations() {
+        List<Violation> pending = threadViolations.get();
+        List<Violation> taken = new ArrayList<>(pending);
+        pending.clear();
+        return taken;
+    }
+
+    private static Map<String, Map<String, Double>> getBudgets() {
+        Map<String, Map<String, Double>> loaded = budgets;
+        if (loaded == null) {
+            synchronized (PerformanceBudgets.class) {
+                if (budgets == null) {
+                    budgets = load(ConfigManager.getPerformanceBudgetFile());
+                }
+                loaded = budgets;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Parse a budget file from resources, falling back to a plain file path
+     */
+    static Map<String, Map<String, Double>> load(String filePath) {
+        Map<String, Map<String, Double>> result = new LinkedHashMap<>();
+        try {
+            JsonObject root;
+            InputStream inputStream = PerformanceBudgets.class.getClassLoader().getResourceAsStream(filePath);
+            Path file = Paths.get(filePath);
+            if (inputStream != null) {
+                try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                    root = JsonParser.parseReader(reader).getAsJsonObject();
+                }
+            } else if (Files.isRegularFile(file)) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    root = JsonParser.parseReader(reader).getAsJsonObject();
+                }
+            } else {
+                LogUtils.logWarning("PerformanceBudgets", "No budget file found at " + filePath);
+                return result;
+            }
+            for (Map.Entry<String, JsonElement> page : root.entrySet()) {
+                Map<String, Double> limits = new LinkedHashMap<>();
+                page.getValue().getAsJsonObject().entrySet()
+                    .forEach(limit -> limits.put(limit.getKey(), limit.getValue().getAsDouble()));
+                result.put(page.getKey(), limits);
+            }
+            LogUtils.logSuccess("PerformanceBudgets", "Loaded budgets for " + result.keySet());
+        } catch (Exception e) {
+            LogUtils.logError("PerformanceBudgets", "Failed to load budgets from " + filePath, e);
+        }
+        return result;
+    }
+
+    /**
+     * One metric over its budget, with the full measurement for reporting
+     */
+    public static class Violation {
+        private final String page;
+        private final String url;
+        private final String metric;
+        private final double limit;
+        private final double actual;
+        private final PageMetrics metrics;
+
+        Violation(String page, String url, String metric, double limit, double actual, PageMetrics metrics) {
+            this.page = page;
+            this.url = url;
+            this.metric = metric;
+            this.limit = limit;
+            this.actual = actual;
+            this.metrics = metrics;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        public double getActual() {
+            return actual;
+        }
+
+        public PageMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s %.3f exceeds budget %.3f (%s)", page, metric, actual, limit, url);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package framework.metrics;
+
+/**
+ * Where the time of an element action goes
+ */
+public enum Phase {
+    /** WebDriver findElement(s) calls */
+    LOCATE,
+    /** Waiting for a condition (between lookups) */
+    WAIT,
+    /** The interaction itself: click, read, script, etc. */
+    ACT
+}
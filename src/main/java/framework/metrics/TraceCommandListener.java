@@ -0,0 +1,38 @@
+package framework.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Records every WebDriver, WebElement, navigation and options call as a span of the running
+ * {@link TraceRecorder} trace. Registered with {@link TraceRecorder#installCommandListener()}.
+ */
+public class TraceCommandListener implements WebDriverListener {
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        TraceRecorder.begin(method.getName(), TraceRecorder.COMMAND, describe(args));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        TraceRecorder.end();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed calls skip the "after" callbacks
+        TraceRecorder.end();
+    }
+
+    private static String describe(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        // Locators and URLs are the useful part; scripts and key sequences are cut short
+        String first = String.valueOf(args[0]);
+        return first.length() > 120 ? first.substring(0, 117) + "..." : first;
+    }
+}
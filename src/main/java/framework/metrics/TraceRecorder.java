@@ -0,0 +1,262 @@
+package framework.metrics;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timeline of one test as nested spans (test, configuration method, page, element action, wait,
+ * WebDriver command), exported in Chrome Trace Event format to {@code traceDir/<test>.json}.
+ *
+ * <p>Spans are kept on a stack per thread and only recorded between {@link #startTest(String)} and
+ * {@link #finishTest(String)} on that thread; elsewhere {@link #span} returns a shared no-op.
+ * Each event carries the process and thread id, so traces of parallel tests stay apart.
+ */
+public final class TraceRecorder {
+
+    public static final String TEST = "test";
+    public static final String PAGE = "page";
+    public static final String CONFIG = "config";
+    public static final String ACTION = "action";
+    public static final String WAIT = "wait";
+    public static final String COMMAND = "webdriver";
+
+    private static final boolean ENABLED = ConfigManager.isTraceCapture();
+    private static final long PID = ProcessHandle.current().pid();
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+    private static final ConcurrentMap<String, AtomicInteger> fileNames = new ConcurrentHashMap<>();
+    private static final AtomicBoolean commandListenerAdded = new AtomicBoolean();
+
+    private static final Span NOOP = new Span(false);
+    private static final Span OPEN = new Span(true);
+
+    private TraceRecorder() {
+        // Utility class
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Whether a trace is being recorded on the current thread
+     */
+    public static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Register {@link TraceCommandListener} once for drivers created from now on
+     */
+    public static void installCommandListener() {
+        if (ENABLED && commandListenerAdded.compareAndSet(false, true)) {
+            WebDriverRunner.addListener(new TraceCommandListener());
+        }
+    }
+
+    /**
+     * Start recording a trace on the current thread, with an open span for the test itself
+     * @param testId Test name, also used for the file name
+     */
+    public static void startTest(String testId) {
+        if (!ENABLED) {
+            return;
+        }
+        Trace trace = new Trace(testId);
+        CURRENT.set(trace);
+        trace.begin(testId, TEST, null);
+    }
+
+    /**
+     * Rename the trace of the current thread, e.g. when it was started by a configuration
+     * method before the test was known
+     * @param testId Test name, also used for the file name
+     */
+    public static void renameTest(String testId) {
+        Trace trace = CURRENT.get();
+        if (trace != null) {
+            trace.testId = testId;
+            trace.open.peekFirst().name = testId;
+        }
+    }
+
+    /**
+     * Close all open spans and write the trace of the current thread
+     * @param status Test status, added to the test span
+     * @return Trace file, or null if no trace was recorded
+     */
+    public static Path finishTest(String status) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        CURRENT.remove();
+        trace.open.peekFirst().detail = status;
+        while (!trace.open.isEmpty()) {
+            trace.end();
+        }
+        return write(trace);
+    }
+
+    /**
+     * Open a span; close it to end the span
+     * @param name Span name
+     * @param category One of the category constants
+     * @param detail Extra information shown with the span, or null
+     */
+    public static Span span(String name, String category, String detail) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return NOOP;
+        }
+        trace.begin(name, category, detail);
+        return OPEN;
+    }
+
+    /**
+     * Open a span that is ended by a later {@link #end()} on the same thread
+     */
+    public static void begin(String name, String category, String detail) {
+        Trace trace = CURRENT.get();
+        if (trace != null) {
+            trace.begin(name, category, detail);
+        }
+    }
+
+    /**
+     * End the innermost open span of the current thread
+     */
+    public static void end() {
+        Trace trace = CURRENT.get();
+        // The test span is only ended by finishTest
+        if (trace != null && trace.open.size() > 1) {
+            trace.end();
+        }
+    }
+
+    static String toJson(String testId, long tid, String threadName, List<Event> events) {
+        JsonArray traceEvents = new JsonArray();
+        JsonObject threadMeta = new JsonObject();
+        threadMeta.addProperty("name", "thread_name");
+        threadMeta.addProperty("ph", "M");
+        threadMeta.addProperty("pid", PID);
+        threadMeta.addProperty("tid", tid);
+        JsonObject threadArgs = new JsonObject();
+        threadArgs.addProperty("name", threadName);
+        threadMeta.add("args", threadArgs);
+        traceEvents.add(threadMeta);
+        for (Event event : events) {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", event.name);
+            json.addProperty("cat", event.category);
+            json.addProperty("ph", "X");
+            json.addProperty("ts", event.startMicros);
+            json.addProperty("dur", event.durationMicros);
+            json.addProperty("pid", PID);
+            json.addProperty("tid", tid);
+            if (event.detail != null) {
+                JsonObject args = new JsonObject();
+                args.addProperty("detail", event.detail);
+                json.add("args", args);
+            }
+            traceEvents.add(json);
+        }
+        JsonObject root = new JsonObject();
+        root.add("traceEvents", traceEvents);
+        root.addProperty("displayTimeUnit", "ms");
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("test", testId);
+        root.add("otherData", metadata);
+        return new GsonBuilder().create().toJson(root);
+    }
+
+    private static Path write(Trace trace) {
+        String baseName = trace.testId.replaceAll("[^A-Za-z0-9._-]", "_");
+        int seq = fileNames.computeIfAbsent(baseName, n -> new AtomicInteger()).incrementAndGet();
+        Path file = Paths.get(ConfigManager.getTraceDir(), seq == 1 ? baseName + ".json" : baseName + "-" + seq + ".json");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, toJson(trace.testId, trace.tid, trace.threadName, trace.events),
+                StandardCharsets.UTF_8);
+            LogUtils.logSuccess("TraceRecorder", "Wrote " + trace.events.size() + " spans to " + file);
+            return file;
+        } catch (IOException e) {
+            LogUtils.logError("TraceRecorder", "Failed to write trace of " + trace.testId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Ends the innermost open span when closed
+     */
+    public static final class Span implements AutoCloseable {
+        private final boolean open;
+
+        private Span(boolean open) {
+            this.open = open;
+        }
+
+        @Override
+        public void close() {
+            if (open) {
+                end();
+            }
+        }
+    }
+
+    static final class Event {
+        String name;
+        final String category;
+        final long startMicros;
+        long durationMicros;
+        String detail;
+
+        Event(String name, String category, long startMicros, String detail) {
+            this.name = name;
+            this.category = category;
+            this.startMicros = startMicros;
+            this.detail = detail;
+        }
+    }
+
+    private static final class Trace {
+        private String testId;
+        private final long tid = Thread.currentThread().getId();
+        private final String threadName = Thread.currentThread().getName();
+        private final Deque<Event> open = new ArrayDeque<>();
+        private final List<Event> events = new ArrayList<>();
+
+        private Trace(String testId) {
+            this.testId = testId;
+        }
+
+        private void begin(String name, String category, String detail) {
+            open.addLast(new Event(name, category, System.nanoTime() / 1000, detail));
+        }
+
+        private void end() {
+            Event event = open.pollLast();
+            if (event != null) {
+                event.durationMicros = System.nanoTime() / 1000 - event.startMicros;
+                events.add(event);
+            }
+        }
+    }
+}
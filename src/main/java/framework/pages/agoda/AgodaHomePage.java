@@ -43,4 +43,14 @@ public class AgodaHomePage extends BasePage {
         searchButton = (Button) locatorManager.createElement(pageLocators, "searchButton");
     }
 
+    @Override
+    protected String getLocatorFile() {
+        return LOCATOR_FILE;
+    }
+
+    @Override
+    protected String getPageKey() {
+        return PAGE_NAME;
+    }
+
 }
@@ -40,4 +40,14 @@ public class SearchResultsPage extends BasePage {
         priceAscendingOption = (Button) locatorManager.createElement(pageLocators, "priceAscendingOption");
         priceList = (ElementCollection) locatorManager.createElement(pageLocators, "priceList");
     }
+
+    @Override
+    protected String getLocatorFile() {
+        return LOCATOR_FILE;
+    }
+
+    @Override
+    protected String getPageKey() {
+        return PAGE_NAME;
+    }
 }
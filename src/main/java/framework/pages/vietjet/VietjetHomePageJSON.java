@@ -48,6 +48,16 @@ public class VietjetHomePageJSON extends BasePage {
         roundTripRadio = (Button) locatorManager.createElement(pageLocators, "roundTripRadio");
     }
     
+    @Override
+    protected String getLocatorFile() {
+        return LOCATOR_FILE;
+    }
+
+    @Override
+    protected String getPageKey() {
+        return PAGE_NAME;
+    }
+
     /**
      * Select flight type (one way or round trip)
      * @param isRoundTrip true for round trip, false for one way
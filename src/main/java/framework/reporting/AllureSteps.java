@@ -0,0 +1,110 @@
+package framework.reporting;
+
+import framework.utils.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+
+import java.util.UUID;
+
+/**
+ * Allure steps for element actions and page loads. Steps carry the lifecycle's start and
+ * stop times and are only emitted while an Allure test case is running on the thread.
+ *
+ * <p>Usage mirrors {@link framework.metrics.ActionTimer}: open the step as a try resource and
+ * call {@link #failed(Throwable)} first thing in the catch block. The resource is already closed
+ * there, so the step closed last on the thread is the one that failed.
+ */
+public class AllureSteps {
+
+    private static final boolean ENABLED = ConfigManager.isAllureStepsEnabled();
+    private static final Step NOOP = new Step(null, null);
+
+    private static final ThreadLocal<StepResult> lastClosed = new ThreadLocal<>();
+    private static final ThreadLocal<StepResult> lastFailed = new ThreadLocal<>();
+    private static final ThreadLocal<Throwable> lastError = new ThreadLocal<>();
+
+    private AllureSteps() {
+        // Utility class
+    }
+
+    /**
+     * Start a step named "{elementInfo} - {action}"
+     * @param elementInfo Element or page description, as used for logging
+     * @param action Action description, as used for logging
+     * @return Step to close when the action ends
+     */
+    public static Step start(String elementInfo, String action) {
+        if (!ENABLED) {
+            return NOOP;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return NOOP;
+        }
+        String uuid = UUID.randomUUID().toString();
+        StepResult result = new StepResult().setName(elementInfo + " - " + action);
+        lifecycle.startStep(uuid, result);
+        return new Step(uuid, result);
+    }
+
+    /**
+     * Mark the step closed last on this thread as failed. Call from the catch block that
+     * follows the step's try statement.
+     * @param error Failure cause
+     */
+    public static void failed(Throwable error) {
+        StepResult step = lastClosed.get();
+        lastClosed.remove();
+        if (step == null) {
+            return;
+        }
+        // The step is already part of its parent, so updating the result object is enough
+        step.setStatus(ResultsUtils.getStatus(error).orElse(Status.BROKEN))
+            .setStatusDetails(ResultsUtils.getStatusDetails(error).orElse(null));
+        // Inner steps fail first and the error is rethrown; keep the innermost one as the target
+        if (lastError.get() != error) {
+            lastError.set(error);
+            lastFailed.set(step);
+        }
+    }
+
+    /**
+     * Return and clear the innermost failed step of the current test on this thread
+     * @return Step result, or null if no step failed
+     */
+    public static StepResult takeFailedStep() {
+        StepResult step = lastFailed.get();
+        lastFailed.remove();
+        lastError.remove();
+        lastClosed.remove();
+        return step;
+    }
+
+    /**
+     * Running step; closing it stops the step as passed unless {@link #failed(Throwable)} follows
+     */
+    public static final class Step implements AutoCloseable {
+        private final String uuid;
+        private final StepResult result;
+
+        private Step(String uuid, StepResult result) {
+            this.uuid = uuid;
+            this.result = result;
+        }
+
+        @Override
+        public void close() {
+            if (uuid == null) {
+                lastClosed.remove();
+                return;
+            }
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+            lifecycle.stopStep(uuid);
+            lastClosed.set(result);
+        }
+    }
+}
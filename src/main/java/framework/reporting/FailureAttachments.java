@@ -0,0 +1,125 @@
+package framework.reporting;
+
+import com.codeborne.selenide.WebDriverRunner;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.StepResult;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Screenshot, page source and recent log lines for failed tests. Nothing is captured while
+ * tests pass. On failure the raw data is read on the test thread (the driver is bound to it and
+ * the page keeps changing), then decoded and written to the Allure results by a background
+ * writer, so the test thread does not wait for disk I/O.
+ */
+public class FailureAttachments {
+
+    private static final boolean ENABLED = ConfigManager.isFailureAttachments();
+    private static final int QUEUE_CAPACITY = 64;
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    // When the queue is full the test thread writes itself rather than dropping attachments
+    private static final ExecutorService writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "allure-attachment-writer");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    private static final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_TIMEOUT)));
+    }
+
+    private FailureAttachments() {
+        // Utility class
+    }
+
+    /**
+     * Attach failure details of the current test. They go to the innermost failed step, or
+     * to the test case when no step failed.
+     * @param failedStep Step from {@link AllureSteps#takeFailedStep()}, or null
+     */
+    public static void capture(StepResult failedStep) {
+        if (!ENABLED) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (failedStep == null && lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
+        LogUtils.logAction("FailureAttachments", "Capturing failure details");
+        List<String> logLines = LogUtils.getRecentLines();
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            WebDriver driver = WebDriverRunner.getWebDriver();
+            if (driver instanceof TakesScreenshot) {
+                try {
+                    String png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+                    attach(lifecycle, failedStep, "Screenshot", "image/png", ".png",
+                        () -> Base64.getMimeDecoder().decode(png));
+                } catch (Exception e) {
+                    LogUtils.logWarning("FailureAttachments", "Could not take screenshot: " + e.getMessage());
+                }
+            }
+            try {
+                String pageSource = driver.getPageSource();
+                attach(lifecycle, failedStep, "Page source", "text/html", ".html",
+                    () -> pageSource.getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                LogUtils.logWarning("FailureAttachments", "Could not read page source: " + e.getMessage());
+            }
+        }
+        attach(lifecycle, failedStep, "Log", "text/plain", ".txt",
+            () -> String.join("\n", logLines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Wait for queued attachments to be written
+     * @param timeout Maximum time to wait
+     */
+    public static void flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<?> next;
+        while ((next = pending.poll()) != null) {
+            try {
+                next.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                LogUtils.logWarning("FailureAttachments", "Attachment not written: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void attach(AllureLifecycle lifecycle, StepResult step, String name, String type,
+                               String extension, Supplier<byte[]> content) {
+        String source;
+        if (step != null) {
+            // The step has stopped already, so register the attachment on its result directly
+            source = UUID.randomUUID() + "-attachment" + extension;
+            step.getAttachments().add(new Attachment().setName(name).setType(type).setSource(source));
+        } else {
+            source = lifecycle.prepareAttachment(name, type, extension);
+        }
+        pending.removeIf(Future::isDone);
+        pending.add(writer.submit(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(content.get()))));
+    }
+}
@@ -0,0 +1,281 @@
+package framework.reporting;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only pass/fail history per test, kept as JSON lines across runs.
+ *
+ * <p>The flakiness score is the recovery rate over the last {@value #WINDOW} results: the share of
+ * consecutive results where a failure is followed by a pass. Only recoveries count, so a real
+ * regression (passes, then failures from some run on) scores 0 however it started, and so does a
+ * test that always fails; neither is retried or quarantined. A test that alternates scores 0.5.
+ * A failed attempt that passes on retry counts as a recovery.
+ */
+public class TestHistoryStore {
+
+    public static final String STATS_FILE_NAME = "flakiness.csv";
+
+    static final int WINDOW = 50;
+    static final int MIN_RUNS = 3;
+
+    public enum Outcome { PASS, FAIL }
+
+    private static final Gson GSON = new Gson();
+
+    private final Path file;
+    private final double flakyThreshold;
+    private final double quarantineThreshold;
+    private final String runId = UUID.randomUUID().toString();
+    private final Map<String, Deque<Record>> history = new ConcurrentHashMap<>();
+
+    TestHistoryStore(Path file, double flakyThreshold, double quarantineThreshold) {
+        this.file = file;
+        this.flakyThreshold = flakyThreshold;
+        this.quarantineThreshold = quarantineThreshold;
+        load();
+    }
+
+    private static final class Holder {
+        private static final TestHistoryStore INSTANCE = new TestHistoryStore(
+            Paths.get(ConfigManager.getTestHistoryFile()),
+            ConfigManager.getFlakyThreshold(),
+            ConfigManager.getQuarantineThreshold());
+    }
+
+    public static TestHistoryStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Append one result to the history file
+     * @param testId Stable test id, e.g. the qualified method name
+     * @param outcome Pass or fail
+     * @param durationMs Duration of this attempt
+     */
+    public synchronized void record(String testId, Outcome outcome, long durationMs) {
+        Record record = new Record(testId, outcome, durationMs, System.currentTimeMillis(), runId);
+        addToHistory(record);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, GSON.toJson(record) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LogUtils.logWarning("TestHistory", "Could not append to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Statistics over the recent history of one test
+     */
+    public Stats getStats(String testId) {
+        Deque<Record> records = history.get(testId);
+        List<Record> recent;
+        synchronized (this) {
+            recent = records == null ? List.of() : new ArrayList<>(records);
+        }
+        int failures = 0;
+        int recoveries = 0;
+        long failedTimeMs = 0;
+        Outcome previous = null;
+        for (Record record : recent) {
+            if (record.outcome == Outcome.FAIL) {
+                failures++;
+                failedTimeMs += record.durationMs;
+            }
+            if (previous == Outcome.FAIL && record.outcome == Outcome.PASS) {
+                recoveries++;
+            }
+            previous = record.outcome;
+        }
+        double score = recent.size() > 1 ? (double) recoveries / (recent.size() - 1) : 0;
+        return new Stats(testId, recent.size(), failures, recoveries, score, failedTimeMs);
+    }
+
+    /**
+     * Statistics of all known tests, most time spent in failed attempts first
+     */
+    public List<Stats> getAllStats() {
+        List<Stats> all = new ArrayList<>();
+        for (String testId : history.keySet()) {
+            all.add(getStats(testId));
+        }
+        all.sort(Comparator.comparingLong(Stats::getFailedTimeMs).reversed()
+            .thenComparing(Stats::getTestId));
+        return all;
+    }
+
+    /**
+     * Whether a failure of this test is worth a retry
+     */
+    public boolean isFlaky(String testId) {
+        Stats stats = getStats(testId);
+        return stats.getRuns() >= MIN_RUNS && stats.getFlakinessScore() >= flakyThreshold;
+    }
+
+    /**
+     * Whether this test flakes so often that it should run separately
+     */
+    public boolean isQuarantined(String testId) {
+        Stats stats = getStats(testId);
+        return stats.getRuns() >= MIN_RUNS && stats.getFlakinessScore() >= quarantineThreshold;
+    }
+
+    /**
+     * Write statistics of all known tests as CSV
+     */
+    public void writeStats(Path csvFile) {
+        List<Stats> all = getAllStats();
+        if (all.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(csvFile.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+                writer.write("test,runs,failures,recoveries,flakiness_score,failed_time_ms,quarantined\n");
+                for (Stats stats : all) {
+                    writer.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%d,%s%n",
+                        stats.getTestId(), stats.getRuns(), stats.getFailures(), stats.getRecoveries(),
+                        stats.getFlakinessScore(), stats.getFailedTimeMs(), isQuarantined(stats.getTestId())));
+                }
+            }
+            LogUtils.logSuccess("TestHistory", "Wrote flakiness statistics of " + all.size() + " tests to " + csvFile);
+        } catch (IOException e) {
+            LogUtils.logError("TestHistory", "Failed to write flakiness statistics", e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        int skipped = 0;
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Record record = GSON.fromJson(line, Record.class);
+                    if (record != null && record.test != null && record.outcome != null) {
+                        addToHistory(record);
+                    } else {
+                        skipped++;
+                    }
+                } catch (JsonParseException e) {
+                    // A run killed mid-write leaves a partial last line
+                    skipped++;
+                }
+            }
+            LogUtils.logSuccess("TestHistory", "Loaded history of " + history.size() + " tests from " + file
+                + (skipped > 0 ? " (" + skipped + " unreadable lines skipped)" : ""));
+        } catch (IOException e) {
+            LogUtils.logWarning("TestHistory", "Could not read " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void addToHistory(Record record) {
+        Deque<Record> records = history.computeIfAbsent(record.test, t -> new ArrayDeque<>());
+        synchronized (this) {
+            records.addLast(record);
+            if (records.size() > WINDOW) {
+                records.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * One line of the history file
+     */
+    private static final class Record {
+        private final String test;
+        private final Outcome outcome;
+        private final long durationMs;
+        private final long timestamp;
+        private final String run;
+
+        Record(String test, Outcome outcome, long durationMs, long timestamp, String run) {
+            this.test = test;
+            this.outcome = outcome;
+            this.durationMs = durationMs;
+            this.timestamp = timestamp;
+            this.run = run;
+        }
+    }
+
+    /**
+     * Flakiness statistics of one test
+     */
+    public static class Stats {
+        private final String testId;
+        private final int runs;
+        private final int failures;
+        private final int recoveries;
+        private final double flakinessScore;
+        private final long failedTimeMs;
+
+        public Stats(String testId, int runs, int failures, int recoveries, double flakinessScore, long failedTimeMs) {
+            this.testId = testId;
+            this.runs = runs;
+            this.failures = failures;
+            this.recoveries = recoveries;
+            this.flakinessScore = flakinessScore;
+            this.failedTimeMs = failedTimeMs;
+        }
+
+        public String getTestId() {
+            return testId;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Number of failures directly followed by a pass
+         */
+        public int getRecoveries() {
+            return recoveries;
+        }
+
+        public double getFlakinessScore() {
+            return flakinessScore;
+        }
+
+        public long getFailedTimeMs() {
+            return failedTimeMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: %d runs, %d failures, flakiness %.2f", testId, runs, failures,
+                flakinessScore);
+        }
+    }
+}
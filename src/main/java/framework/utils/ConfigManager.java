@@ -132,4 +132,218 @@ public class ConfigManager {
         }
         return url;
     }
+
+    public static boolean isLocatorHotReload() {
+        LogUtils.logAction("ConfigManager", "Checking if locator hot reload is enabled");
+        boolean hotReload = Boolean.parseBoolean(getOrDefault("locatorHotReload", "false"));
+        LogUtils.logSuccess("ConfigManager", "Locator hot reload: " + (hotReload ? "enabled" : "disabled"));
+        return hotReload;
+    }
+
+    public static String getLocatorSourceDir() {
+        LogUtils.logAction("ConfigManager", "Getting locator source directory");
+        String dir = getOrDefault("locatorSourceDir", "src/main/resources/locators");
+        LogUtils.logSuccess("ConfigManager", "Locator source directory: " + dir);
+        return dir;
+    }
+
+    public static String getDomSnapshotDir() {
+        LogUtils.logAction("ConfigManager", "Getting DOM snapshot directory");
+        String dir = getOrDefault("domSnapshotDir", "dom-snapshots");
+        LogUtils.logSuccess("ConfigManager", "DOM snapshot directory: " + dir);
+        return dir;
+    }
+
+    public static boolean isDomSnapshotCapture() {
+        LogUtils.logAction("ConfigManager", "Checking if DOM snapshot capture is enabled");
+        boolean capture = Boolean.parseBoolean(getOrDefault("domSnapshotCapture", "false"));
+        LogUtils.logSuccess("ConfigManager", "DOM snapshot capture: " + (capture ? "enabled" : "disabled"));
+        return capture;
+    }
+
+    public static int getSuggestionQuietPeriod() {
+        LogUtils.logAction("ConfigManager", "Getting suggestion quiet period");
+        try {
+            int quietPeriod = Integer.parseInt(getOrDefault("suggestionQuietPeriod", "300"));
+            LogUtils.logSuccess("ConfigManager", "Suggestion quiet period: " + quietPeriod + "ms");
+            return quietPeriod;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid suggestion quiet period value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 300ms");
+            return 300;
+        }
+    }
+
+    public static int getPaginationQuietPeriod() {
+        LogUtils.logAction("ConfigManager", "Getting pagination quiet period");
+        try {
+            int quietPeriod = Integer.parseInt(getOrDefault("paginationQuietPeriod", "150"));
+            LogUtils.logSuccess("ConfigManager", "Pagination quiet period: " + quietPeriod + "ms");
+            return quietPeriod;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid pagination quiet period value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 150ms");
+            return 150;
+        }
+    }
+
+    public static String getMetricsDir() {
+        LogUtils.logAction("ConfigManager", "Getting metrics directory");
+        String dir = getOrDefault("metricsDir", "target/metrics");
+        LogUtils.logSuccess("ConfigManager", "Metrics directory: " + dir);
+        return dir;
+    }
+
+    public static boolean isMetricsEnabled() {
+        LogUtils.logAction("ConfigManager", "Checking if action metrics are enabled");
+        boolean enabled = Boolean.parseBoolean(getOrDefault("metricsEnabled", "true"));
+        LogUtils.logSuccess("ConfigManager", "Action metrics: " + (enabled ? "enabled" : "disabled"));
+        return enabled;
+    }
+
+    public static boolean isPageMetricsCapture() {
+        LogUtils.logAction("ConfigManager", "Checking if page metrics capture is enabled");
+        boolean capture = Boolean.parseBoolean(getOrDefault("pageMetricsCapture", "true"));
+        LogUtils.logSuccess("ConfigManager", "Page metrics capture: " + (capture ? "enabled" : "disabled"));
+        return capture;
+    }
+
+    public static String getPerformanceBudgetFile() {
+        LogUtils.logAction("ConfigManager", "Getting performance budget file");
+        String file = getOrDefault("performanceBudgetFile", "locators/performance_budgets.json");
+        LogUtils.logSuccess("ConfigManager", "Performance budget file: " + file);
+        return file;
+    }
+
+    public static boolean isAllureStepsEnabled() {
+        LogUtils.logAction("ConfigManager", "Checking if Allure steps are enabled");
+        boolean enabled = Boolean.parseBoolean(getOrDefault("allureSteps", "true"));
+        LogUtils.logSuccess("ConfigManager", "Allure steps: " + (enabled ? "enabled" : "disabled"));
+        return enabled;
+    }
+
+    public static boolean isFailureAttachments() {
+        LogUtils.logAction("ConfigManager", "Checking if failure attachments are enabled");
+        boolean enabled = Boolean.parseBoolean(getOrDefault("failureAttachments", "true"));
+        LogUtils.logSuccess("ConfigManager", "Failure attachments: " + (enabled ? "enabled" : "disabled"));
+        return enabled;
+    }
+
+    public static String getTestHistoryFile() {
+        LogUtils.logAction("ConfigManager", "Getting test history file");
+        String file = getOrDefault("testHistoryFile", "test-history/results.jsonl");
+        LogUtils.logSuccess("ConfigManager", "Test history file: " + file);
+        return file;
+    }
+
+    public static double getFlakyThreshold() {
+        LogUtils.logAction("ConfigManager", "Getting flakiness threshold for retries");
+        try {
+            double threshold = Double.parseDouble(getOrDefault("flakyThreshold", "0.1"));
+            LogUtils.logSuccess("ConfigManager", "Flakiness threshold: " + threshold);
+            return threshold;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid flakiness threshold value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 0.1");
+            return 0.1;
+        }
+    }
+
+    public static double getQuarantineThreshold() {
+        LogUtils.logAction("ConfigManager", "Getting flakiness threshold for quarantine");
+        try {
+            double threshold = Double.parseDouble(getOrDefault("quarantineThreshold", "0.3"));
+            LogUtils.logSuccess("ConfigManager", "Quarantine threshold: " + threshold);
+            return threshold;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid quarantine threshold value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 0.3");
+            return 0.3;
+        }
+    }
+
+    public static int getFlakyMaxRetries() {
+        LogUtils.logAction("ConfigManager", "Getting max retries for flaky tests");
+        try {
+            int retries = Integer.parseInt(getOrDefault("flakyMaxRetries", "2"));
+            LogUtils.logSuccess("ConfigManager", "Max retries for flaky tests: " + retries);
+            return retries;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid max retries value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 2");
+            return 2;
+        }
+    }
+
+    /**
+     * Quarantine mode: off, exclude (skip quarantined tests) or only (run just those).
+     * A -DquarantineMode system property overrides the file, for the separate quarantine run.
+     */
+    public static String getQuarantineMode() {
+        LogUtils.logAction("ConfigManager", "Getting quarantine mode");
+        String mode = System.getProperty("quarantineMode", getOrDefault("quarantineMode", "off"));
+        LogUtils.logSuccess("ConfigManager", "Quarantine mode: " + mode);
+        return mode;
+    }
+
+    public static boolean isTraceCapture() {
+        LogUtils.logAction("ConfigManager", "Checking if test trace capture is enabled");
+        boolean capture = Boolean.parseBoolean(getOrDefault("traceCapture", "true"));
+        LogUtils.logSuccess("ConfigManager", "Test trace capture: " + (capture ? "enabled" : "disabled"));
+        return capture;
+    }
+
+    public static String getTraceDir() {
+        LogUtils.logAction("ConfigManager", "Getting trace directory");
+        String dir = getOrDefault("traceDir", "target/traces");
+        LogUtils.logSuccess("ConfigManager", "Trace directory: " + dir);
+        return dir;
+    }
+
+    public static String getScreenshotDir() {
+        LogUtils.logAction("ConfigManager", "Getting screenshot directory");
+        String dir = getOrDefault("screenshotDir", "target/screenshots");
+        LogUtils.logSuccess("ConfigManager", "Screenshot directory: " + dir);
+        return dir;
+    }
+
+    public static String getScreenshotFormat() {
+        LogUtils.logAction("ConfigManager", "Getting screenshot format");
+        String format = getOrDefault("screenshotFormat", "png").toLowerCase();
+        LogUtils.logSuccess("ConfigManager", "Screenshot format: " + format);
+        return format;
+    }
+
+    public static int getScreenshotQuality() {
+        LogUtils.logAction("ConfigManager", "Getting screenshot JPEG quality");
+        try {
+            int quality = Integer.parseInt(getOrDefault("screenshotQuality", "80"));
+            LogUtils.logSuccess("ConfigManager", "Screenshot JPEG quality: " + quality);
+            return quality;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid screenshot quality value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 80");
+            return 80;
+        }
+    }
+
+    public static int getProgressStallTimeout() {
+        LogUtils.logAction("ConfigManager", "Getting progress stall timeout");
+        try {
+            int timeout = Integer.parseInt(getOrDefault("progressStallTimeout", "10000"));
+            LogUtils.logSuccess("ConfigManager", "Progress stall timeout: " + timeout + "ms");
+            return timeout;
+        } catch (NumberFormatException e) {
+            LogUtils.logError("ConfigManager", "Invalid progress stall timeout value", e);
+            LogUtils.logWarning("ConfigManager", "Using default value: 10000ms");
+            return 10000;
+        }
+    }
+
+    public static String getDownloadDir() {
+        LogUtils.logAction("ConfigManager", "Getting download directory");
+        String dir = getOrDefault("downloadDir", "target/downloads");
+        LogUtils.logSuccess("ConfigManager", "Download directory: " + dir);
+        return dir;
+    }
 }
@@ -0,0 +1,59 @@
+package framework.utils;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Chrome DevTools Protocol helpers that work without a versioned devtools module.
+ * Commands and events are addressed by name and carry plain maps.
+ */
+public class DevToolsUtils {
+
+    private DevToolsUtils() {
+        // Utility class
+    }
+
+    /**
+     * Get a DevTools connection with an attached session for the current browser
+     * @return DevTools, or empty for browsers without CDP support
+     */
+    public static Optional<DevTools> getDevTools() {
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<DevTools> devTools = ((HasDevTools) driver).maybeGetDevTools();
+            devTools.ifPresent(DevTools::createSessionIfThereIsNotOne);
+            return devTools;
+        } catch (Exception e) {
+            LogUtils.logWarning("DevTools", "DevTools not available: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create a command with a map result
+     * @param method CDP method, e.g. "Page.captureScreenshot"
+     * @param params Command parameters
+     */
+    public static Command<Map<String, Object>> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params, Json.MAP_TYPE);
+    }
+
+    /**
+     * Create an event with map parameters
+     * @param method CDP event, e.g. "Browser.downloadProgress"
+     */
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,84 @@
+package framework.utils;
+
+import com.codeborne.selenide.Selenide;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores static DOM snapshots of pages so locators can be validated offline
+ * by {@link LocatorValidator}.
+ *
+ * <p>Snapshots are keyed by locator file and page key, since two locator files may
+ * define the same page (e.g. {@code locators/agoda/agoda_locators/SearchResultsPage.html}).
+ * Scripts are stripped so the saved HTML renders as a static document; content inside
+ * shadow roots is not captured.
+ */
+public class DomSnapshotStore {
+
+    private static final String SNAPSHOT_SCRIPT =
+        "var clone = document.documentElement.cloneNode(true);" +
+        "clone.querySelectorAll('script, noscript').forEach(function (el) { el.remove(); });" +
+        "return '<!DOCTYPE html>\\n' + clone.outerHTML;";
+
+    private DomSnapshotStore() {
+        // Utility class
+    }
+
+    /**
+     * Capture the current page into the configured snapshot directory
+     * @param locatorFile Locator file as passed to {@link LocatorManager#getPageLocators}
+     * @param pageName Page key as defined in the locator JSON file
+     * @return Path to the saved snapshot
+     */
+    public static Path capture(String locatorFile, String pageName) {
+        return capture(locatorFile, pageName, getSnapshotDir());
+    }
+
+    /**
+     * Capture the current page into a specific directory
+     * @param locatorFile Locator file as passed to {@link LocatorManager#getPageLocators}
+     * @param pageName Page key as defined in the locator JSON file
+     * @param directory Target directory
+     * @return Path to the saved snapshot
+     */
+    public static Path capture(String locatorFile, String pageName, Path directory) {
+        LogUtils.logAction("DomSnapshot", "Capturing DOM snapshot for page: " + locatorFile + "#" + pageName);
+        try {
+            String html = Selenide.executeJavaScript(SNAPSHOT_SCRIPT);
+            Path target = getSnapshotPath(locatorFile, pageName, directory);
+            Files.createDirectories(target.getParent());
+            // Write to a temp file first so a concurrent validation run never reads half a snapshot
+            Path temp = Files.createTempFile(target.getParent(), pageName, ".tmp");
+            Files.writeString(temp, html, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LogUtils.logSuccess("DomSnapshot", String.format("Saved snapshot %s (%d chars)", target, html.length()));
+            return target;
+        } catch (IOException e) {
+            LogUtils.logError("DomSnapshot", "Failed to save DOM snapshot for page: " + pageName, e);
+            throw new RuntimeException("Failed to save DOM snapshot for page: " + pageName, e);
+        }
+    }
+
+    /**
+     * Get the configured snapshot directory
+     */
+    public static Path getSnapshotDir() {
+        return Paths.get(ConfigManager.getDomSnapshotDir());
+    }
+
+    /**
+     * Get the snapshot file for a page
+     * @param locatorFile Locator file, e.g. {@code locators/agoda/agoda_locators.json}
+     * @param pageName Page key within that file
+     * @param directory Snapshot directory
+     */
+    public static Path getSnapshotPath(String locatorFile, String pageName, Path directory) {
+        String fileKey = locatorFile.replace('\\', '/').replaceFirst("\\.json$", "");
+        return directory.resolve(fileKey).resolve(pageName + ".html");
+    }
+}
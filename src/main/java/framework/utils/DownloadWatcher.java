@@ -0,0 +1,291 @@
+package framework.utils;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Detects finished downloads in a directory without rescanning it.
+ *
+ * <p>Completion is signalled by {@code WatchService} events for final (non-partial) files and,
+ * on Chromium browsers, by CDP {@code Browser.downloadProgress} events. With CDP the browser is
+ * pointed at the watched directory via {@code Browser.setDownloadBehavior}, which is what lets
+ * each session download into its own directory ({@link #sessionDirectory()}); closing the last
+ * watcher of a browser restores its default download behavior.
+ *
+ * <p>The browser must run on this machine. With {@code Configuration.remote} set its files are
+ * not visible here, so {@link #start(Path)} fails; use Selenide's {@code download()} instead.
+ *
+ * <pre>
+ * try (DownloadWatcher watcher = DownloadWatcher.start(dir)) {
+ *     button.click();
+ *     Path file = watcher.awaitFile(name -&gt; name.endsWith(".pdf"), Duration.ofSeconds(30));
+ * }
+ * </pre>
+ */
+public class DownloadWatcher implements AutoCloseable {
+
+    private static final List<String> PARTIAL_SUFFIXES = List.of(".crdownload", ".part", ".tmp");
+    // Chromium stores downloads under their GUID until we rename them (behavior "allowAndName")
+    private static final Pattern GUID = Pattern.compile("[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}");
+
+    private static final Set<DownloadWatcher> active = new CopyOnWriteArraySet<>();
+    private static final Map<DevTools, Boolean> devToolsWithListeners =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Path directory;
+    private final WatchService watchService;
+    private final BlockingQueue<Path> finished = new LinkedBlockingQueue<>();
+    private final Map<String, String> suggestedNames = new ConcurrentHashMap<>();
+    private volatile String failure;
+    private DevTools devTools;
+
+    private DownloadWatcher(Path directory) throws IOException {
+        this.directory = directory.toAbsolutePath().normalize();
+        Files.createDirectories(this.directory);
+        this.watchService = this.directory.getFileSystem().newWatchService();
+        this.directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    /**
+     * Start watching a directory; call before triggering the download
+     * @param directory Download directory (created if missing)
+     * @return Running watcher, close it when done
+     * @throws IllegalStateException if the browser is remote
+     */
+    public static DownloadWatcher start(Path directory) {
+        LogUtils.logAction("DownloadWatcher", "Watching downloads in " + directory);
+        if (isRemoteBrowser()) {
+            IllegalStateException e = new IllegalStateException("Downloads of the remote browser at "
+                + Configuration.remote + " cannot be watched on this machine, use Selenide's download()");
+            LogUtils.logError("DownloadWatcher", e.getMessage(), e);
+            throw e;
+        }
+        DownloadWatcher watcher = watch(directory);
+        watcher.attachDevTools();
+        LogUtils.logSuccess("DownloadWatcher", "Watching " + watcher.directory
+            + (watcher.devTools != null ? " with CDP download events" : " with file events only"));
+        return watcher;
+    }
+
+    /**
+     * Start watching a directory with file events only
+     */
+    static DownloadWatcher watch(Path directory) {
+        try {
+            DownloadWatcher watcher = new DownloadWatcher(directory);
+            Thread thread = new Thread(watcher::watchLoop, "download-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            active.add(watcher);
+            return watcher;
+        } catch (IOException e) {
+            LogUtils.logError("DownloadWatcher", "Failed to watch " + directory, e);
+            throw new RuntimeException("Failed to watch download directory " + directory, e);
+        }
+    }
+
+    /**
+     * Per-session download directory: {@code <downloadDir>/<sessionId>}
+     */
+    public static Path sessionDirectory() {
+        return Paths.get(ConfigManager.getDownloadDir(), String.valueOf(Selenide.sessionId()));
+    }
+
+    /**
+     * Check if the current browser supports CDP download control
+     */
+    public static boolean isDownloadDirectoryControllable() {
+        return !isRemoteBrowser() && DevToolsUtils.getDevTools().isPresent();
+    }
+
+    /**
+     * Check if browsers run on a remote grid, whose downloads are not visible on this machine
+     */
+    public static boolean isRemoteBrowser() {
+        return Configuration.remote != null && !Configuration.remote.isEmpty();
+    }
+
+    /**
+     * Wait for the first finished download whose file name matches
+     * @param fileNameMatcher File name predicate
+     * @param timeout Maximum wait
+     * @return Path of the finished file
+     * @throws RuntimeException if the browser cancels the download or the timeout expires
+     */
+    public Path awaitFile(Predicate<String> fileNameMatcher, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                if (failure != null) {
+                    throw new RuntimeException("Download failed: " + failure);
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new RuntimeException("Download failed: no matching file in " + directory
+                        + " after " + timeout.toSeconds() + " seconds");
+                }
+                // Short poll so a CDP cancellation is noticed without waiting out the timeout
+                Path file = finished.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(250)), TimeUnit.NANOSECONDS);
+                if (file != null && fileNameMatcher.test(file.getFileName().toString()) && Files.isRegularFile(file)) {
+                    return file;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Download interrupted", e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        active.remove(this);
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LogUtils.logWarning("DownloadWatcher", "Failed to close watcher: " + e.getMessage());
+        }
+        DevTools tools = devTools;
+        if (tools != null && active.stream().noneMatch(watcher -> watcher.devTools == tools)) {
+            try {
+                // Later downloads would otherwise keep their GUID names in this directory
+                tools.send(DevToolsUtils.command("Browser.setDownloadBehavior", Map.of("behavior", "default")));
+            } catch (Exception e) {
+                LogUtils.logWarning("DownloadWatcher", "Failed to restore download behavior: " + e.getMessage());
+            }
+        }
+    }
+
+    private void attachDevTools() {
+        Optional<DevTools> maybeDevTools = DevToolsUtils.getDevTools();
+        if (maybeDevTools.isEmpty()) {
+            return;
+        }
+        DevTools tools = maybeDevTools.get();
+        try {
+            tools.send(DevToolsUtils.command("Browser.setDownloadBehavior", Map.of(
+                "behavior", "allowAndName",
+                "downloadPath", directory.toString(),
+                "eventsEnabled", true)));
+            // Listeners live as long as the connection; register them once and dispatch to active watchers
+            if (devToolsWithListeners.putIfAbsent(tools, Boolean.TRUE) == null) {
+                tools.addListener(DevToolsUtils.event("Browser.downloadWillBegin"), event ->
+                    forEachWatcher(tools, watcher -> watcher.onWillBegin(event)));
+                tools.addListener(DevToolsUtils.event("Browser.downloadProgress"), event ->
+                    forEachWatcher(tools, watcher -> watcher.onProgress(event)));
+            }
+            devTools = tools;
+        } catch (Exception e) {
+            LogUtils.logWarning("DownloadWatcher", "CDP download events unavailable: " + e.getMessage());
+        }
+    }
+
+    private static void forEachWatcher(DevTools tools, Consumer<DownloadWatcher> action) {
+        for (DownloadWatcher watcher : active) {
+            if (watcher.devTools == tools) {
+                action.accept(watcher);
+            }
+        }
+    }
+
+    void onWillBegin(Map<String, Object> event) {
+        suggestedNames.put((String) event.get("guid"), (String) event.get("suggestedFilename"));
+    }
+
+    void onProgress(Map<String, Object> event) {
+        String guid = (String) event.get("guid");
+        String state = (String) event.get("state");
+        if ("canceled".equals(state)) {
+            failure = "browser canceled download " + suggestedNames.getOrDefault(guid, guid);
+        } else if ("completed".equals(state)) {
+            Path stored = directory.resolve(guid);
+            Path target = directory.resolve(suggestedNames.getOrDefault(guid, guid));
+            try {
+                Files.move(stored, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                LogUtils.logSuccess("DownloadWatcher", String.format("Download completed: %s (%s bytes)",
+                    target.getFileName(), event.get("receivedBytes")));
+                finished.add(target);
+            } catch (IOException e) {
+                failure = "could not rename " + stored + " to " + target + ": " + e.getMessage();
+            }
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path changed = directory.resolve((Path) event.context());
+                    String name = changed.getFileName().toString();
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        // Firefox keeps an empty placeholder next to "<name>.part" until it finishes
+                        onPartialRemoved(name);
+                    } else if (isFinalName(name) && !hasPartialSibling(changed)) {
+                        finished.add(changed);
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Watcher closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void onPartialRemoved(String name) {
+        for (String suffix : PARTIAL_SUFFIXES) {
+            if (name.endsWith(suffix)) {
+                Path placeholder = directory.resolve(name.substring(0, name.length() - suffix.length()));
+                if (Files.isRegularFile(placeholder)) {
+                    finished.add(placeholder);
+                }
+            }
+        }
+    }
+
+    private static boolean isFinalName(String name) {
+        return !name.startsWith(".") && !GUID.matcher(name).matches()
+            && PARTIAL_SUFFIXES.stream().noneMatch(name::endsWith);
+    }
+
+    private static boolean hasPartialSibling(Path file) {
+        return PARTIAL_SUFFIXES.stream()
+            .anyMatch(suffix -> Files.exists(file.resolveSibling(file.getFileName() + suffix)));
+    }
+}
@@ -0,0 +1,273 @@
+package framework.utils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Verifies downloaded files in one pass over a memory-mapped {@link FileChannel}, in constant
+ * memory regardless of file size.
+ *
+ * <p>A single pass computes a checksum, the line count, the header (first line) and the number of
+ * lines matching each registered pattern. Lines longer than {@link #MAX_LINE_BYTES} are matched on
+ * their first {@code MAX_LINE_BYTES} bytes. Line-based checks apply to text exports (CSV, TXT);
+ * for binary formats such as XLSX only the checksum is meaningful.
+ *
+ * <pre>
+ * FileVerifier.Result result = new FileVerifier(file.toPath())
+ *     .countMatches("errors", Pattern.compile(",ERROR,"))
+ *     .verify();
+ * result.assertHeader("id,name,status").assertMatchCount("errors", 0);
+ * </pre>
+ */
+public class FileVerifier {
+
+    public static final int MAX_LINE_BYTES = 1024 * 1024;
+    private static final long DEFAULT_WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private final Path file;
+    private final long windowBytes;
+    private final Map<String, Pattern> patterns = new LinkedHashMap<>();
+    private String algorithm = "SHA-256";
+    private Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * Constructor
+     * @param file File to verify
+     */
+    public FileVerifier(Path file) {
+        this(file, DEFAULT_WINDOW_BYTES);
+    }
+
+    FileVerifier(Path file, long windowBytes) {
+        this.file = file;
+        this.windowBytes = windowBytes;
+    }
+
+    /**
+     * Set the checksum algorithm (default SHA-256)
+     * @param algorithm Any {@link MessageDigest} algorithm, e.g. "MD5"
+     * @return this verifier for method chaining
+     */
+    public FileVerifier checksum(String algorithm) {
+        this.algorithm = algorithm;
+        return this;
+    }
+
+    /**
+     * Set the text encoding used for the header and pattern matching (default UTF-8)
+     * @return this verifier for method chaining
+     */
+    public FileVerifier charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Count lines matching a pattern ({@link java.util.regex.Matcher#find()} semantics)
+     * @param name Name used to read the count from the result
+     * @param pattern Pattern applied to each line
+     * @return this verifier for method chaining
+     */
+    public FileVerifier countMatches(String name, Pattern pattern) {
+        patterns.put(name, pattern);
+        return this;
+    }
+
+    /**
+     * Read the file once and compute all registered checks
+     * @return Verification result
+     */
+    public Result verify() {
+        LogUtils.logAction(toString(), "Verifying file: " + file);
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance(algorithm);
+            long size = channel.size();
+            Map<String, Long> matchCounts = new LinkedHashMap<>();
+            patterns.keySet().forEach(name -> matchCounts.put(name, 0L));
+
+            byte[] line = new byte[8192];
+            int lineLength = 0;
+            long lines = 0;
+            String header = null;
+            byte last = '\n';
+
+            for (long position = 0; position < size; position += windowBytes) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(windowBytes, size - position));
+                digest.update(window.duplicate());
+                while (window.hasRemaining()) {
+                    byte b = window.get();
+                    last = b;
+                    if (b == '\n') {
+                        lines++;
+                        if (header == null) {
+                            header = decode(line, lineLength);
+                        }
+                        matchLine(line, lineLength, matchCounts);
+                        lineLength = 0;
+                    } else if (lineLength < MAX_LINE_BYTES) {
+                        if (lineLength == line.length) {
+                            line = Arrays.copyOf(line, Math.min(MAX_LINE_BYTES, line.length * 2));
+                        }
+                        line[lineLength++] = b;
+                    }
+                }
+            }
+            // Last line without a trailing newline
+            if (size > 0 && last != '\n') {
+                lines++;
+                if (header == null) {
+                    header = decode(line, lineLength);
+                }
+                matchLine(line, lineLength, matchCounts);
+            }
+
+            long elapsedNanos = System.nanoTime() - start;
+            Result result = new Result(file, size, HexFormat.of().formatHex(digest.digest()), algorithm,
+                lines, header, matchCounts, elapsedNanos);
+            LogUtils.logSuccess(toString(), result.toString());
+            return result;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LogUtils.logError(toString(), "Failed to verify file: " + file, e);
+            throw new RuntimeException("Failed to verify file: " + file, e);
+        }
+    }
+
+    private void matchLine(byte[] line, int length, Map<String, Long> matchCounts) {
+        if (patterns.isEmpty()) {
+            return;
+        }
+        String text = decode(line, length);
+        for (Map.Entry<String, Pattern> entry : patterns.entrySet()) {
+            if (entry.getValue().matcher(text).find()) {
+                matchCounts.merge(entry.getKey(), 1L, Long::sum);
+            }
+        }
+    }
+
+    private String decode(byte[] line, int length) {
+        // Strip the CR of CRLF line endings
+        int end = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+        return new String(line, 0, end, charset);
+    }
+
+    @Override
+    public String toString() {
+        return "FileVerifier";
+    }
+
+    /**
+     * Outcome of {@link #verify()}; the assert methods throw {@link AssertionError} on mismatch
+     */
+    public static class Result {
+        private final Path file;
+        private final long bytes;
+        private final String checksum;
+        private final String algorithm;
+        private final long lineCount;
+        private final String header;
+        private final Map<String, Long> matchCounts;
+        private final long elapsedNanos;
+
+        Result(Path file, long bytes, String checksum, String algorithm, long lineCount, String header,
+               Map<String, Long> matchCounts, long elapsedNanos) {
+            this.file = file;
+            this.bytes = bytes;
+            this.checksum = checksum;
+            this.algorithm = algorithm;
+            this.lineCount = lineCount;
+            this.header = header;
+            this.matchCounts = matchCounts;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Lower-case hex checksum
+         */
+        public String getChecksum() {
+            return checksum;
+        }
+
+        public long getLineCount() {
+            return lineCount;
+        }
+
+        /**
+         * First line without its line ending, or null for an empty file
+         */
+        public String getHeader() {
+            return header;
+        }
+
+        public long getMatchCount(String name) {
+            Long count = matchCounts.get(name);
+            if (count == null) {
+                throw new IllegalArgumentException("No pattern registered as: " + name);
+            }
+            return count;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /**
+         * Verification throughput in MB/s
+         */
+        public double getThroughputMbPerSecond() {
+            return elapsedNanos > 0 ? (bytes / (1024.0 * 1024.0)) / (elapsedNanos / 1e9) : 0;
+        }
+
+        public Result assertChecksum(String expected) {
+            check(checksum.equalsIgnoreCase(expected), algorithm + " checksum", expected, checksum);
+            return this;
+        }
+
+        public Result assertLineCount(long expected) {
+            check(lineCount == expected, "line count", expected, lineCount);
+            return this;
+        }
+
+        public Result assertHeader(String expected) {
+            check(expected.equals(header), "header", expected, header);
+            return this;
+        }
+
+        public Result assertMatchCount(String name, long expected) {
+            long actual = getMatchCount(name);
+            check(actual == expected, "lines matching '" + name + "'", expected, actual);
+            return this;
+        }
+
+        private void check(boolean ok, String what, Object expected, Object actual) {
+            if (!ok) {
+                throw new AssertionError(String.format("%s: expected %s %s but was %s",
+                    file.getFileName(), what, expected, actual));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d bytes, %d lines, %s %s, matches %s in %d ms (%.1f MB/s)",
+                file.getFileName(), bytes, lineCount, algorithm, checksum, matchCounts,
+                getElapsedMillis(), getThroughputMbPerSecond());
+        }
+    }
+}
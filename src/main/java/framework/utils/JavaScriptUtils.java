@@ -1,15 +1,41 @@
 package framework.utils;
 
 import static com.codeborne.selenide.Selenide.executeJavaScript;
+import static com.codeborne.selenide.Selenide.executeAsyncJavaScript;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import static com.codeborne.selenide.Selenide.$;
 
 /**
  * Utility class for JavaScript operations
  */
 public class JavaScriptUtils {
-    
+
+    // Headroom between a script's own deadline and the driver's script timeout
+    private static final long SCRIPT_TIMEOUT_MARGIN_MS = 5000;
+    private static final String TIMED_OUT_KEY = "__asyncScriptTimedOut";
+
+    // Wraps an async script: its completion callback is replaced by one that also fires at the deadline
+    private static final String DEADLINE_WRAPPER =
+        "var args = Array.prototype.slice.call(arguments), callback = args.pop(), finished = false;" +
+        "var timer = setTimeout(function () {" +
+        "  if (!finished) { finished = true; callback({%s: true}); }" +
+        "}, %d);" +
+        "args.push(function (value) {" +
+        "  if (!finished) { finished = true; clearTimeout(timer); callback(value); }" +
+        "});" +
+        "(function () {%n%s%n}).apply(this, args);";
+
+    // Script timeout already applied to each driver; only ever raised, never read back or restored
+    private static final Map<WebDriver, Long> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Execute JavaScript
      */
@@ -25,6 +51,44 @@ public class JavaScriptUtils {
         }
     }
 
+    /**
+     * Execute asynchronous JavaScript with its own deadline, in one WebDriver command.
+     * The script signals completion by calling its last argument.
+     *
+     * <p>The deadline is enforced inside the browser. The driver's script timeout is only a
+     * backstop: it is raised once per driver when a longer deadline is requested, and never read
+     * or restored per call.
+     * @param script Script to execute
+     * @param timeoutMs Maximum time the script may take
+     * @param args Script arguments
+     * @return Value passed to the completion callback
+     * @throws ScriptTimeoutException if the script did not complete within the timeout
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T executeAsyncJs(String script, long timeoutMs, Object... args) {
+        LogUtils.logAction("JavaScript", "Executing async script with timeout " + timeoutMs + "ms");
+        try {
+            ensureScriptTimeout(WebDriverRunner.getWebDriver(), timeoutMs + SCRIPT_TIMEOUT_MARGIN_MS);
+            Object result = executeAsyncJavaScript(String.format(DEADLINE_WRAPPER, TIMED_OUT_KEY, timeoutMs, script), args);
+            if (result instanceof Map && ((Map<?, ?>) result).containsKey(TIMED_OUT_KEY)) {
+                throw new ScriptTimeoutException("Async script did not complete within " + timeoutMs + "ms");
+            }
+            LogUtils.logSuccess("JavaScript", "Async script executed successfully");
+            return (T) result;
+        } catch (Exception e) {
+            LogUtils.logError("JavaScript", "Failed to execute async script", e);
+            throw e;
+        }
+    }
+
+    private static void ensureScriptTimeout(WebDriver driver, long timeoutMs) {
+        Long applied = scriptTimeouts.get(driver);
+        if (applied == null || applied < timeoutMs) {
+            driver.manage().timeouts().scriptTimeout(Duration.ofMillis(timeoutMs));
+            scriptTimeouts.put(driver, timeoutMs);
+        }
+    }
+
     /**
      * Scroll by x and y coordinates
      */
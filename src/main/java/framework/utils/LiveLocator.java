@@ -0,0 +1,50 @@
+package framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Locator that reads its selector from {@link LocatorManager} on every lookup,
+ * so elements pick up edits to the locator JSON files while hot reload is enabled.
+ */
+public class LiveLocator extends By {
+    private final String filePath;
+    private final String pageName;
+    private final String elementName;
+
+    public LiveLocator(String filePath, String pageName, String elementName) {
+        this.filePath = filePath;
+        this.pageName = pageName;
+        this.elementName = elementName;
+    }
+
+    /**
+     * Get the selector currently defined in the locator file
+     */
+    public String getCurrentLocator() {
+        LocatorManager manager = LocatorManager.getInstance();
+        return manager.getLocator(manager.findPage(pageName, filePath), elementName);
+    }
+
+    private By current() {
+        return LocatorManager.toBy(getCurrentLocator());
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        return current().findElement(context);
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        return current().findElements(context);
+    }
+
+    @Override
+    public String toString() {
+        return getCurrentLocator();
+    }
+}
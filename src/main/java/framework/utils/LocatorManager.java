@@ -6,23 +6,53 @@ import framework.elements.core.Button;
 import framework.elements.core.Element;
 import framework.elements.core.ElementCollection;
 import framework.elements.core.TextBox;
+import org.openqa.selenium.By;
 
 import java.io.FileReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Manages locators from JSON files to provide element definitions
  * for page objects.
+ *
+ * <p>In hot reload mode (config {@code locatorHotReload=true}) the locator source
+ * directory is watched; an edited file is re-parsed and swapped into the cache in one
+ * step, and elements created by {@link #createElement} read their selector from the
+ * cache on every lookup.
+ *
+ * <p>Locators starting with "/" or "(" are XPath, everything else is CSS ({@link #isXPath(String)}).
+ * Fixed elements, live elements and {@link LocatorValidator} all apply this rule, so hot reload
+ * never changes which selectors resolve.
  */
 public class LocatorManager {
 
-    private static final Map<String, JsonObject> pagesCache = new HashMap<>();
+    // Parsed locator files keyed by file path; a reload replaces the whole entry at once
+    private static final Map<String, JsonObject> filesCache = new ConcurrentHashMap<>();
+    // Page definitions handed out in hot reload mode -> {filePath, pageName}; a reload drops its file's entries
+    private static final Map<JsonObject, String[]> pageOrigins =
+            Collections.synchronizedMap(new IdentityHashMap<>());
     private static LocatorManager instance;
 
+    private volatile Path hotReloadDir;
+    private WatchService watchService;
+
     private LocatorManager() {
         // Private constructor for singleton
     }
@@ -33,6 +63,9 @@ public class LocatorManager {
     public static synchronized LocatorManager getInstance() {
         if (instance == null) {
             instance = new LocatorManager();
+            if (ConfigManager.isLocatorHotReload()) {
+                instance.enableHotReload(Paths.get(ConfigManager.getLocatorSourceDir()));
+            }
         }
         return instance;
     }
@@ -44,43 +77,97 @@ public class LocatorManager {
      * @return JsonObject with the page's locators
      */
     public JsonObject getPageLocators(String pageName, String filePath) {
-        String cacheKey = filePath + "#" + pageName;
-        
-        if (pagesCache.containsKey(cacheKey)) {
-            return pagesCache.get(cacheKey);
+        JsonObject pageObject = findPage(pageName, filePath);
+        if (pageObject.size() > 0 && isHotReloadEnabled()) {
+            pageOrigins.put(pageObject, new String[] {filePath, pageName});
         }
-        
+        return pageObject;
+    }
+
+    /**
+     * Get a page's current locator definitions without tracking them for live elements.
+     * {@link LiveLocator} reads through here on every lookup.
+     */
+    JsonObject findPage(String pageName, String filePath) {
         try {
-            // Load the JSON file from resources
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filePath);
-            if (inputStream == null) {
-                // If not found in resources, try as file path
-                JsonObject jsonObject = JsonParser.parseReader(new FileReader(filePath)).getAsJsonObject();
-                JsonObject pageObject = jsonObject.getAsJsonObject(pageName);
-                if (pageObject != null) {
-                    pagesCache.put(cacheKey, pageObject);
-                    return pageObject;
+            JsonObject jsonObject = filesCache.get(filePath);
+            if (jsonObject == null) {
+                jsonObject = loadFile(filePath);
+                JsonObject existing = filesCache.putIfAbsent(filePath, jsonObject);
+                if (existing != null) {
+                    jsonObject = existing;
                 }
-                LogUtils.logError(this.toString(), "Page '" + pageName + "' not found in " + filePath, null);
-                return new JsonObject();
-            } else {
-                // Parse from resources
-                Reader reader = new InputStreamReader(inputStream);
-                JsonObject jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
-                JsonObject pageObject = jsonObject.getAsJsonObject(pageName);
-                if (pageObject != null) {
-                    pagesCache.put(cacheKey, pageObject);
-                    return pageObject;
-                }
-                LogUtils.logError(this.toString(), "Page '" + pageName + "' not found in " + filePath, null);
-                return new JsonObject();
             }
+
+            JsonObject pageObject = jsonObject.getAsJsonObject(pageName);
+            if (pageObject != null) {
+                return pageObject;
+            }
+            LogUtils.logError(this.toString(), "Page '" + pageName + "' not found in " + filePath, null);
+            return new JsonObject();
         } catch (Exception e) {
             LogUtils.logError(this.toString(), "Failed to load locators for " + pageName + " from " + filePath, e);
             return new JsonObject();
         }
     }
 
+    /**
+     * Check whether a locator string is XPath, e.g. "//button" or "(//div)[1]"
+     * @param locator Locator string
+     * @return true for XPath, false for CSS
+     */
+    public static boolean isXPath(String locator) {
+        return locator.startsWith("/") || locator.startsWith("(");
+    }
+
+    /**
+     * Turn a locator string into a Selenium locator, see {@link #isXPath(String)}
+     * @param locator Locator string from the JSON file
+     * @return XPath or CSS locator
+     */
+    public static By toBy(String locator) {
+        return isXPath(locator) ? By.xpath(locator) : By.cssSelector(locator);
+    }
+
+    /**
+     * Parse a locator file, preferring the watched source tree in hot reload mode,
+     * then resources, then a plain file path
+     */
+    private JsonObject loadFile(String filePath) throws IOException {
+        Path sourceFile = resolveSourceFile(filePath);
+        if (sourceFile != null) {
+            return parse(sourceFile);
+        }
+
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(filePath);
+        if (inputStream == null) {
+            // If not found in resources, try as file path
+            try (Reader reader = new FileReader(filePath)) {
+                return JsonParser.parseReader(reader).getAsJsonObject();
+            }
+        }
+        // Parse from resources
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+
+    private Path resolveSourceFile(String filePath) {
+        Path dir = hotReloadDir;
+        if (dir == null || dir.getParent() == null) {
+            return null;
+        }
+        // "locators/agoda/agoda_locators.json" lives under the parent of the locators directory
+        Path candidate = dir.getParent().resolve(filePath);
+        return Files.isRegularFile(candidate) ? candidate : null;
+    }
+
+    private static JsonObject parse(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+
     /**
      * Create an element from the locator definition
      * @param pageLocators JsonObject with the page's locators
@@ -94,11 +181,16 @@ public class LocatorManager {
                 LogUtils.logError(this.toString(), "Element '" + elementName + "' not found in page definition", null);
                 return null;
             }
-            
+
             String locator = elementDef.get("locator").getAsString();
             String name = elementDef.has("name") ? elementDef.get("name").getAsString() : elementName;
             String type = elementDef.has("type") ? elementDef.get("type").getAsString() : "Element";
-            
+
+            String[] origin = isHotReloadEnabled() ? pageOrigins.get(pageLocators) : null;
+            if (origin != null) {
+                return createLiveElement(type, new LiveLocator(origin[0], origin[1], elementName), name);
+            }
+
             // Create the appropriate element type
             switch (type) {
                 case "Button":
@@ -116,6 +208,19 @@ public class LocatorManager {
         }
     }
 
+    private Object createLiveElement(String type, LiveLocator liveLocator, String name) {
+        switch (type) {
+            case "Button":
+                return new Button(liveLocator, name);
+            case "TextBox":
+                return new TextBox(liveLocator, name);
+            case "ElementCollection":
+                return new ElementCollection(liveLocator, name);
+            default:
+                return new Element(liveLocator, name);
+        }
+    }
+
     /**
      * Get string locator from the page definition
      * @param pageLocators JsonObject with the page's locators
@@ -129,16 +234,132 @@ public class LocatorManager {
                 LogUtils.logError(this.toString(), "Element '" + elementName + "' not found in page definition", null);
                 return "";
             }
-            
+
             return elementDef.get("locator").getAsString();
         } catch (Exception e) {
             LogUtils.logError(this.toString(), "Failed to get locator for '" + elementName + "'", e);
             return "";
         }
     }
-    
+
+    /**
+     * Check if locator files are being watched for changes
+     */
+    public boolean isHotReloadEnabled() {
+        return hotReloadDir != null;
+    }
+
+    /**
+     * Watch a locator source directory (recursively) and reload edited files.
+     * Intended for interactive sessions; changes apply to elements on their next lookup.
+     * @param sourceDir Directory containing the locator JSON files
+     */
+    public synchronized void enableHotReload(Path sourceDir) {
+        if (isHotReloadEnabled()) {
+            LogUtils.logWarning(this.toString(), "Hot reload already enabled for " + hotReloadDir);
+            return;
+        }
+        LogUtils.logAction(this.toString(), "Enabling locator hot reload for " + sourceDir);
+        try {
+            Path dir = sourceDir.toAbsolutePath().normalize();
+            watchService = dir.getFileSystem().newWatchService();
+            try (Stream<Path> dirs = Files.walk(dir)) {
+                for (Path path : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                    register(path);
+                }
+            }
+            hotReloadDir = dir;
+
+            Thread watcher = new Thread(this::watchLoop, "locator-hot-reload");
+            watcher.setDaemon(true);
+            watcher.start();
+            LogUtils.logSuccess(this.toString(), "Watching locator files in " + dir);
+        } catch (IOException e) {
+            LogUtils.logError(this.toString(), "Failed to enable hot reload for " + sourceDir, e);
+            throw new RuntimeException("Failed to enable locator hot reload", e);
+        }
+    }
+
+    /**
+     * Stop watching locator files; elements created afterwards use fixed selectors again
+     */
+    public synchronized void disableHotReload() {
+        if (!isHotReloadEnabled()) {
+            return;
+        }
+        hotReloadDir = null;
+        pageOrigins.clear();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LogUtils.logWarning(this.toString(), "Failed to close locator watcher: " + e.getMessage());
+        }
+        LogUtils.logSuccess(this.toString(), "Locator hot reload disabled");
+    }
+
+    private void register(Path dir) throws IOException {
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private void watchLoop() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path changed = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(changed)) {
+                        register(changed);
+                    } else if (changed.toString().endsWith(".json")) {
+                        reloadFile(changed);
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Hot reload disabled
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LogUtils.logError(this.toString(), "Locator watcher stopped", e);
+        }
+    }
+
+    /**
+     * Re-parse a changed file and swap it into the cache
+     */
+    void reloadFile(Path changed) {
+        for (String filePath : filesCache.keySet()) {
+            if (!changed.endsWith(Paths.get(filePath))) {
+                continue;
+            }
+            try {
+                filesCache.put(filePath, parse(changed));
+                // Elements already hold live locators; the old page definitions are not needed
+                synchronized (pageOrigins) {
+                    pageOrigins.values().removeIf(origin -> origin[0].equals(filePath));
+                }
+                LogUtils.logSuccess(this.toString(), "Reloaded locators from " + filePath);
+            } catch (Exception e) {
+                // Editors often save in several writes; keep the previous definitions until the file parses
+                LogUtils.logWarning(this.toString(), "Keeping previous locators, failed to parse " + changed + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Number of page definitions tracked for live elements
+     */
+    int getTrackedPageCount() {
+        return pageOrigins.size();
+    }
+
     @Override
     public String toString() {
         return "LocatorManager";
     }
-}
\ No newline at end of file
+}
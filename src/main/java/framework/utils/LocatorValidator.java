@@ -0,0 +1,311 @@
+package framework.utils;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates every locator in the locator JSON files against saved DOM snapshots
+ * (see {@link DomSnapshotStore}) without running the end-to-end flows.
+ *
+ * <p>Each snapshot is loaded as static HTML in a headless browser and all locators of
+ * that page are evaluated in one script call. Pages are validated in parallel, one
+ * browser per worker thread.
+ */
+public class LocatorValidator {
+
+    private static final String COUNT_SCRIPT =
+        "var checks = arguments[0], counts = {};" +
+        "checks.forEach(function (check) {" +
+        "  try {" +
+        "    var locator = check.locator;" +
+        // Same rule as LocatorManager.isXPath
+        "    if (locator.charAt(0) === '/' || locator.charAt(0) === '(') {" +
+        "      counts[check.element] = document.evaluate(locator, document, null," +
+        "        XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;" +
+        "    } else {" +
+        "      counts[check.element] = document.querySelectorAll(locator).length;" +
+        "    }" +
+        "  } catch (e) {" +
+        "    counts[check.element] = -1;" +
+        "  }" +
+        "});" +
+        "return counts;";
+
+    /**
+     * Outcome of a single locator check
+     */
+    public enum Status {
+        OK,
+        NOT_FOUND,
+        AMBIGUOUS,
+        INVALID,
+        NO_SNAPSHOT
+    }
+
+    /**
+     * Result for one locator of one page
+     */
+    public static class LocatorCheck {
+        private final String file;
+        private final String page;
+        private final String element;
+        private final String locator;
+        private final String type;
+        private final int matches;
+        private final Status status;
+
+        LocatorCheck(String file, String page, String element, String locator, String type, int matches, Status status) {
+            this.file = file;
+            this.page = page;
+            this.element = element;
+            this.locator = locator;
+            this.type = type;
+            this.matches = matches;
+            this.status = status;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getElement() {
+            return element;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getMatches() {
+            return matches;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isBroken() {
+            return status != Status.OK && status != Status.NO_SNAPSHOT;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s.%s [%s] -> %d match(es) (%s)", status, page, element, locator, matches, file);
+        }
+    }
+
+    private final Path locatorDir;
+    private final Path snapshotDir;
+    private final int threads;
+
+    /**
+     * Constructor with explicit directories
+     * @param locatorDir Directory containing locator JSON files (searched recursively)
+     * @param snapshotDir Directory containing DOM snapshots
+     * @param threads Number of parallel headless browsers
+     */
+    public LocatorValidator(Path locatorDir, Path snapshotDir, int threads) {
+        this.locatorDir = locatorDir;
+        this.snapshotDir = snapshotDir;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Constructor using the configured locator and snapshot directories
+     */
+    public LocatorValidator() {
+        this(Paths.get(ConfigManager.getLocatorSourceDir()), DomSnapshotStore.getSnapshotDir(),
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Validate all locators that have a snapshot for their page
+     * @return One result per locator
+     */
+    public List<LocatorCheck> validate() {
+        LogUtils.logAction(toString(), "Validating locators in " + locatorDir + " against snapshots in " + snapshotDir);
+        long start = System.currentTimeMillis();
+        List<PageDefinition> pages = loadPages();
+        List<LocatorCheck> results = new ArrayList<>();
+
+        List<PageDefinition> withSnapshot = new ArrayList<>();
+        for (PageDefinition page : pages) {
+            if (Files.isRegularFile(DomSnapshotStore.getSnapshotPath(page.file, page.name, snapshotDir))) {
+                withSnapshot.add(page);
+            } else {
+                page.locators.forEach((element, def) ->
+                    results.add(new LocatorCheck(page.file, page.name, element, def[0], def[1], 0, Status.NO_SNAPSHOT)));
+            }
+        }
+
+        Queue<SelenideDriver> drivers = new ConcurrentLinkedQueue<>();
+        ThreadLocal<SelenideDriver> workerDriver = ThreadLocal.withInitial(() -> {
+            SelenideDriver driver = new SelenideDriver(new SelenideConfig()
+                .browser(ConfigManager.getBrowser())
+                .headless(true));
+            drivers.add(driver);
+            return driver;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, withSnapshot.size())));
+        try {
+            List<Future<List<LocatorCheck>>> futures = new ArrayList<>();
+            for (PageDefinition page : withSnapshot) {
+                futures.add(executor.submit(() -> validatePage(workerDriver.get(), page)));
+            }
+            for (Future<List<LocatorCheck>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Locator validation interrupted", e);
+        } catch (ExecutionException e) {
+            LogUtils.logError(toString(), "Locator validation failed", e.getCause());
+            throw new RuntimeException("Locator validation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            drivers.forEach(SelenideDriver::close);
+        }
+
+        List<LocatorCheck> broken = results.stream().filter(LocatorCheck::isBroken).collect(Collectors.toList());
+        broken.forEach(check -> LogUtils.logWarning(toString(), check.toString()));
+        LogUtils.logSuccess(toString(), String.format("Checked %d locators on %d pages in %d ms: %d broken, %d without snapshot",
+            results.size(), withSnapshot.size(), System.currentTimeMillis() - start, broken.size(),
+            results.stream().filter(check -> check.getStatus() == Status.NO_SNAPSHOT).count()));
+        return results;
+    }
+
+    private List<LocatorCheck> validatePage(SelenideDriver driver, PageDefinition page) {
+        driver.open(DomSnapshotStore.getSnapshotPath(page.file, page.name, snapshotDir).toAbsolutePath().toUri().toString());
+
+        List<Map<String, String>> checks = new ArrayList<>();
+        page.locators.forEach((element, def) -> {
+            Map<String, String> check = new HashMap<>();
+            check.put("element", element);
+            check.put("locator", def[0]);
+            checks.add(check);
+        });
+        Map<String, Object> counts = driver.executeJavaScript(COUNT_SCRIPT, checks);
+
+        List<LocatorCheck> results = new ArrayList<>();
+        page.locators.forEach((element, def) -> {
+            int matches = ((Number) counts.get(element)).intValue();
+            results.add(new LocatorCheck(page.file, page.name, element, def[0], def[1], matches,
+                toStatus(matches, def[1])));
+        });
+        return results;
+    }
+
+    static Status toStatus(int matches, String type) {
+        if (matches < 0) {
+            return Status.INVALID;
+        }
+        if (matches == 0) {
+            return Status.NOT_FOUND;
+        }
+        // Collections are expected to match several nodes
+        if (matches > 1 && !"ElementCollection".equals(type)) {
+            return Status.AMBIGUOUS;
+        }
+        return Status.OK;
+    }
+
+    /**
+     * Read every page that defines at least one locator. Other JSON under the locator
+     * directory, such as performance budgets, has no locators and is skipped.
+     */
+    List<PageDefinition> loadPages() {
+        List<PageDefinition> pages = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(locatorDir)) {
+            for (Path file : (Iterable<Path>) files.filter(path -> path.toString().endsWith(".json")).sorted()::iterator) {
+                // Same form as the paths page objects pass to LocatorManager, e.g. locators/agoda/agoda_locators.json
+                String locatorFile = locatorDir.getFileName() + "/"
+                    + locatorDir.relativize(file).toString().replace('\\', '/');
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+                    for (Map.Entry<String, JsonElement> page : root.entrySet()) {
+                        if (page.getValue().isJsonObject()) {
+                            PageDefinition definition = new PageDefinition(locatorFile, page.getKey(),
+                                page.getValue().getAsJsonObject());
+                            if (!definition.locators.isEmpty()) {
+                                pages.add(definition);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LogUtils.logError(toString(), "Failed to read locator files from " + locatorDir, e);
+            throw new RuntimeException("Failed to read locator files from " + locatorDir, e);
+        }
+        return pages;
+    }
+
+    /**
+     * Locators of one page: element name -> {locator, type}
+     */
+    static class PageDefinition {
+        final String file;
+        final String name;
+        final Map<String, String[]> locators = new HashMap<>();
+
+        PageDefinition(String file, String name, JsonObject definition) {
+            this.file = file;
+            this.name = name;
+            for (Map.Entry<String, JsonElement> element : definition.entrySet()) {
+                if (element.getValue().isJsonObject() && element.getValue().getAsJsonObject().has("locator")) {
+                    JsonObject def = element.getValue().getAsJsonObject();
+                    String type = def.has("type") ? def.get("type").getAsString() : "Element";
+                    locators.put(element.getKey(), new String[] {def.get("locator").getAsString(), type});
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorValidator";
+    }
+
+    /**
+     * Command line entry point; exits with status 1 when any locator is broken
+     * @param args Optional: locator directory, snapshot directory
+     */
+    public static void main(String[] args) {
+        LocatorValidator validator = args.length >= 2
+            ? new LocatorValidator(Paths.get(args[0]), Paths.get(args[1]), Math.min(4, Runtime.getRuntime().availableProcessors()))
+            : new LocatorValidator();
+        boolean broken = validator.validate().stream().anyMatch(LocatorCheck::isBroken);
+        System.exit(broken ? 1 : 0);
+    }
+}
@@ -3,11 +3,17 @@ package framework.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Utility class for logging actions in the framework
  */
 public class LogUtils {
     private static final Logger LOG = LoggerFactory.getLogger("ElementActions");
+    private static final int RECENT_LINES = 200;
+    private static final ThreadLocal<RecentLines> recentLines = ThreadLocal.withInitial(RecentLines::new);
 
     /**
      * Log an action being performed on an element
@@ -18,6 +24,7 @@ public class LogUtils {
         } else {
             LOG.info("🔹 {} - {}", elementInfo, action);
         }
+        recentLines.get().add("INFO", elementInfo, action);
     }
 
     /**
@@ -25,6 +32,7 @@ public class LogUtils {
      */
     public static void logSuccess(String elementInfo, String result) {
         LOG.info("✅ {} - Result: {}", elementInfo, result);
+        recentLines.get().add("INFO", elementInfo, result);
     }
 
     /**
@@ -32,6 +40,7 @@ public class LogUtils {
      */
     public static void logWarning(String elementInfo, String warning) {
         LOG.warn("⚠️ {} - Warning: {}", elementInfo, warning);
+        recentLines.get().add("WARN", elementInfo, warning);
     }
 
     /**
@@ -39,5 +48,43 @@ public class LogUtils {
      */
     public static void logError(String elementInfo, String error, Throwable exception) {
         LOG.error("❌ {} - Error: {}", elementInfo, error, exception);
+        recentLines.get().add("ERROR", elementInfo, error);
+    }
+
+    /**
+     * Last log lines of the current thread, oldest first. Used for failure attachments.
+     */
+    public static List<String> getRecentLines() {
+        return recentLines.get().snapshot();
+    }
+
+    /**
+     * Fixed-size ring of raw log fields; lines are only formatted when read
+     */
+    private static final class RecentLines {
+        private final long[] times = new long[RECENT_LINES];
+        private final String[] levels = new String[RECENT_LINES];
+        private final String[] sources = new String[RECENT_LINES];
+        private final String[] messages = new String[RECENT_LINES];
+        private long written;
+
+        void add(String level, String source, String message) {
+            int slot = (int) (written++ % RECENT_LINES);
+            times[slot] = System.currentTimeMillis();
+            levels[slot] = level;
+            sources[slot] = source;
+            messages[slot] = message;
+        }
+
+        List<String> snapshot() {
+            long first = Math.max(0, written - RECENT_LINES);
+            List<String> lines = new ArrayList<>((int) (written - first));
+            for (long i = first; i < written; i++) {
+                int slot = (int) (i % RECENT_LINES);
+                lines.add(Instant.ofEpochMilli(times[slot]) + " " + levels[slot] + " " + sources[slot]
+                    + " - " + messages[slot]);
+            }
+            return lines;
+        }
     }
 }
@@ -0,0 +1,93 @@
+package framework.utils;
+
+import com.codeborne.selenide.Selenide;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a local file to the remote grid node of the current session through the Selenium
+ * {@code /session/{id}/se/file} endpoint.
+ *
+ * <p>Selenium's own file detector builds the zipped, base64-encoded payload in memory. Here the
+ * file is deflated and encoded on the fly into a chunked HTTP request, so memory use does not
+ * grow with the file size.
+ */
+public class RemoteFileTransfer {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private RemoteFileTransfer() {
+        // Utility class
+    }
+
+    /**
+     * Upload a file to the grid node
+     * @param file Local file
+     * @return Path of the file on the node, usable with {@code sendKeys} on a file input
+     */
+    public static String upload(Path file) {
+        String gridUrl = ConfigManager.getRemoteGridUrl();
+        if (gridUrl.isEmpty()) {
+            throw new IllegalStateException("Remote grid URL not configured");
+        }
+        String endpoint = gridUrl.replaceAll("/+$", "") + "/session/" + Selenide.sessionId() + "/se/file";
+        LogUtils.logAction("RemoteFileTransfer", "Streaming " + file.getFileName() + " to " + endpoint);
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(endpoint).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setChunkedStreamingMode(CHUNK_SIZE);
+            connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+
+            try (OutputStream body = connection.getOutputStream()) {
+                body.write("{\"file\":\"".getBytes(StandardCharsets.US_ASCII));
+                // Closing the encoder writes the base64 padding but must not close the request body
+                try (OutputStream base64 = Base64.getEncoder().wrap(new FilterOutputStream(body) {
+                        @Override
+                        public void write(byte[] b, int off, int len) throws IOException {
+                            out.write(b, off, len);
+                        }
+
+                        @Override
+                        public void close() throws IOException {
+                            flush();
+                        }
+                    });
+                     ZipOutputStream zip = new ZipOutputStream(base64)) {
+                    zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                    Files.copy(file, zip);
+                    zip.closeEntry();
+                }
+                body.write("\"}".getBytes(StandardCharsets.US_ASCII));
+            }
+
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Grid rejected upload with HTTP " + status);
+            }
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                JsonObject response = JsonParser.parseReader(reader).getAsJsonObject();
+                String remotePath = response.get("value").getAsString();
+                LogUtils.logSuccess("RemoteFileTransfer", "Uploaded to node path " + remotePath);
+                return remotePath;
+            }
+        } catch (IOException e) {
+            LogUtils.logError("RemoteFileTransfer", "Failed to stream " + file + " to the grid", e);
+            throw new RuntimeException("Failed to upload " + file + " to the grid", e);
+        }
+    }
+}
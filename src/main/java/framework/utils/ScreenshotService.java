@@ -0,0 +1,354 @@
+package framework.utils;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Screenshots whose only cost on the test thread is the capture itself.
+ *
+ * <p>On Chromium browsers a capture costs two round trips: one script call that measures the
+ * document size (pages) or the bounding box (elements), then one {@code Page.captureScreenshot}
+ * with that clip and {@code captureBeyondViewport}. The browser encodes PNG or JPEG directly. Other browsers fall
+ * back to WebDriver screenshots (viewport or element, PNG), which are re-encoded if JPEG is
+ * configured.
+ *
+ * <p>To capture beyond the viewport Chrome briefly resizes it to the clip, so a page taller than
+ * the window sees a resize event and a relayout of viewport-relative ({@code vh}) content while
+ * the frame is taken. The clip is capped at {@value #MAX_CAPTURE_HEIGHT} pixels, the largest
+ * surface Chrome renders in one pass; longer pages are cut off at the cap.
+ *
+ * <p>Writing is asynchronous. The base64 data is handed to a bounded background writer, which
+ * decodes it in chunks into a temp file in the screenshot directory, hashes the bytes and then
+ * moves the temp file to its final name there. A frame identical to an earlier one becomes a hard
+ * link to that file. File names come from a per-run counter, so parallel tests never collide.
+ *
+ * <p>The path returned by {@link #capturePage(String)} and {@link #captureElement(WebElement, String)}
+ * is final, but the file appears only once written. Callers that read the file straight away use
+ * {@link #capturePageAndWait(String, Duration)} or {@link #captureElementAndWait(WebElement, String,
+ * Duration)}; {@link #flush(Duration)} waits for everything queued so far.
+ */
+public class ScreenshotService {
+
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+    static final int MAX_CAPTURE_HEIGHT = 16384;
+
+    private static final String DOCUMENT_SIZE_SCRIPT =
+        "var d = document.documentElement, b = document.body || d;" +
+        "return [Math.max(d.scrollWidth, b.scrollWidth), Math.max(d.scrollHeight, b.scrollHeight)];";
+    private static final String ELEMENT_BOX_SCRIPT =
+        "var r = arguments[0].getBoundingClientRect();" +
+        "return [r.left + window.scrollX, r.top + window.scrollY, r.width, r.height];";
+
+    private static final ScreenshotService INSTANCE = new ScreenshotService(
+        Paths.get(ConfigManager.getScreenshotDir()),
+        ConfigManager.getScreenshotFormat(),
+        ConfigManager.getScreenshotQuality());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> INSTANCE.flush(SHUTDOWN_FLUSH_TIMEOUT)));
+    }
+
+    private final Path directory;
+    private final boolean jpeg;
+    private final int quality;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, Path> filesByHash = new ConcurrentHashMap<>();
+    private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+    // When the queue is full the test thread writes itself, which bounds memory held by frames
+    private final ExecutorService encoder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-encoder");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    ScreenshotService(Path directory, String format, int quality) {
+        this.directory = directory;
+        this.jpeg = "jpeg".equals(format) || "jpg".equals(format);
+        this.quality = Math.max(0, Math.min(100, quality));
+    }
+
+    public static ScreenshotService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Capture the whole page, beyond the viewport where the browser supports it.
+     * The file is written in the background.
+     * @param name File name prefix
+     * @return Path the screenshot is written to
+     */
+    public Path capturePage(String name) {
+        return queuePage(name).target;
+    }
+
+    /**
+     * Capture the whole page and wait until the file is written
+     * @param name File name prefix
+     * @param timeout Maximum time to wait for the write
+     * @return Path of the written screenshot
+     */
+    public Path capturePageAndWait(String name, Duration timeout) {
+        return queuePage(name).await(timeout);
+    }
+
+    /**
+     * Capture one element, clipped to its bounding box.
+     * The file is written in the background.
+     * @param element Element to capture
+     * @param name File name prefix
+     * @return Path the screenshot is written to
+     */
+    public Path captureElement(WebElement element, String name) {
+        return queueElement(element, name).target;
+    }
+
+    /**
+     * Capture one element and wait until the file is written
+     * @param element Element to capture
+     * @param name File name prefix
+     * @param timeout Maximum time to wait for the write
+     * @return Path of the written screenshot
+     */
+    public Path captureElementAndWait(WebElement element, String name, Duration timeout) {
+        return queueElement(element, name).await(timeout);
+    }
+
+    /**
+     * Wait for queued screenshots to be written
+     * @param timeout Maximum time to wait
+     */
+    public void flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<?> next;
+        while ((next = pending.poll()) != null) {
+            try {
+                next.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                LogUtils.logWarning("Screenshot", "Screenshot not written: " + e.getMessage());
+            }
+        }
+    }
+
+    private PendingWrite queuePage(String name) {
+        LogUtils.logAction("Screenshot", "Capturing page: " + name);
+        Optional<DevTools> devTools = DevToolsUtils.getDevTools();
+        if (devTools.isPresent()) {
+            List<Number> size = numbers(JavaScriptUtils.executeJs(DOCUMENT_SIZE_SCRIPT));
+            double height = size.get(1).doubleValue();
+            if (height > MAX_CAPTURE_HEIGHT) {
+                LogUtils.logWarning("Screenshot", "Page is " + (long) height + "px tall, capturing the first "
+                    + MAX_CAPTURE_HEIGHT + "px");
+                height = MAX_CAPTURE_HEIGHT;
+            }
+            return submit(name, captureWithCdp(devTools.get(), 0, 0, size.get(0), height), true);
+        }
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        return submit(name, ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64), false);
+    }
+
+    private PendingWrite queueElement(WebElement element, String name) {
+        LogUtils.logAction("Screenshot", "Capturing element: " + name);
+        Optional<DevTools> devTools = DevToolsUtils.getDevTools();
+        if (devTools.isPresent()) {
+            List<Number> box = numbers(JavaScriptUtils.executeJs(ELEMENT_BOX_SCRIPT, element));
+            double height = Math.min(box.get(3).doubleValue(), MAX_CAPTURE_HEIGHT);
+            return submit(name, captureWithCdp(devTools.get(), box.get(0), box.get(1), box.get(2), height), true);
+        }
+        return submit(name, element.getScreenshotAs(OutputType.BASE64), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Number> numbers(Object scriptResult) {
+        return (List<Number>) scriptResult;
+    }
+
+    private String captureWithCdp(DevTools devTools, Number x, Number y, Number width, Number height) {
+        Map<String, Object> clip = new HashMap<>();
+        clip.put("x", x);
+        clip.put("y", y);
+        clip.put("width", width);
+        clip.put("height", height);
+        clip.put("scale", 1);
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", jpeg ? "jpeg" : "png");
+        if (jpeg) {
+            params.put("quality", quality);
+        }
+        params.put("clip", clip);
+        params.put("captureBeyondViewport", true);
+        return (String) devTools.send(DevToolsUtils.command("Page.captureScreenshot", params)).get("data");
+    }
+
+    private PendingWrite submit(String name, String base64, boolean encodedByBrowser) {
+        String extension = jpeg ? ".jpg" : ".png";
+        Path target = directory.resolve(String.format("%s_%s_%05d%s",
+            name.replaceAll("[^A-Za-z0-9._-]", "_"), runId, sequence.incrementAndGet(), extension));
+        boolean transcode = jpeg && !encodedByBrowser;
+        pending.removeIf(Future::isDone);
+        Future<?> written = encoder.submit(() -> write(base64, target, transcode));
+        pending.add(written);
+        LogUtils.logSuccess("Screenshot", "Screenshot queued: " + target);
+        return new PendingWrite(target, written);
+    }
+
+    private void write(String base64, Path target, boolean transcode) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(directory, "screenshot", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                if (transcode) {
+                    writeChunked(new ByteArrayInputStream(toJpeg(Base64.getMimeDecoder().decode(base64))), channel, digest);
+                } else {
+                    writeChunked(Base64.getMimeDecoder().wrap(
+                        new ByteArrayInputStream(base64.getBytes(StandardCharsets.ISO_8859_1))), channel, digest);
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path existing = filesByHash.putIfAbsent(hash, target);
+            if (existing != null && Files.exists(existing)) {
+                Files.delete(temp);
+                link(existing, target);
+            } else {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                if (existing != null) {
+                    filesByHash.put(hash, target);
+                }
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LogUtils.logError("Screenshot", "Failed to write screenshot " + target, e);
+        } finally {
+            // Gone after a successful move; left behind when decoding or moving failed
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    LogUtils.logWarning("Screenshot", "Could not delete temp file " + temp + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeChunked(InputStream in, FileChannel channel, MessageDigest digest) throws IOException {
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) > 0) {
+            digest.update(chunk, 0, read);
+            ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, read);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void link(Path existing, Path target) throws IOException {
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, existing);
+        } catch (UnsupportedOperationException | IOException e) {
+            // File systems without hard links get a copy
+            Files.copy(existing, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality / 100f);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static final class PendingWrite {
+        private final Path target;
+        private final Future<?> written;
+
+        private PendingWrite(Path target, Future<?> written) {
+            this.target = target;
+            this.written = written;
+        }
+
+        private Path await(Duration timeout) {
+            try {
+                written.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while writing screenshot " + target, e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new RuntimeException("Screenshot not written: " + target, e);
+            }
+            // write() logs its own failures, so a missing file is the only sign of one
+            if (!Files.exists(target)) {
+                throw new RuntimeException("Screenshot not written: " + target);
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package framework.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+
+/**
+ * Generates files of a given size for upload tests, cached by size in
+ * {@code <java.io.tmpdir>/synthetic-files} so repeated runs reuse them.
+ *
+ * <p>Pattern files contain printable pseudo-random content from a fixed seed, streamed in blocks:
+ * the same size always gives the same bytes, and nothing repeats, so compression or
+ * deduplication on the way to the server does not shrink the upload.
+ * sparse files are zero-filled and allocated without writing (sparse on most file systems).
+ * Files are written under a temporary name and moved into place, so parallel tests never
+ * see a partial file.
+ */
+public class SyntheticFiles {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final long SEED = 20240601L;
+    private static final int LINE_LENGTH = 80;
+
+    private SyntheticFiles() {
+        // Utility class
+    }
+
+    /**
+     * Get a file with deterministic printable content
+     * @param bytes File size
+     * @param extension File extension including the dot, e.g. ".csv"
+     * @return Path to the cached file
+     */
+    public static Path pattern(long bytes, String extension) {
+        return getOrCreate("pattern-" + Long.toHexString(SEED) + "-" + bytes + extension, bytes, false);
+    }
+
+    /**
+     * Get a zero-filled sparse file
+     * @param bytes File size
+     * @param extension File extension including the dot, e.g. ".bin"
+     * @return Path to the cached file
+     */
+    public static Path sparse(long bytes, String extension) {
+        return getOrCreate("sparse-" + bytes + extension, bytes, true);
+    }
+
+    /**
+     * Get the cache directory
+     */
+    public static Path getCacheDir() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "synthetic-files");
+    }
+
+    private static Path getOrCreate(String fileName, long bytes, boolean sparse) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("File size must not be negative: " + bytes);
+        }
+        Path target = getCacheDir().resolve(fileName);
+        try {
+            if (Files.isRegularFile(target) && Files.size(target) == bytes) {
+                return target;
+            }
+            LogUtils.logAction("SyntheticFiles", String.format("Generating %s file of %d bytes", sparse ? "sparse" : "pattern", bytes));
+            long start = System.currentTimeMillis();
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), fileName, ".tmp");
+            try {
+                if (sparse) {
+                    try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw")) {
+                        file.setLength(bytes);
+                    }
+                } else {
+                    try (OutputStream out = Files.newOutputStream(temp)) {
+                        writePattern(out, bytes);
+                    }
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            LogUtils.logSuccess("SyntheticFiles", String.format("Generated %s in %d ms", target,
+                System.currentTimeMillis() - start));
+            return target;
+        } catch (IOException e) {
+            LogUtils.logError("SyntheticFiles", "Failed to generate " + fileName, e);
+            throw new RuntimeException("Failed to generate synthetic file " + fileName, e);
+        }
+    }
+
+    /**
+     * Write the pattern content of a file of the given size
+     * @param out Stream to write to
+     * @param bytes Number of bytes to write
+     */
+    static void writePattern(OutputStream out, long bytes) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        byte[] block = new byte[BLOCK_SIZE];
+        long position = 0;
+        while (position < bytes) {
+            int length = (int) Math.min(BLOCK_SIZE, bytes - position);
+            for (int i = 0; i < length; i++, position++) {
+                // Printable lines of 79 characters
+                block[i] = (position % LINE_LENGTH == LINE_LENGTH - 1)
+                    ? (byte) '\n' : (byte) ('!' + random.nextInt(94));
+            }
+            out.write(block, 0, length);
+        }
+    }
+}
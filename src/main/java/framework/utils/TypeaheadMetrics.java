@@ -0,0 +1,73 @@
+package framework.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends keystroke-to-suggestions latencies of autocomplete fields to
+ * {@code <metricsDir>/typeahead-latency.csv} so typeahead performance can be tracked across runs.
+ *
+ * <p>One row per keystroke; a latency of -1 means no suggestion update followed that keystroke
+ * (typically swallowed by the site's debounce).
+ */
+public class TypeaheadMetrics {
+
+    private static final String HEADER = "timestamp,element,text,keystroke,latencyMs,settleMs,suggestions\n";
+    private static Path file;
+
+    private TypeaheadMetrics() {
+        // Utility class
+    }
+
+    /**
+     * Record the latencies of one typing sequence
+     * @param element Element description
+     * @param text Typed text
+     * @param keystrokeLatencies Latency per input event in ms
+     * @param settleMs Time from the last keystroke to the last suggestion change, -1 if none
+     * @param suggestions Number of suggestions once stable
+     */
+    public static synchronized void record(String element, String text, List<Long> keystrokeLatencies,
+                                           long settleMs, int suggestions) {
+        try {
+            Path target = getFile();
+            boolean created = Files.notExists(target);
+            try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (created) {
+                    writer.write(HEADER);
+                }
+                String timestamp = Instant.now().toString();
+                for (int i = 0; i < keystrokeLatencies.size(); i++) {
+                    writer.write(String.join(",", timestamp, csv(element), csv(text), String.valueOf(i + 1),
+                        String.valueOf(keystrokeLatencies.get(i)), String.valueOf(settleMs),
+                        String.valueOf(suggestions)));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            // Metrics must never fail a test
+            LogUtils.logWarning("TypeaheadMetrics", "Failed to record typeahead latency: " + e.getMessage());
+        }
+    }
+
+    private static Path getFile() throws IOException {
+        if (file == null) {
+            Path dir = Paths.get(ConfigManager.getMetricsDir());
+            Files.createDirectories(dir);
+            file = dir.resolve("typeahead-latency.csv");
+        }
+        return file;
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
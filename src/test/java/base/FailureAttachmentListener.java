@@ -0,0 +1,27 @@
+package base;
+
+import framework.reporting.AllureSteps;
+import framework.reporting.FailureAttachments;
+import io.qameta.allure.model.StepResult;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Attaches a screenshot, the page source and recent log lines to failed tests.
+ * Runs after the test method but before the Allure test case is stopped, on the test thread.
+ */
+public class FailureAttachmentListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        // Always take the step so it cannot leak into the next test on this thread
+        StepResult failedStep = AllureSteps.takeFailedStep();
+        if (testResult.getStatus() == ITestResult.FAILURE) {
+            FailureAttachments.capture(failedStep);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package base;
+
+import framework.reporting.TestHistoryStore;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+import org.testng.IAnnotationTransformer;
+import org.testng.IExecutionListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.TestResult;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Records every test result in the {@link TestHistoryStore}, installs {@link FlakyRetryAnalyzer}
+ * on tests without their own analyzer and applies the quarantine mode. Annotation transformers
+ * cannot be declared with {@code @Listeners}, so Surefire registers this listener.
+ */
+public class FlakinessListener implements IAnnotationTransformer, IMethodInterceptor, ITestListener,
+        IExecutionListener {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor,
+                          Method testMethod) {
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        if (analyzer == null || analyzer == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(FlakyRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        String mode = ConfigManager.getQuarantineMode();
+        if (!"exclude".equals(mode) && !"only".equals(mode)) {
+            return methods;
+        }
+        Set<String> quarantined = quarantinedMethods(TestHistoryStore.getInstance());
+        boolean keepQuarantined = "only".equals(mode);
+        List<IMethodInstance> selected = methods.stream()
+            .filter(m -> quarantined.contains(m.getMethod().getQualifiedName()) == keepQuarantined)
+            .collect(Collectors.toList());
+        LogUtils.logAction("FlakinessListener", String.format("Quarantine mode '%s': running %d of %d tests",
+            mode, selected.size(), methods.size()));
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, TestHistoryStore.Outcome.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, TestHistoryStore.Outcome.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A retried attempt is reported as skipped, but it failed
+        if (result.wasRetried()) {
+            record(result, TestHistoryStore.Outcome.FAIL);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        TestHistoryStore.getInstance().writeStats(
+            Paths.get(ConfigManager.getMetricsDir(), TestHistoryStore.STATS_FILE_NAME));
+    }
+
+    /**
+     * History key of a result: the qualified method name, plus the data provider row index
+     * (e.g. {@code Suite.search[2]}) so each row has its own history
+     */
+    static String testId(ITestResult result) {
+        String name = result.getMethod().getQualifiedName();
+        if (result.getParameters().length == 0) {
+            return name;
+        }
+        if (result instanceof TestResult) {
+            return name + "[" + ((TestResult) result).getParameterIndex() + "]";
+        }
+        return name + "[" + Arrays.deepToString(result.getParameters()) + "]";
+    }
+
+    /**
+     * Methods that are quarantined themselves or in any data provider row; the interceptor
+     * can only select whole methods
+     */
+    private static Set<String> quarantinedMethods(TestHistoryStore store) {
+        return store.getAllStats().stream()
+            .map(TestHistoryStore.Stats::getTestId)
+            .filter(store::isQuarantined)
+            .map(id -> id.indexOf('[') > 0 ? id.substring(0, id.indexOf('[')) : id)
+            .collect(Collectors.toSet());
+    }
+
+    private static void record(ITestResult result, TestHistoryStore.Outcome outcome) {
+        TestHistoryStore.getInstance().record(testId(result), outcome, result.getEndMillis() - result.getStartMillis());
+    }
+}
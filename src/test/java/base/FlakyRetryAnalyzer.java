@@ -0,0 +1,30 @@
+package base;
+
+import framework.reporting.TestHistoryStore;
+import framework.utils.ConfigManager;
+import framework.utils.LogUtils;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Retries a failed test only if its recorded history shows flakiness.
+ * Tests that fail consistently are not retried. TestNG creates one instance per test method.
+ */
+public class FlakyRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final int MAX_RETRIES = ConfigManager.getFlakyMaxRetries();
+
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String testId = FlakinessListener.testId(result);
+        if (retries >= MAX_RETRIES || !TestHistoryStore.getInstance().isFlaky(testId)) {
+            return false;
+        }
+        retries++;
+        LogUtils.logWarning("FlakyRetryAnalyzer", String.format("Retrying flaky test %s (%d/%d): %s",
+            testId, retries, MAX_RETRIES, TestHistoryStore.getInstance().getStats(testId)));
+        return true;
+    }
+}
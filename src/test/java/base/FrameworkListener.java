@@ -0,0 +1,71 @@
+package base;
+
+import com.codeborne.selenide.WebDriverRunner;
+import framework.elements.control.DatePicker;
+import framework.metrics.LocateTimingListener;
+import framework.metrics.MetricsRegistry;
+import framework.metrics.PageMetrics;
+import framework.metrics.PageMetricsCollector;
+import framework.reporting.FailureAttachments;
+import framework.utils.ScreenshotService;
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Framework wiring shared by every suite, whatever base class its tests extend.
+ * Registered for the whole run through the surefire {@code listener} property.
+ */
+public class FrameworkListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+    private static final AtomicBoolean locateTimingAdded = new AtomicBoolean();
+    private static final AtomicBoolean calendarCleanerAdded = new AtomicBoolean();
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Split element action latency into locate/wait/act phases; must precede driver creation
+        if (MetricsRegistry.getInstance().isEnabled() && locateTimingAdded.compareAndSet(false, true)) {
+            WebDriverRunner.addListener(new LocateTimingListener());
+        }
+        // Calendar months cached by DatePicker are dropped with their browser session
+        if (calendarCleanerAdded.compareAndSet(false, true)) {
+            WebDriverRunner.addListener(new DatePicker.SessionCacheCleaner());
+        }
+    }
+
+    /**
+     * Attach the page metrics collected by a test (and the configuration methods before it) to
+     * its Allure result. Metrics collected in an {@code @AfterMethod} stay in the run's records
+     * but are drained from the thread, so they are not attached to the next test.
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.getTestMethod().isAfterMethodConfiguration()) {
+            PageMetricsCollector.takeThreadRecords();
+            return;
+        }
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<PageMetrics> metrics = PageMetricsCollector.takeThreadRecords();
+        if (!metrics.isEmpty()) {
+            Allure.addAttachment("Page metrics", "application/json", PageMetricsCollector.toJson(metrics), ".json");
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        MetricsRegistry.getInstance().dump();
+        PageMetricsCollector.dump();
+        FailureAttachments.flush(FLUSH_TIMEOUT);
+        ScreenshotService.getInstance().flush(FLUSH_TIMEOUT);
+    }
+}
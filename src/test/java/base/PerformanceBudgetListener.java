@@ -0,0 +1,57 @@
+package base;
+
+import framework.metrics.PageMetrics;
+import framework.metrics.PageMetricsCollector;
+import framework.metrics.PerformanceBudgets;
+import framework.utils.LogUtils;
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Turns performance budget violations found during a test (including the configuration
+ * methods that run before it) into a soft failure: the test runs to the end and is then marked
+ * failed, with the measured page metrics attached.
+ *
+ * <p>The test result is final once the test method returns, so violations found in an
+ * {@code @AfterMethod} are logged and drained there instead of leaking into the next test.
+ */
+public class PerformanceBudgetListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.getTestMethod().isAfterMethodConfiguration()) {
+            for (PerformanceBudgets.Violation violation : PerformanceBudgets.takeThreadViolations()) {
+                LogUtils.logWarning("PerformanceBudgetListener", "Budget exceeded in @AfterMethod "
+                    + method.getTestMethod().getQualifiedName() + ", not attributed to a test: " + violation);
+            }
+            return;
+        }
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<PerformanceBudgets.Violation> violations = PerformanceBudgets.takeThreadViolations();
+        if (violations.isEmpty()) {
+            return;
+        }
+        List<PageMetrics> measured = violations.stream()
+            .map(PerformanceBudgets.Violation::getMetrics)
+            .distinct()
+            .collect(Collectors.toList());
+        Allure.addAttachment("Performance budget violations", "application/json",
+            PageMetricsCollector.toJson(measured), ".json");
+
+        String message = violations.stream()
+            .map(PerformanceBudgets.Violation::toString)
+            .collect(Collectors.joining("\n", "Performance budget exceeded:\n", ""));
+        // Keep a functional failure as the primary cause
+        if (testResult.getStatus() == ITestResult.SUCCESS) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package base;
+
+import framework.metrics.TraceRecorder;
+import org.testng.IClassListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestClass;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * Records a Chrome trace of every test method together with its {@code @BeforeMethod} and
+ * {@code @AfterMethod} configuration methods, each shown as its own span.
+ *
+ * <p>The trace starts at the first {@code @BeforeMethod} (renamed once the test method starts)
+ * and is written when the next method that does not belong to the test starts, or when its
+ * class finishes, since TestNG does not signal the end of the last {@code @AfterMethod}.
+ */
+public class TraceListener implements IInvokedMethodListener, ITestListener, IClassListener {
+
+    // Status of the finished test whose trace may still receive @AfterMethod spans
+    private static final ThreadLocal<String> finishedStatus = new ThreadLocal<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!TraceRecorder.isEnabled()) {
+            return;
+        }
+        // Configuration methods may create the driver, so the command listener goes in first
+        TraceRecorder.installCommandListener();
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (!testMethod.isAfterMethodConfiguration()) {
+            finishPending();
+        }
+        if (method.isTestMethod()) {
+            if (TraceRecorder.isRecording()) {
+                TraceRecorder.renameTest(FlakinessListener.testId(testResult));
+            } else {
+                TraceRecorder.startTest(FlakinessListener.testId(testResult));
+            }
+            return;
+        }
+        if (testMethod.isBeforeMethodConfiguration() && !TraceRecorder.isRecording()) {
+            TraceRecorder.startTest(testMethod.getQualifiedName());
+        }
+        TraceRecorder.begin(testMethod.getMethodName(), TraceRecorder.CONFIG, testMethod.getQualifiedName());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!TraceRecorder.isRecording()) {
+            return;
+        }
+        if (method.isTestMethod()) {
+            finishedStatus.set(status(testResult));
+        } else {
+            TraceRecorder.end();
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // Skipped after a failed @BeforeMethod: the test method never started
+        if (TraceRecorder.isRecording() && finishedStatus.get() == null) {
+            TraceRecorder.renameTest(FlakinessListener.testId(result));
+            finishedStatus.set("skipped");
+        }
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        finishPending();
+    }
+
+    private static void finishPending() {
+        String status = finishedStatus.get();
+        if (status != null) {
+            finishedStatus.remove();
+            TraceRecorder.finishTest(status);
+        }
+    }
+
+    private static String status(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "passed";
+            case ITestResult.FAILURE:
+                return "failed";
+            case ITestResult.SKIP:
+                return "skipped";
+            default:
+                return "unknown";
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package framework.elements;
+
+import framework.elements.control.DatePicker;
+import framework.elements.control.DatePicker.CalendarLayout;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Calendar engine against the fake driver, which answers the read script with a two-month layout
+ */
+public class DatePickerTest {
+
+    private FakeBrowser browser;
+    private AtomicInteger reads;
+    private DatePicker picker;
+
+    @BeforeMethod
+    public void startFakeBrowser() {
+        DatePicker.clearCalendarCache();
+        browser = FakeBrowser.start();
+        browser.getDom().add(new FakeNode("div").id("stay"));
+        reads = new AtomicInteger();
+        browser.getDriver().onScript("return readMonths();", args -> {
+            reads.incrementAndGet();
+            return Map.of("months", List.of(
+                Map.of("caption", "March 2030", "days", List.of(1L, 2L, 3L)),
+                Map.of("caption", "April 2030", "days", List.of(28L, 29L))));
+        });
+        picker = new DatePicker("#stay", "[data-date='%d-%d-%d']", "yyyy-MM-dd",
+            new CalendarLayout(".caption", "MMMM yyyy", ".day", ".next", ".prev", ".month"), "Stay");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void closeFakeBrowser() {
+        browser.close();
+        DatePicker.clearCalendarCache();
+    }
+
+    @Test
+    public void testEachVisibleMonthIsCachedFromItsOwnContainer() {
+        assertEquals(picker.showMonth(YearMonth.of(2030, 4)), YearMonth.of(2030, 4));
+
+        assertEquals(picker.getEnabledDays(YearMonth.of(2030, 3)), Set.of(1, 2, 3));
+        assertEquals(picker.getEnabledDays(YearMonth.of(2030, 4)), Set.of(28, 29));
+        // Second visible month needs no navigation, and both months come from one read
+        assertEquals(reads.get(), 1);
+        assertTrue(browser.getDriver().getCommands().stream().noneMatch(c -> c.contains("step()")));
+    }
+
+    @Test
+    public void testCacheIsDroppedWhenTheDriverQuits() {
+        picker.getEnabledDays(YearMonth.of(2030, 3));
+        picker.getEnabledDays(YearMonth.of(2030, 3));
+        assertEquals(reads.get(), 1);
+
+        new DatePicker.SessionCacheCleaner().beforeQuit(browser.getDriver());
+
+        picker.getEnabledDays(YearMonth.of(2030, 3));
+        assertEquals(reads.get(), 2);
+    }
+}
@@ -0,0 +1,99 @@
+package framework.elements;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.ex.ElementShould;
+import framework.elements.core.Button;
+import framework.elements.core.Label;
+import framework.elements.core.TextBox;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeDom;
+import framework.testing.FakeNode;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Element wrapper tests against the in-memory fake driver: no browser, no network
+ */
+public class FakeDriverElementTest {
+
+    private FakeBrowser browser;
+    private FakeDom dom;
+
+    @BeforeMethod
+    public void startFakeBrowser() {
+        browser = FakeBrowser.start();
+        dom = browser.getDom();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopFakeBrowser() {
+        browser.close();
+    }
+
+    @Test
+    public void testClickWaitsUntilButtonIsEnabled() {
+        AtomicInteger clicks = new AtomicInteger();
+        FakeNode save = new FakeNode("button").id("save").text("Save").disabled().onClick(node -> clicks.incrementAndGet());
+        dom.add(save).after(Duration.ofMillis(300), d -> save.enabled(true));
+
+        new Button("#save", "Save").click();
+
+        assertEquals(clicks.get(), 1);
+    }
+
+    @Test
+    public void testWaitForTextFollowsDelayedUpdate() {
+        FakeNode statusNode = new FakeNode("span").id("status").text("Loading");
+        dom.add(statusNode).after(Duration.ofMillis(300), d -> statusNode.text("Done"));
+
+        Label status = new Label("#status", "Status");
+        status.waitForText("Done");
+
+        assertEquals(status.getText(), "Done");
+    }
+
+    @Test
+    public void testTextBoxSetsValue() {
+        dom.add(new FakeNode("input").id("city").value("Hanoi"));
+
+        TextBox city = new TextBox("#city", "City");
+        city.setText("Da Nang");
+
+        assertEquals(city.getValue(), "Da Nang");
+    }
+
+    @Test
+    public void testExecuteWithRetryRecoversFromStaleElement() {
+        FakeNode row = new FakeNode("div").id("row").text("First render");
+        dom.add(row);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String text = new Label("#row", "Row").executeWithRetry(element -> {
+            WebElement resolved = element.toWebElement();
+            if (attempts.incrementAndGet() == 1) {
+                dom.rerender(dom.getBody().getChildren().get(0)).text("Second render");
+            }
+            return resolved.getText();
+        }, "read row text");
+
+        assertEquals(text, "Second render");
+        assertEquals(attempts.get(), 2);
+    }
+
+    @Test
+    public void testWaitForConditionFailsAtTimeout() {
+        dom.add(new FakeNode("div").id("spinner"));
+
+        long start = System.currentTimeMillis();
+        assertThrows(ElementShould.class,
+            () -> new Label("#spinner", "Spinner").waitForCondition(Condition.hidden, 300));
+        assertTrue(System.currentTimeMillis() - start < 3000);
+    }
+}
@@ -0,0 +1,63 @@
+package framework.elements;
+
+import framework.elements.navigation.PaginationControls;
+import framework.elements.navigation.PaginationControls.CrawledPage;
+import framework.elements.navigation.PaginationControls.Extractor;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Crawl arguments against the fake driver; the crawl script itself runs only in a real browser
+ */
+public class PaginationControlsTest {
+
+    private FakeBrowser browser;
+
+    @BeforeMethod
+    public void startFakeBrowser() {
+        browser = FakeBrowser.start();
+        browser.getDom().add(new FakeNode("nav").id("pager"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void closeFakeBrowser() {
+        browser.close();
+    }
+
+    @Test
+    public void testExtractorIsPassedAsDataWithResultsContainerAndQuietPeriod() {
+        List<List<Object>> calls = new ArrayList<>();
+        browser.getDriver().onScript("extractor.item", args -> {
+            calls.add(args);
+            Map<String, Object> record = new HashMap<>();
+            record.put("name", "Hotel A");
+            record.put("url", null);
+            return Map.of("records", List.of(record), "hasNext", false);
+        });
+        PaginationControls pager = new PaginationControls("#pager", "a.page", "a.next", "a.prev", "a.active", "Pager");
+        Extractor extractor = new Extractor(".hotel").text("name", "h3").attribute("url", "a", "href");
+
+        Iterator<CrawledPage> pages = pager.pages("#results", extractor, 5);
+        CrawledPage page = pages.next();
+
+        assertFalse(pages.hasNext());
+        assertEquals(page.getRecords().get(0).get("name"), "Hotel A");
+        List<Object> args = calls.get(0);
+        Map<?, ?> extractorArgument = (Map<?, ?>) args.get(2);
+        assertEquals(extractorArgument.get("item"), ".hotel");
+        assertEquals(((List<?>) extractorArgument.get("fields")).size(), 2);
+        assertEquals(((Number) args.get(6)).intValue(), 150);
+        assertEquals(args.get(8), "#results");
+    }
+}
@@ -0,0 +1,79 @@
+package framework.elements;
+
+import framework.elements.core.ScopedLocator;
+import framework.elements.core.ScopedLocator.StepType;
+import framework.testing.FakeDom;
+import framework.testing.FakeNode;
+import framework.testing.FakeWebDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Chain parsing and scope caching; the resolve script is answered by the fake driver
+ */
+public class ScopedLocatorTest {
+
+    @Test
+    public void testChainIsSplitIntoScopeStepsAndTarget() {
+        ScopedLocator locator = ScopedLocator.parse("shadow:checkout-app >> shadow: payment-form >>input[name='card']");
+
+        assertEquals(locator.getScopeSteps().size(), 2);
+        assertEquals(locator.getScopeSteps().get(0).getType(), StepType.SHADOW);
+        assertEquals(locator.getScopeSteps().get(1).getSelector(), "payment-form");
+        assertEquals(locator.getTarget().getType(), StepType.CSS);
+        assertEquals(locator.getTarget().getSelector(), "input[name='card']");
+        assertEquals(locator.toString(), "shadow:checkout-app >> shadow:payment-form >> css:input[name='card']");
+        assertEquals(ScopedLocator.parse(locator.toString()).toString(), locator.toString());
+    }
+
+    @Test
+    public void testChildKeepsScopeAndReplacesTarget() {
+        ScopedLocator child = ScopedLocator.parse("shadow:payment-form >> css:#card").child("#cvv");
+
+        assertEquals(child.toString(), "shadow:payment-form >> css:#cvv");
+    }
+
+    @Test
+    public void testInvalidChainsAreRejected() {
+        for (String chain : new String[] {"", "  ", "shadow:payment-form", "css:form >> css:input",
+            "shadow:app >>  >> css:input", "frame:iframe#pay >> css:input"}) {
+            assertThrows(IllegalArgumentException.class, () -> ScopedLocator.parse(chain));
+        }
+    }
+
+    @Test
+    public void testCachedScopeIsOnlyReusedByTheSameDriverAndContext() {
+        FakeWebDriver first = new FakeWebDriver(new FakeDom().add(new FakeNode("payment-form").id("host")));
+        FakeWebDriver second = new FakeWebDriver(new FakeDom().add(new FakeNode("payment-form").id("host")));
+        List<Integer> stepCounts = new ArrayList<>();
+        answerResolve(first, stepCounts);
+        answerResolve(second, stepCounts);
+        ScopedLocator card = ScopedLocator.parse("shadow:payment-form >> css:input");
+
+        assertEquals(card.findElements(first).size(), 2);
+        assertEquals(card.child("button").findElements(first).size(), 2);
+        assertEquals(card.findElements(second).size(), 2);
+
+        // Full chain, cached scope, full chain again for the other driver
+        assertEquals(stepCounts, List.of(2, 1, 2));
+    }
+
+    private static void answerResolve(FakeWebDriver driver, List<Integer> stepCounts) {
+        driver.onScript("var steps = arguments[0]", args -> {
+            stepCounts.add(((List<?>) args.get(0)).size());
+            WebElement host = driver.findElement(By.cssSelector("#host"));
+            Map<String, Object> result = new HashMap<>();
+            result.put("elements", List.of(host, host));
+            result.put("host", host);
+            return result;
+        });
+    }
+}
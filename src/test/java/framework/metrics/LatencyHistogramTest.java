@@ -0,0 +1,55 @@
+package framework.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for LatencyHistogram and ActionTimer (no browser required)
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverTheirUpperBounds() {
+        for (long value : new long[] {0, 15, 16, 17, 18, 1_000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "upper bound of " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "previous bucket of " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(histogram.getCount(), 1000);
+        assertEquals(histogram.getMax(), 1000);
+        assertEquals(histogram.getMean(), 500.5, 0.001);
+        assertEquals(histogram.getPercentile(50), 500, 500 * 0.125);
+        assertEquals(histogram.getPercentile(99), 990, 990 * 0.125);
+        assertEquals(histogram.getPercentile(100), 1000);
+    }
+
+    @Test
+    public void testNestedTimersSplitPhases() throws Exception {
+        String locator = "#nested-" + System.nanoTime();
+        try (ActionTimer click = ActionTimer.start("click", LatencyHistogramTest.class, locator, Phase.ACT)) {
+            try (ActionTimer wait = ActionTimer.start("waitForClickable", LatencyHistogramTest.class, locator, Phase.WAIT)) {
+                ActionTimer.locateStarted();
+                Thread.sleep(20);
+                ActionTimer.locateFinished();
+                Thread.sleep(20);
+            }
+        }
+
+        MetricsRegistry.ActionStats click = MetricsRegistry.getInstance().stats("click", LatencyHistogramTest.class, locator);
+        assertEquals(click.getTotal().getCount(), 1);
+        assertTrue(click.getHistogram(Phase.LOCATE).getMax() >= 20_000);
+        assertTrue(click.getHistogram(Phase.WAIT).getMax() >= 20_000);
+        assertTrue(click.getHistogram(Phase.ACT).getMax() < 20_000);
+    }
+}
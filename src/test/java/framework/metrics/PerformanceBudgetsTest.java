@@ -0,0 +1,53 @@
+package framework.metrics;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for PerformanceBudgets (no browser required)
+ */
+public class PerformanceBudgetsTest {
+
+    @Test
+    public void testBundledBudgetFileParses() {
+        Map<String, Map<String, Double>> budgets = PerformanceBudgets.load("locators/performance_budgets.json");
+        assertEquals(budgets.get("AgodaHomePage").get("largestContentfulPaint"), 4000.0);
+    }
+
+    @Test
+    public void testOnlyExceededMetricsAreViolations() {
+        PageMetrics metrics = new PageMetrics("SearchResultsPage", "https://example.test/search", 0L,
+            120.0, 900.0, 1500.0, 50_000L, 130, 800.0, 3100.0, 0.01, 2, 320.0, 260.0, 170.0, true);
+        Map<String, Double> budget = Map.of("largestContentfulPaint", 2500.0, "requestCount", 120.0,
+            "longestTask", 300.0, "cumulativeLayoutShift", 0.1);
+
+        List<PerformanceBudgets.Violation> violations = PerformanceBudgets.evaluate("SearchResultsPage", budget, metrics);
+
+        assertEquals(violations.size(), 2);
+        assertTrue(violations.stream().anyMatch(v -> v.getMetric().equals("largestContentfulPaint") && v.getActual() == 3100.0));
+        assertTrue(violations.stream().anyMatch(v -> v.getMetric().equals("requestCount") && v.getActual() == 130.0));
+    }
+
+    @Test
+    public void testUnreportedMetricIsSkipped() {
+        PageMetrics metrics = new PageMetrics("AgodaHomePage", "https://example.test/", 0L,
+            null, null, null, null, 1, null, null, 0, 0, 0, 0, 0, false);
+        assertTrue(PerformanceBudgets.evaluate("AgodaHomePage", Map.of("largestContentfulPaint", 1.0), metrics).isEmpty());
+    }
+
+    @Test
+    public void testBudgetIsLookedUpByThePageKeyOfTheMetrics() {
+        PageMetrics home = new PageMetrics("AgodaHomePage", "https://example.test/", 0L,
+            null, null, null, null, 10, null, 4500.0, 0, 0, 0, 0, 0, true);
+        PageMetrics unknown = new PageMetrics("Agoda Home Page", "https://example.test/", 0L,
+            null, null, null, null, 10, null, 4500.0, 0, 0, 0, 0, 0, true);
+
+        assertEquals(PerformanceBudgets.check(home).size(), 1);
+        assertTrue(PerformanceBudgets.check(unknown).isEmpty());
+        assertEquals(PerformanceBudgets.takeThreadViolations().size(), 1);
+    }
+}
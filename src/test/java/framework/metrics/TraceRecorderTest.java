@@ -0,0 +1,116 @@
+package framework.metrics;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import framework.elements.core.Label;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class TraceRecorderTest {
+
+    @Test
+    public void testSpansNestWithinTestSpan() throws IOException {
+        Path file;
+        try (FakeBrowser browser = FakeBrowser.start()) {
+            // Selenide adds its listeners only to drivers it creates
+            WebDriverRunner.setWebDriver(
+                new EventFiringDecorator<WebDriver>(new TraceCommandListener()).decorate(browser.getDriver()));
+            browser.getDom().add(new FakeNode("span").id("price").text("120 USD"));
+            TraceRecorder.startTest("TraceRecorderTest.nesting");
+            try (TraceRecorder.Span span = TraceRecorder.span("checkout", TraceRecorder.PAGE, null)) {
+                new Label("#price", "Price").getText();
+            }
+            file = TraceRecorder.finishTest("passed");
+        }
+
+        List<JsonObject> spans = completeEvents(file);
+        JsonObject test = find(spans, TraceRecorder.TEST, "TraceRecorderTest.nesting");
+        JsonObject page = find(spans, TraceRecorder.PAGE, "checkout");
+        JsonObject action = find(spans, TraceRecorder.ACTION, "getText");
+        assertEquals(test.getAsJsonObject("args").get("detail").getAsString(), "passed");
+        assertTrue(contains(test, page));
+        assertTrue(contains(page, action));
+        assertTrue(spans.stream().anyMatch(s -> s.get("cat").getAsString().equals(TraceRecorder.COMMAND)
+            && s.get("name").getAsString().equals("findElement") && contains(action, s)));
+        for (JsonObject span : spans) {
+            assertEquals(span.get("tid").getAsLong(), Thread.currentThread().getId());
+        }
+    }
+
+    @Test
+    public void testActionSpansAreRecordedWithMetricsDisabled() throws IOException {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        boolean metricsEnabled = registry.isEnabled();
+        Path file;
+        try (FakeBrowser browser = FakeBrowser.start()) {
+            browser.getDom().add(new FakeNode("span").id("total").text("240 USD"));
+            registry.setEnabled(false);
+            TraceRecorder.startTest("TraceRecorderTest.setUp");
+            try (TraceRecorder.Span span = TraceRecorder.span("setUp", TraceRecorder.CONFIG, null)) {
+                new Label("#total", "Total").getText();
+            }
+            TraceRecorder.renameTest("TraceRecorderTest.withoutMetrics");
+            file = TraceRecorder.finishTest("passed");
+        } finally {
+            registry.setEnabled(metricsEnabled);
+        }
+
+        List<JsonObject> spans = completeEvents(file);
+        JsonObject test = find(spans, TraceRecorder.TEST, "TraceRecorderTest.withoutMetrics");
+        JsonObject config = find(spans, TraceRecorder.CONFIG, "setUp");
+        assertTrue(contains(test, config));
+        assertTrue(contains(config, find(spans, TraceRecorder.ACTION, "getText")));
+        assertTrue(file.getFileName().toString().startsWith("TraceRecorderTest.withoutMetrics"));
+    }
+
+    @Test
+    public void testNothingIsRecordedOutsideATest() {
+        TraceRecorder.finishTest("passed");
+
+        try (TraceRecorder.Span span = TraceRecorder.span("orphan", TraceRecorder.PAGE, null)) {
+            assertFalse(TraceRecorder.isRecording());
+        }
+        assertNull(TraceRecorder.finishTest("passed"));
+    }
+
+    private static List<JsonObject> completeEvents(Path file) throws IOException {
+        JsonArray events = JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8))
+            .getAsJsonObject().getAsJsonArray("traceEvents");
+        List<JsonObject> spans = new ArrayList<>();
+        for (JsonElement event : events) {
+            if ("X".equals(event.getAsJsonObject().get("ph").getAsString())) {
+                spans.add(event.getAsJsonObject());
+            }
+        }
+        return spans;
+    }
+
+    private static JsonObject find(List<JsonObject> spans, String category, String name) {
+        return spans.stream()
+            .filter(s -> s.get("cat").getAsString().equals(category) && s.get("name").getAsString().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No " + category + " span " + name + " in " + spans));
+    }
+
+    private static boolean contains(JsonObject outer, JsonObject inner) {
+        long outerStart = outer.get("ts").getAsLong();
+        long innerStart = inner.get("ts").getAsLong();
+        return innerStart >= outerStart
+            && innerStart + inner.get("dur").getAsLong() <= outerStart + outer.get("dur").getAsLong();
+    }
+}
@@ -0,0 +1,78 @@
+package framework.reporting;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.ex.ElementShould;
+import framework.elements.core.Label;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Steps emitted by element actions into the Allure test case of the running test
+ */
+public class AllureStepsTest {
+
+    private FakeBrowser browser;
+
+    @BeforeMethod
+    public void startFakeBrowser() {
+        if (Allure.getLifecycle().getCurrentTestCase().isEmpty()) {
+            throw new SkipException("Allure TestNG listener is not active");
+        }
+        AllureSteps.takeFailedStep();
+        browser = FakeBrowser.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopFakeBrowser() {
+        if (browser != null) {
+            browser.close();
+        }
+    }
+
+    @Test
+    public void testElementActionEmitsTimedPassedStep() {
+        browser.getDom().add(new FakeNode("span").id("price").text("120 USD"));
+
+        new Label("#price", "Price").getText();
+
+        StepResult step = findStep("Getting text");
+        assertEquals(step.getStatus(), Status.PASSED);
+        assertNotNull(step.getStart());
+        assertTrue(step.getStop() >= step.getStart());
+        assertNull(AllureSteps.takeFailedStep());
+    }
+
+    @Test
+    public void testFailedWaitMarksStepAsFailed() {
+        browser.getDom().add(new FakeNode("div").id("spinner"));
+
+        assertThrows(ElementShould.class,
+            () -> new Label("#spinner", "Spinner").waitForCondition(Condition.hidden, 200));
+
+        StepResult step = findStep("Waiting for condition");
+        assertEquals(step.getStatus(), Status.FAILED);
+        assertNotNull(step.getStatusDetails().getMessage());
+        assertSame(AllureSteps.takeFailedStep(), step);
+    }
+
+    private static StepResult findStep(String action) {
+        List<StepResult> steps = new ArrayList<>();
+        Allure.getLifecycle().updateTestCase(testCase -> steps.addAll(testCase.getSteps()));
+        return steps.stream()
+            .filter(step -> step.getName().contains(" - " + action))
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("No step for " + action + " in " + steps));
+    }
+}
@@ -0,0 +1,101 @@
+package framework.reporting;
+
+import framework.reporting.TestHistoryStore.Outcome;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+public class TestHistoryStoreTest {
+
+    private Path dir;
+    private Path file;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("test-history");
+        file = dir.resolve("results.jsonl");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testRecoveryRateSeparatesFlakyFromBrokenTests() {
+        TestHistoryStore store = new TestHistoryStore(file, 0.1, 0.3);
+        for (int i = 0; i < 7; i++) {
+            store.record("Suite.alternates", i % 2 == 0 ? Outcome.PASS : Outcome.FAIL, 100);
+            store.record("Suite.broken", Outcome.FAIL, 100);
+            store.record("Suite.stable", Outcome.PASS, 100);
+        }
+        for (int i = 0; i < 5; i++) {
+            store.record("Suite.rare", i == 2 ? Outcome.FAIL : Outcome.PASS, 100);
+        }
+
+        assertEquals(store.getStats("Suite.alternates").getFlakinessScore(), 0.5, 1e-9);
+        assertTrue(store.isQuarantined("Suite.alternates"));
+        assertFalse(store.isFlaky("Suite.broken"));
+        assertFalse(store.isFlaky("Suite.stable"));
+        assertTrue(store.isFlaky("Suite.rare"));
+        assertFalse(store.isQuarantined("Suite.rare"));
+        assertEquals(store.getAllStats().get(0).getTestId(), "Suite.broken");
+    }
+
+    @Test
+    public void testRegressionIsNotFlaky() {
+        TestHistoryStore store = new TestHistoryStore(file, 0.1, 0.3);
+        for (Outcome outcome : new Outcome[] {Outcome.PASS, Outcome.PASS, Outcome.FAIL}) {
+            store.record("Suite.justBroke", outcome, 100);
+        }
+        for (Outcome outcome : new Outcome[] {Outcome.PASS, Outcome.PASS, Outcome.FAIL, Outcome.FAIL, Outcome.FAIL}) {
+            store.record("Suite.stillBroken", outcome, 100);
+        }
+
+        for (String testId : new String[] {"Suite.justBroke", "Suite.stillBroken"}) {
+            assertEquals(store.getStats(testId).getFlakinessScore(), 0.0, 1e-9, testId);
+            assertFalse(store.isFlaky(testId), testId);
+            assertFalse(store.isQuarantined(testId), testId);
+        }
+    }
+
+    @Test
+    public void testHistoryIsReloadedAndPartialLinesAreSkipped() throws IOException {
+        TestHistoryStore store = new TestHistoryStore(file, 0.1, 0.3);
+        store.record("Suite.test", Outcome.FAIL, 250);
+        store.record("Suite.test", Outcome.PASS, 100);
+        Files.writeString(file, "{\"test\":\"Suite.te", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        TestHistoryStore.Stats stats = new TestHistoryStore(file, 0.1, 0.3).getStats("Suite.test");
+
+        assertEquals(stats.getRuns(), 2);
+        assertEquals(stats.getFailures(), 1);
+        assertEquals(stats.getRecoveries(), 1);
+        assertEquals(stats.getFailedTimeMs(), 250);
+    }
+
+    @Test
+    public void testOnlyRecentResultsCount() {
+        TestHistoryStore store = new TestHistoryStore(file, 0.1, 0.3);
+        store.record("Suite.fixed", Outcome.FAIL, 100);
+        store.record("Suite.fixed", Outcome.PASS, 100);
+        for (int i = 0; i < TestHistoryStore.WINDOW; i++) {
+            store.record("Suite.fixed", Outcome.PASS, 100);
+        }
+
+        assertEquals(store.getStats("Suite.fixed").getRuns(), TestHistoryStore.WINDOW);
+        assertFalse(store.isFlaky("Suite.fixed"));
+    }
+}
@@ -0,0 +1,52 @@
+package framework.testing;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+
+/**
+ * Installs a {@link FakeWebDriver} as Selenide's driver for the current thread.
+ * Failure screenshots and page sources are switched off while it is installed.
+ *
+ * <pre>
+ * try (FakeBrowser browser = FakeBrowser.start()) {
+ *     browser.getDom().add(new FakeNode("button").id("save").text("Save"));
+ *     new Button("#save", "Save").click();
+ * }
+ * </pre>
+ */
+public class FakeBrowser implements AutoCloseable {
+
+    private final FakeDom dom = new FakeDom();
+    private final FakeWebDriver driver = new FakeWebDriver(dom);
+    private final boolean previousScreenshots;
+    private final boolean previousSavePageSource;
+
+    private FakeBrowser() {
+        previousScreenshots = Configuration.screenshots;
+        previousSavePageSource = Configuration.savePageSource;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+        // Bound as an externally created driver: Selenide wraps it without starting a browser
+        WebDriverRunner.setWebDriver(driver);
+    }
+
+    public static FakeBrowser start() {
+        return new FakeBrowser();
+    }
+
+    public FakeDom getDom() {
+        return dom;
+    }
+
+    public FakeWebDriver getDriver() {
+        return driver;
+    }
+
+    @Override
+    public void close() {
+        Selenide.closeWebDriver();
+        Configuration.screenshots = previousScreenshots;
+        Configuration.savePageSource = previousSavePageSource;
+    }
+}
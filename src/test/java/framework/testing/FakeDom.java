@@ -0,0 +1,173 @@
+package framework.testing;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Minimal in-memory document for {@link FakeWebDriver}.
+ *
+ * <p>Tests build the page from {@link FakeNode}s, change it directly, or schedule changes with
+ * {@link #after(Duration, Consumer)}; scheduled changes are applied by the driver on the first
+ * call after they are due, on the calling thread. Removing or replacing a node makes WebElements
+ * that point to it stale, like a re-render in a real browser.
+ */
+public class FakeDom {
+
+    private final FakeNode html = new FakeNode("html");
+    private final FakeNode body = new FakeNode("body");
+    private final List<ScheduledChange> scheduled = new ArrayList<>();
+    private String title = "";
+
+    public FakeDom() {
+        html.append(new FakeNode("head"), body);
+    }
+
+    public FakeNode getBody() {
+        return body;
+    }
+
+    public FakeNode getDocumentElement() {
+        return html;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public FakeDom title(String title) {
+        this.title = title;
+        return this;
+    }
+
+    /**
+     * Append nodes to the body
+     * @return this document for chaining
+     */
+    public synchronized FakeDom add(FakeNode... nodes) {
+        body.append(nodes);
+        return this;
+    }
+
+    /**
+     * Remove a node; existing WebElements for it and its descendants become stale
+     */
+    public synchronized void remove(FakeNode node) {
+        node.detach();
+        node.markStale();
+    }
+
+    /**
+     * Replace a node with a fresh copy, as a framework re-render would
+     * @return The new node
+     */
+    public synchronized FakeNode rerender(FakeNode node) {
+        FakeNode copy = node.copy();
+        node.replaceWith(copy);
+        node.markStale();
+        return copy;
+    }
+
+    /**
+     * Remove all nodes from the body
+     */
+    public synchronized void clear() {
+        new ArrayList<>(body.getChildren()).forEach(this::remove);
+    }
+
+    /**
+     * Apply a change once the delay has passed
+     * @param delay Delay from now
+     * @param change Change to apply to this document
+     * @return this document for chaining
+     */
+    public synchronized FakeDom after(Duration delay, Consumer<FakeDom> change) {
+        scheduled.add(new ScheduledChange(System.nanoTime() + delay.toNanos(), change));
+        return this;
+    }
+
+    synchronized void applyDueChanges() {
+        long now = System.nanoTime();
+        List<ScheduledChange> due = new ArrayList<>();
+        for (Iterator<ScheduledChange> it = scheduled.iterator(); it.hasNext(); ) {
+            ScheduledChange change = it.next();
+            if (change.dueNanos <= now) {
+                due.add(change);
+                it.remove();
+            }
+        }
+        due.sort((a, b) -> Long.compare(a.dueNanos, b.dueNanos));
+        due.forEach(change -> change.change.accept(this));
+    }
+
+    /**
+     * Find nodes in document order
+     * @param by Locator (CSS, XPath, id, name, class name, tag name or link text)
+     * @param scope Node whose descendants are searched, null for the whole document
+     */
+    public synchronized List<FakeNode> find(By by, FakeNode scope) {
+        FakeSelector selector = toSelector(by);
+        List<FakeNode> result = new ArrayList<>();
+        collect(scope != null ? scope : html, scope == null, selector, result);
+        return result;
+    }
+
+    private static void collect(FakeNode node, boolean includeSelf, FakeSelector selector, List<FakeNode> result) {
+        if (includeSelf && selector.matches(node)) {
+            result.add(node);
+        }
+        for (FakeNode child : node.getChildren()) {
+            collect(child, true, selector, result);
+        }
+    }
+
+    private static FakeSelector toSelector(By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new InvalidSelectorException("Locator not supported by the fake DOM: " + by);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "css selector":
+                return FakeSelector.css(value);
+            case "xpath":
+                return FakeSelector.xpath(value);
+            case "tag name":
+                return FakeSelector.css(value);
+            case "id":
+                return FakeSelector.xpath("//*[@id='" + value + "']");
+            case "name":
+                return FakeSelector.xpath("//*[@name='" + value + "']");
+            case "class name":
+                return FakeSelector.css("." + value);
+            case "link text":
+                return FakeSelector.xpath("//a[normalize-space()='" + value + "']");
+            case "partial link text":
+                return FakeSelector.xpath("//a[contains(., '" + value + "')]");
+            default:
+                throw new InvalidSelectorException("Locator not supported by the fake DOM: " + by);
+        }
+    }
+
+    /**
+     * Serialized document, returned as page source
+     */
+    public synchronized String toHtml() {
+        return "<!DOCTYPE html>" + html.toHtml();
+    }
+
+    private static final class ScheduledChange {
+        private final long dueNanos;
+        private final Consumer<FakeDom> change;
+
+        private ScheduledChange(long dueNanos, Consumer<FakeDom> change) {
+            this.dueNanos = dueNanos;
+            this.change = change;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package framework.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Element node of a {@link FakeDom}. State is set directly by tests; setters return this
+ * for chaining:
+ * <pre>
+ * FakeNode button = new FakeNode("button").id("save").text("Save").disabled();
+ * </pre>
+ */
+public class FakeNode {
+
+    private final String tag;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final Map<String, String> styles = new LinkedHashMap<>();
+    private final List<FakeNode> children = new ArrayList<>();
+    private FakeNode parent;
+    private String text = "";
+    private boolean displayed = true;
+    private boolean selected;
+    private boolean stale;
+    private Consumer<FakeNode> onClick;
+
+    public FakeNode(String tag) {
+        this.tag = tag.toLowerCase();
+    }
+
+    public FakeNode id(String id) {
+        return attr("id", id);
+    }
+
+    public FakeNode classes(String... classNames) {
+        return attr("class", String.join(" ", classNames));
+    }
+
+    public FakeNode attr(String name, String value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+        return this;
+    }
+
+    public FakeNode text(String text) {
+        this.text = text;
+        return this;
+    }
+
+    public FakeNode value(String value) {
+        return attr("value", value);
+    }
+
+    public FakeNode style(String property, String value) {
+        styles.put(property, value);
+        return this;
+    }
+
+    public FakeNode hidden() {
+        return displayed(false);
+    }
+
+    public FakeNode displayed(boolean displayed) {
+        this.displayed = displayed;
+        return this;
+    }
+
+    public FakeNode disabled() {
+        return enabled(false);
+    }
+
+    public FakeNode enabled(boolean enabled) {
+        return attr("disabled", enabled ? null : "");
+    }
+
+    public FakeNode selected(boolean selected) {
+        this.selected = selected;
+        return this;
+    }
+
+    /**
+     * Run a state change when the node is clicked (checkboxes and radios toggle by themselves)
+     */
+    public FakeNode onClick(Consumer<FakeNode> onClick) {
+        this.onClick = onClick;
+        return this;
+    }
+
+    public FakeNode append(FakeNode... nodes) {
+        for (FakeNode node : nodes) {
+            if (node.parent != null) {
+                node.parent.children.remove(node);
+            }
+            node.parent = this;
+            children.add(node);
+        }
+        return this;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    public List<String> getClasses() {
+        String classAttribute = attributes.get("class");
+        return classAttribute == null || classAttribute.isBlank()
+            ? Collections.emptyList() : Arrays.asList(classAttribute.trim().split("\\s+"));
+    }
+
+    public String getStyle(String property) {
+        return styles.getOrDefault(property, "");
+    }
+
+    public List<FakeNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public FakeNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Own text plus the text of all descendants
+     */
+    public String getTextContent() {
+        StringBuilder content = new StringBuilder(text);
+        children.forEach(child -> content.append(child.getTextContent()));
+        return content.toString();
+    }
+
+    /**
+     * Text as rendered: empty when hidden, hidden descendants skipped, whitespace collapsed
+     */
+    public String getRenderedText() {
+        return isDisplayed() ? renderedText().trim().replaceAll("\\s+", " ") : "";
+    }
+
+    private String renderedText() {
+        if (!displayed) {
+            return "";
+        }
+        StringBuilder content = new StringBuilder(text);
+        for (FakeNode child : children) {
+            String childText = child.renderedText();
+            if (!childText.isEmpty()) {
+                content.append(content.length() > 0 ? " " : "").append(childText);
+            }
+        }
+        return content.toString();
+    }
+
+    /**
+     * Displayed when the node and all its ancestors are displayed
+     */
+    public boolean isDisplayed() {
+        return displayed && (parent == null || parent.isDisplayed());
+    }
+
+    public boolean isEnabled() {
+        return !attributes.containsKey("disabled");
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * True once the node was removed or replaced; WebElements pointing to it are stale
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    void markStale() {
+        stale = true;
+        children.forEach(FakeNode::markStale);
+    }
+
+    void detach() {
+        if (parent != null) {
+            parent.children.remove(this);
+            parent = null;
+        }
+    }
+
+    void replaceWith(FakeNode replacement) {
+        int index = parent.children.indexOf(this);
+        replacement.parent = parent;
+        parent.children.set(index, replacement);
+        parent = null;
+    }
+
+    void click() {
+        String type = attributes.getOrDefault("type", "");
+        if ("input".equals(tag) && ("checkbox".equals(type) || "radio".equals(type))) {
+            selected = "radio".equals(type) || !selected;
+        }
+        if (onClick != null) {
+            onClick.accept(this);
+        }
+    }
+
+    /**
+     * Deep copy with fresh identity, used to simulate a re-render
+     */
+    FakeNode copy() {
+        FakeNode copy = new FakeNode(tag).text(text).displayed(displayed).selected(selected);
+        copy.attributes.putAll(attributes);
+        copy.styles.putAll(styles);
+        copy.onClick = onClick;
+        children.forEach(child -> copy.append(child.copy()));
+        return copy;
+    }
+
+    String toHtml() {
+        StringBuilder html = new StringBuilder("<").append(tag);
+        attributes.forEach((name, value) -> html.append(' ').append(name).append("=\"")
+            .append(value.replace("\"", "&quot;")).append('"'));
+        html.append('>').append(text);
+        children.forEach(child -> html.append(child.toHtml()));
+        return html.append("</").append(tag).append('>').toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(tag);
+        if (attributes.containsKey("id")) {
+            description.append('#').append(attributes.get("id"));
+        }
+        getClasses().forEach(c -> description.append('.').append(c));
+        return description.toString();
+    }
+}
@@ -0,0 +1,331 @@
+package framework.testing;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selector subset understood by the fake DOM.
+ *
+ * <p>CSS: type, {@code *}, {@code #id}, {@code .class}, {@code [attr]}, {@code [attr=v]} (also
+ * {@code ~= ^= $= *=}), descendant and {@code >} combinators, comma lists.
+ * XPath: {@code //} and {@code /} steps with {@code @attr}, {@code @attr='v'},
+ * {@code text()='v'}, {@code normalize-space()='v'} and {@code contains(@attr|text()|., 'v')}
+ * predicates.
+ */
+final class FakeSelector {
+
+    private final List<List<Step>> alternatives;
+
+    private FakeSelector(List<List<Step>> alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    boolean matches(FakeNode node) {
+        for (List<Step> steps : alternatives) {
+            if (matches(steps, steps.size() - 1, node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(List<Step> steps, int index, FakeNode node) {
+        Step step = steps.get(index);
+        if (!step.compound.matches(node)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        FakeNode ancestor = node.getParent();
+        if (step.childOfPrevious) {
+            return ancestor != null && matches(steps, index - 1, ancestor);
+        }
+        for (; ancestor != null; ancestor = ancestor.getParent()) {
+            if (matches(steps, index - 1, ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // CSS
+
+    static FakeSelector css(String selector) {
+        List<List<Step>> alternatives = new ArrayList<>();
+        for (String part : splitTopLevel(selector, ',')) {
+            alternatives.add(parseCssSteps(part.trim(), selector));
+        }
+        return new FakeSelector(alternatives);
+    }
+
+    private static List<Step> parseCssSteps(String selector, String original) {
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        boolean child = false;
+        while (i < selector.length()) {
+            char c = selector.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '>') {
+                child = true;
+                i++;
+            } else {
+                Compound compound = new Compound();
+                i = parseCssCompound(selector, i, compound, original);
+                steps.add(new Step(compound, child));
+                child = false;
+            }
+        }
+        if (steps.isEmpty()) {
+            throw unsupported(original);
+        }
+        return steps;
+    }
+
+    private static int parseCssCompound(String s, int i, Compound compound, String original) {
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c) || c == '>') {
+                break;
+            }
+            if (c == '*') {
+                i++;
+            } else if (c == '#') {
+                int end = identEnd(s, i + 1);
+                compound.conditions.add(new Condition("@", "id", "=", s.substring(i + 1, end)));
+                i = end;
+            } else if (c == '.') {
+                int end = identEnd(s, i + 1);
+                compound.conditions.add(new Condition("@", "class", "~=", s.substring(i + 1, end)));
+                i = end;
+            } else if (c == '[') {
+                int close = indexOutsideQuotes(s, i + 1, ']');
+                if (close < 0) {
+                    throw unsupported(original);
+                }
+                compound.conditions.add(parseAttribute(s.substring(i + 1, close).trim(), original));
+                i = close + 1;
+            } else if (isIdent(c)) {
+                int end = identEnd(s, i);
+                compound.tag = s.substring(i, end).toLowerCase();
+                i = end;
+            } else {
+                throw unsupported(original);
+            }
+        }
+        return i;
+    }
+
+    private static Condition parseAttribute(String body, String original) {
+        for (String op : new String[] {"~=", "^=", "$=", "*=", "="}) {
+            int at = body.indexOf(op);
+            if (at > 0) {
+                return new Condition("@", body.substring(0, at).trim(), op, unquote(body.substring(at + op.length()).trim()));
+            }
+        }
+        if (body.isEmpty() || !body.chars().allMatch(ch -> isIdent((char) ch))) {
+            throw unsupported(original);
+        }
+        return new Condition("@", body, null, null);
+    }
+
+    // XPath
+
+    static FakeSelector xpath(String xpath) {
+        List<List<Step>> alternatives = new ArrayList<>();
+        for (String part : splitTopLevel(xpath, '|')) {
+            alternatives.add(parseXpathSteps(part.trim(), xpath));
+        }
+        return new FakeSelector(alternatives);
+    }
+
+    private static List<Step> parseXpathSteps(String xpath, String original) {
+        String path = xpath.startsWith(".") ? xpath.substring(1) : xpath;
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        while (i < path.length()) {
+            boolean child;
+            if (path.startsWith("//", i)) {
+                child = false;
+                i += 2;
+            } else if (path.charAt(i) == '/') {
+                child = true;
+                i++;
+            } else {
+                throw unsupported(original);
+            }
+            Compound compound = new Compound();
+            int end = identEnd(path, i);
+            if (end == i && i < path.length() && path.charAt(i) == '*') {
+                end = i + 1;
+            } else if (end == i) {
+                throw unsupported(original);
+            } else {
+                compound.tag = path.substring(i, end).toLowerCase();
+            }
+            i = end;
+            while (i < path.length() && path.charAt(i) == '[') {
+                int close = indexOutsideQuotes(path, i + 1, ']');
+                if (close < 0) {
+                    throw unsupported(original);
+                }
+                compound.conditions.add(parsePredicate(path.substring(i + 1, close).trim(), original));
+                i = close + 1;
+            }
+            // The first step of an absolute path may still be a child step of the document
+            steps.add(new Step(compound, child && !steps.isEmpty()));
+        }
+        if (steps.isEmpty()) {
+            throw unsupported(original);
+        }
+        return steps;
+    }
+
+    private static Condition parsePredicate(String predicate, String original) {
+        if (predicate.startsWith("contains(") && predicate.endsWith(")")) {
+            List<String> args = splitTopLevel(predicate.substring(9, predicate.length() - 1), ',');
+            if (args.size() == 2) {
+                return subjectCondition(args.get(0).trim(), "*=", unquote(args.get(1).trim()), original);
+            }
+        } else if (predicate.startsWith("@") && !predicate.contains("=")) {
+            return new Condition("@", predicate.substring(1).trim(), null, null);
+        } else if (predicate.contains("=")) {
+            int at = predicate.indexOf('=');
+            return subjectCondition(predicate.substring(0, at).trim(), "=", unquote(predicate.substring(at + 1).trim()), original);
+        }
+        throw unsupported(original);
+    }
+
+    private static Condition subjectCondition(String subject, String op, String value, String original) {
+        if (subject.startsWith("@")) {
+            return new Condition("@", subject.substring(1), op, value);
+        }
+        if (subject.equals("text()") || subject.equals(".") || subject.equals("normalize-space()")
+                || subject.equals("normalize-space(.)")) {
+            return new Condition("text", null, op, value);
+        }
+        throw unsupported(original);
+    }
+
+    // Parsing helpers
+
+    private static boolean isIdent(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+    }
+
+    private static int identEnd(String s, int i) {
+        while (i < s.length() && isIdent(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.startsWith("'") && value.endsWith("'")
+                || value.startsWith("\"") && value.endsWith("\""))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static int indexOutsideQuotes(String s, int from, char target) {
+        char quote = 0;
+        int depth = 0;
+        for (int i = from; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (depth > 0 && (c == ']' || c == ')')) {
+                depth--;
+            } else if (c == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> splitTopLevel(String s, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int next;
+        while ((next = indexOutsideQuotes(s, start, separator)) >= 0) {
+            parts.add(s.substring(start, next));
+            start = next + 1;
+        }
+        parts.add(s.substring(start));
+        return parts;
+    }
+
+    private static InvalidSelectorException unsupported(String selector) {
+        return new InvalidSelectorException("Selector not supported by the fake DOM: " + selector);
+    }
+
+    private static final class Step {
+        private final Compound compound;
+        private final boolean childOfPrevious;
+
+        private Step(Compound compound, boolean childOfPrevious) {
+            this.compound = compound;
+            this.childOfPrevious = childOfPrevious;
+        }
+    }
+
+    private static final class Compound {
+        private String tag;
+        private final List<Condition> conditions = new ArrayList<>();
+
+        private boolean matches(FakeNode node) {
+            if (tag != null && !tag.equals(node.getTag())) {
+                return false;
+            }
+            return conditions.stream().allMatch(condition -> condition.matches(node));
+        }
+    }
+
+    private static final class Condition {
+        private final String subject;
+        private final String name;
+        private final String op;
+        private final String value;
+
+        private Condition(String subject, String name, String op, String value) {
+            this.subject = subject;
+            this.name = name;
+            this.op = op;
+            this.value = value;
+        }
+
+        private boolean matches(FakeNode node) {
+            String actual = "text".equals(subject)
+                ? node.getTextContent().trim().replaceAll("\\s+", " ")
+                : node.getAttribute(name);
+            if (actual == null) {
+                return false;
+            }
+            if (op == null) {
+                return true;
+            }
+            switch (op) {
+                case "=":
+                    return actual.equals(value);
+                case "~=":
+                    return List.of(actual.trim().split("\\s+")).contains(value);
+                case "^=":
+                    return actual.startsWith(value);
+                case "$=":
+                    return actual.endsWith(value);
+                default:
+                    return actual.contains(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package framework.testing;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Browserless {@link WebDriver} over a {@link FakeDom}.
+ *
+ * <p>Every call first applies the document's due scheduled changes and is recorded in
+ * {@link #getCommands()}. Scripts are answered by handlers registered with
+ * {@link #onScript(String, Function)} (first handler whose fragment occurs in the script);
+ * {@code document.readyState} is answered with "complete" and anything else returns null.
+ * Element arguments reach handlers unwrapped, see {@link #node(Object)}.
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, HasCapabilities, Interactive {
+
+    // 1x1 transparent PNG
+    private static final String SCREENSHOT_PNG =
+        "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+
+    private final FakeDom dom;
+    private final Map<String, Function<List<Object>, Object>> scriptHandlers = new LinkedHashMap<>();
+    private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+    private final FakeTimeouts timeouts = new FakeTimeouts();
+    private String currentUrl = "about:blank";
+    private Dimension windowSize = new Dimension(1920, 1080);
+
+    public FakeWebDriver(FakeDom dom) {
+        this.dom = dom;
+        onScript("document.readyState", args -> "complete");
+    }
+
+    public FakeDom getDom() {
+        return dom;
+    }
+
+    /**
+     * Answer scripts containing a fragment
+     * @param fragment Text the script must contain
+     * @param handler Receives the script arguments, returns the script result
+     * @return this driver for chaining
+     */
+    public FakeWebDriver onScript(String fragment, Function<List<Object>, Object> handler) {
+        // Later registrations win over earlier ones for the same fragment
+        scriptHandlers.remove(fragment);
+        Map<String, Function<List<Object>, Object>> previous = new LinkedHashMap<>(scriptHandlers);
+        scriptHandlers.clear();
+        scriptHandlers.put(fragment, handler);
+        scriptHandlers.putAll(previous);
+        return this;
+    }
+
+    /**
+     * Node of a script argument (a fake element, possibly wrapped by Selenide)
+     */
+    public static FakeNode node(Object scriptArgument) {
+        Object current = scriptArgument;
+        while (current instanceof WrapsElement && !(current instanceof FakeWebElement)) {
+            current = ((WrapsElement) current).getWrappedElement();
+        }
+        if (current instanceof FakeWebElement) {
+            return ((FakeWebElement) current).getNode();
+        }
+        throw new IllegalArgumentException("Not a fake element: " + scriptArgument);
+    }
+
+    /**
+     * Calls made to the driver and its elements, e.g. "click button#save"
+     */
+    public List<String> getCommands() {
+        synchronized (commands) {
+            return new ArrayList<>(commands);
+        }
+    }
+
+    public void clearCommands() {
+        commands.clear();
+    }
+
+    void record(String command) {
+        dom.applyDueChanges();
+        commands.add(command);
+    }
+
+    @Override
+    public void get(String url) {
+        record("get " + url);
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        record("getCurrentUrl");
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        record("getTitle");
+        return dom.getTitle();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        record("findElements " + by);
+        return dom.find(by, null).stream()
+            .map(node -> (WebElement) new FakeWebElement(this, node))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        record("findElement " + by);
+        List<FakeNode> found = dom.find(by, null);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("No element matches " + by);
+        }
+        return new FakeWebElement(this, found.get(0));
+    }
+
+    @Override
+    public String getPageSource() {
+        record("getPageSource");
+        return dom.toHtml();
+    }
+
+    @Override
+    public void close() {
+        record("close");
+    }
+
+    @Override
+    public void quit() {
+        record("quit");
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("fake-window");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "fake-window";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        record("executeScript " + abbreviate(script));
+        List<Object> unwrapped = args == null ? Collections.emptyList() : Arrays.asList(args);
+        for (Map.Entry<String, Function<List<Object>, Object>> handler : scriptHandlers.entrySet()) {
+            if (script.contains(handler.getKey())) {
+                return handler.getValue().apply(unwrapped);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        record("getScreenshotAs");
+        return target.convertFromBase64Png(SCREENSHOT_PNG);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return new ImmutableCapabilities("browserName", "fake");
+    }
+
+    @Override
+    public void perform(Collection<Sequence> actions) {
+        record("perform " + actions.size() + " action sequences");
+    }
+
+    @Override
+    public void resetInputState() {
+        record("resetInputState");
+    }
+
+    private static String abbreviate(String script) {
+        String singleLine = script.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > 80 ? singleLine.substring(0, 80) + "..." : singleLine;
+    }
+
+    private final class FakeNavigation implements Navigation {
+        @Override
+        public void back() {
+            record("back");
+        }
+
+        @Override
+        public void forward() {
+            record("forward");
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            record("refresh");
+        }
+    }
+
+    private final class FakeTargetLocator implements TargetLocator {
+        @Override
+        public WebDriver frame(int index) {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return new FakeWebElement(FakeWebDriver.this, dom.getBody());
+        }
+
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException("The fake driver has no alerts");
+        }
+    }
+
+    private final class FakeOptions implements Options {
+        @Override
+        public void addCookie(Cookie cookie) {
+            record("addCookie " + cookie.getName());
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            record("deleteCookieNamed " + name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            record("deleteCookie " + cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            record("deleteAllCookies");
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return null;
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public Window window() {
+            return new FakeWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("The fake driver has no logs");
+        }
+    }
+
+    private final class FakeTimeouts implements Timeouts {
+        private Duration implicitWait = Duration.ZERO;
+        private Duration scriptTimeout = Duration.ofSeconds(30);
+        private Duration pageLoadTimeout = Duration.ofMinutes(5);
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return implicitWait;
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            record("scriptTimeout " + duration.toMillis());
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            record("getScriptTimeout");
+            return scriptTimeout;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return pageLoadTimeout;
+        }
+    }
+
+    private final class FakeWindow implements Window {
+        @Override
+        public Dimension getSize() {
+            return windowSize;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            windowSize = targetSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            // Fixed position
+        }
+
+        @Override
+        public void maximize() {
+            // Fixed size
+        }
+
+        @Override
+        public void minimize() {
+            // Fixed size
+        }
+
+        @Override
+        public void fullscreen() {
+            // Fixed size
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package framework.testing;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for the fake driver and its DOM (no browser required)
+ */
+public class FakeWebDriverTest {
+
+    @Test
+    public void testCssAndXpathLookups() {
+        FakeDom dom = new FakeDom();
+        dom.add(new FakeNode("form").id("login").append(
+            new FakeNode("input").attr("name", "user").classes("field", "wide"),
+            new FakeNode("div").classes("row").append(new FakeNode("button").attr("type", "submit").text("Sign in"))));
+        FakeWebDriver driver = new FakeWebDriver(dom);
+
+        assertEquals(driver.findElement(By.cssSelector("#login input.field[name='user']")).getTagName(), "input");
+        assertEquals(driver.findElement(By.cssSelector("form > div.row > button")).getText(), "Sign in");
+        assertTrue(driver.findElements(By.cssSelector("form > button")).isEmpty());
+        assertEquals(driver.findElement(By.xpath("//button[text()='Sign in']")).getAttribute("type"), "submit");
+        assertEquals(driver.findElement(By.name("user")).getAttribute("class"), "field wide");
+        assertEquals(driver.findElements(By.cssSelector("input, button")).size(), 2);
+        assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+        assertThrows(InvalidSelectorException.class, () -> driver.findElement(By.cssSelector("li:first-child")));
+    }
+
+    @Test
+    public void testRerenderMakesOldHandleStale() {
+        FakeDom dom = new FakeDom();
+        FakeNode label = new FakeNode("span").id("status").text("Loading");
+        dom.add(label);
+        FakeWebDriver driver = new FakeWebDriver(dom);
+
+        WebElement handle = driver.findElement(By.id("status"));
+        dom.rerender(label).text("Done");
+
+        assertThrows(StaleElementReferenceException.class, handle::getText);
+        assertEquals(driver.findElement(By.id("status")).getText(), "Done");
+    }
+
+    @Test
+    public void testScheduledChangesAndScripts() throws InterruptedException {
+        FakeDom dom = new FakeDom();
+        FakeNode banner = new FakeNode("div").id("banner").text("Saved").hidden();
+        dom.add(banner).after(Duration.ofMillis(50), d -> banner.displayed(true));
+        FakeWebDriver driver = new FakeWebDriver(dom)
+            .onScript("getBoundingClientRect", args -> FakeWebDriver.node(args.get(0)).getTag());
+
+        WebElement element = driver.findElement(By.id("banner"));
+        assertFalse(element.isDisplayed());
+        Thread.sleep(80);
+        assertTrue(element.isDisplayed());
+        assertEquals(driver.executeScript("return arguments[0].getBoundingClientRect()", element), "div");
+        assertEquals(driver.executeScript("return document.readyState"), "complete");
+        assertTrue(driver.getCommands().contains("isDisplayed div#banner"));
+    }
+}
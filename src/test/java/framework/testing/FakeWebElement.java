@@ -0,0 +1,216 @@
+package framework.testing;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * WebElement handle to a {@link FakeNode}; throws {@link StaleElementReferenceException}
+ * once the node was removed or re-rendered.
+ */
+public class FakeWebElement implements WebElement, WrapsDriver {
+
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("disabled", "readonly", "required", "checked",
+        "selected", "multiple", "hidden");
+
+    private final FakeWebDriver driver;
+    private final FakeNode node;
+
+    FakeWebElement(FakeWebDriver driver, FakeNode node) {
+        this.driver = driver;
+        this.node = node;
+    }
+
+    /**
+     * Node behind this handle (no staleness check)
+     */
+    public FakeNode getNode() {
+        return node;
+    }
+
+    private FakeNode live(String command) {
+        driver.record(command + " " + node);
+        if (node.isStale()) {
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM: " + node);
+        }
+        return node;
+    }
+
+    private FakeNode interactable(String command) {
+        FakeNode target = live(command);
+        if (!target.isDisplayed()) {
+            throw new ElementNotInteractableException("Element is not displayed: " + target);
+        }
+        return target;
+    }
+
+    @Override
+    public void click() {
+        FakeNode target = interactable("click");
+        if (target.isEnabled()) {
+            target.click();
+        }
+    }
+
+    @Override
+    public void submit() {
+        interactable("submit");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        FakeNode target = interactable("sendKeys");
+        if (!target.isEnabled()) {
+            throw new ElementNotInteractableException("Element is disabled: " + target);
+        }
+        StringBuilder value = new StringBuilder(target.getAttribute("value") != null ? target.getAttribute("value") : "");
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        target.value(value.toString());
+    }
+
+    @Override
+    public void clear() {
+        interactable("clear").value("");
+    }
+
+    @Override
+    public String getTagName() {
+        return live("getTagName").getTag();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        FakeNode target = live("getAttribute " + name);
+        return readAttribute(target, name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return live("getDomAttribute " + name).getAttribute(name);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return readAttribute(live("getDomProperty " + name), name);
+    }
+
+    private static String readAttribute(FakeNode target, String name) {
+        switch (name) {
+            case "value":
+                return target.getAttribute("value") != null ? target.getAttribute("value") : "";
+            case "checked":
+            case "selected":
+                return target.isSelected() ? "true" : null;
+            case "textContent":
+                return target.getTextContent();
+            case "innerText":
+                return target.getRenderedText();
+            case "outerHTML":
+                return target.toHtml();
+            default:
+                String value = target.getAttribute(name);
+                if (value != null && BOOLEAN_ATTRIBUTES.contains(name)) {
+                    return "true";
+                }
+                return value;
+        }
+    }
+
+    @Override
+    public boolean isSelected() {
+        return live("isSelected").isSelected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return live("isEnabled").isEnabled();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return live("isDisplayed").isDisplayed();
+    }
+
+    @Override
+    public String getText() {
+        return live("getText").getRenderedText();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        FakeNode scope = live("findElements " + by);
+        return driver.getDom().find(by, scope).stream()
+            .map(found -> (WebElement) new FakeWebElement(driver, found))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> found = findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("No element in " + node + " matches " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public Point getLocation() {
+        live("getLocation");
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return live("getSize").isDisplayed() ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return live("getCssValue " + propertyName).getStyle(propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        live("getScreenshotAs");
+        return driver.getScreenshotAs(target);
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FakeWebElement && ((FakeWebElement) other).node == node;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(node);
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebElement[" + node + "]";
+    }
+}
@@ -0,0 +1,85 @@
+package framework.utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Partial-file handling and CDP renames on a temp directory, without a browser
+ */
+public class DownloadWatcherTest {
+
+    private static final String GUID = "3f2c9a1e-7b4d-4c8e-9a6f-1d2e3f4a5b6c";
+
+    private Path dir;
+    private DownloadWatcher watcher;
+
+    @BeforeMethod
+    public void startWatcher() throws IOException {
+        dir = Files.createTempDirectory("downloads");
+        watcher = DownloadWatcher.watch(dir);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopWatcher() throws IOException {
+        watcher.close();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testChromiumPartialFileIsReportedAfterRename() throws IOException {
+        Path partial = Files.writeString(dir.resolve("report.pdf.crdownload"), "%PDF");
+
+        assertThrows(RuntimeException.class, () -> watcher.awaitFile(name -> true, Duration.ofMillis(500)));
+
+        Files.move(partial, dir.resolve("report.pdf"));
+        assertEquals(watcher.awaitFile("report.pdf"::equals, Duration.ofSeconds(5)).getFileName().toString(),
+            "report.pdf");
+    }
+
+    @Test
+    public void testFirefoxPlaceholderIsReportedWhenPartialFileIsRemoved() throws IOException {
+        Path partial = Files.writeString(dir.resolve("data.csv.part"), "a,b");
+        Files.createFile(dir.resolve("data.csv"));
+
+        assertThrows(RuntimeException.class, () -> watcher.awaitFile("data.csv"::equals, Duration.ofMillis(500)));
+
+        Files.delete(partial);
+        assertEquals(watcher.awaitFile("data.csv"::equals, Duration.ofSeconds(5)), dir.toAbsolutePath().normalize()
+            .resolve("data.csv"));
+    }
+
+    @Test
+    public void testCompletedCdpDownloadIsRenamedToSuggestedName() throws IOException {
+        Files.writeString(dir.resolve(GUID), "invoice");
+
+        watcher.onWillBegin(Map.of("guid", GUID, "suggestedFilename", "invoice.pdf"));
+        watcher.onProgress(Map.of("guid", GUID, "state", "completed", "receivedBytes", 7));
+
+        Path file = watcher.awaitFile("invoice.pdf"::equals, Duration.ofSeconds(5));
+        assertEquals(Files.readString(file), "invoice");
+        assertFalse(Files.exists(dir.resolve(GUID)));
+    }
+
+    @Test
+    public void testCanceledCdpDownloadFailsTheWait() {
+        watcher.onWillBegin(Map.of("guid", GUID, "suggestedFilename", "invoice.pdf"));
+        watcher.onProgress(Map.of("guid", GUID, "state", "canceled"));
+
+        RuntimeException e = expectThrows(RuntimeException.class,
+            () -> watcher.awaitFile(name -> true, Duration.ofSeconds(5)));
+        assertTrue(e.getMessage().contains("canceled download invoice.pdf"), e.getMessage());
+    }
+}
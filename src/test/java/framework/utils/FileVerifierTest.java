@@ -0,0 +1,54 @@
+package framework.utils;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for FileVerifier (no browser required)
+ */
+public class FileVerifierTest {
+
+    @Test
+    public void testSinglePassChecksAcrossWindowBoundaries() throws Exception {
+        StringBuilder csv = new StringBuilder("id,name,status\r\n");
+        for (int i = 1; i <= 500; i++) {
+            csv.append(i).append(",item").append(i).append(i % 10 == 0 ? ",ERROR" : ",OK").append("\r\n");
+        }
+        byte[] content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Path file = Files.createTempFile("verifier", ".csv");
+        file.toFile().deleteOnExit();
+        Files.write(file, content);
+
+        // Small windows so lines span mapped regions
+        FileVerifier.Result result = new FileVerifier(file, 97)
+            .countMatches("errors", Pattern.compile(",ERROR$"))
+            .verify();
+
+        String expectedChecksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        result.assertChecksum(expectedChecksum)
+            .assertLineCount(501)
+            .assertHeader("id,name,status")
+            .assertMatchCount("errors", 50);
+        assertEquals(result.getBytes(), content.length);
+    }
+
+    @Test
+    public void testLastLineWithoutNewlineAndMismatch() throws Exception {
+        Path file = Files.createTempFile("verifier", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "header\nlast", StandardCharsets.UTF_8);
+
+        FileVerifier.Result result = new FileVerifier(file).verify();
+
+        assertEquals(result.getLineCount(), 2);
+        assertThrows(AssertionError.class, () -> result.assertHeader("other"));
+    }
+}
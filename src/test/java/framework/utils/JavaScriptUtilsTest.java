@@ -0,0 +1,75 @@
+package framework.utils;
+
+import framework.elements.control.Slider;
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import framework.testing.FakeWebDriver;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * WebDriver commands sent by async scripts, counted on the fake driver
+ */
+public class JavaScriptUtilsTest {
+
+    private FakeBrowser browser;
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void startFakeBrowser() {
+        browser = FakeBrowser.start();
+        driver = browser.getDriver();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopFakeBrowser() {
+        browser.close();
+    }
+
+    @Test
+    public void testScriptTimeoutIsSetOncePerDriverAndNeverRead() {
+        driver.onScript("return 'probe'", args -> Map.of("value", 1L));
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> result = JavaScriptUtils.executeAsyncJs("arguments[0]({}); return 'probe';", 1000);
+            assertEquals(result.get("value"), 1L);
+        }
+        JavaScriptUtils.executeAsyncJs("return 'probe';", 500);
+        JavaScriptUtils.executeAsyncJs("return 'probe';", 20000);
+
+        assertEquals(timeoutCommands(), List.of("scriptTimeout 6000", "scriptTimeout 25000"));
+    }
+
+    @Test
+    public void testDeadlineInsideTheScriptFailsTheCall() {
+        driver.onScript("return 'slow'", args -> Map.of("__asyncScriptTimedOut", true));
+
+        assertThrows(ScriptTimeoutException.class, () -> JavaScriptUtils.executeAsyncJs("return 'slow';", 100));
+    }
+
+    @Test
+    public void testSliderIsPositionedWithOneScriptCommand() {
+        browser.getDom().add(new FakeNode("input").id("price"));
+        driver.onScript("mode = arguments[1]", args -> Map.of("ok", true, "value", 40L));
+        Slider slider = new Slider("#price", "Price");
+        slider.setValue(40);
+        driver.clearCommands();
+
+        slider.setValue(40);
+
+        assertEquals(driver.getCommands().stream().filter(c -> !c.startsWith("find")).count(), 1);
+        assertTrue(driver.getCommands().stream().anyMatch(c -> c.startsWith("executeScript")));
+    }
+
+    private List<String> timeoutCommands() {
+        return driver.getCommands().stream().filter(c -> c.contains("criptTimeout")).collect(Collectors.toList());
+    }
+}
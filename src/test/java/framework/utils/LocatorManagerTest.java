@@ -0,0 +1,130 @@
+package framework.utils;
+
+import com.google.gson.JsonObject;
+import framework.elements.core.Button;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for LocatorManager hot reload (no browser required)
+ */
+public class LocatorManagerTest {
+
+    private String filePath;
+    private Path locatorsDir;
+    private Path locatorFile;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        locatorsDir = Files.createTempDirectory("locator-test").resolve("locators");
+        // Unique file path per test, the parsed-file cache is shared across the JVM
+        filePath = "locators/sample" + System.nanoTime() + "/sample_locators.json";
+        locatorFile = locatorsDir.getParent().resolve(filePath);
+        Files.createDirectories(locatorFile.getParent());
+        writeLocator("#login");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        LocatorManager.getInstance().disableHotReload();
+    }
+
+    @Test
+    public void testEditedLocatorIsPickedUpByExistingElement() throws Exception {
+        LocatorManager manager = LocatorManager.getInstance();
+        manager.enableHotReload(locatorsDir);
+
+        JsonObject pageLocators = manager.getPageLocators("SamplePage", filePath);
+        Button loginButton = (Button) manager.createElement(pageLocators, "loginButton");
+        assertEquals(loginButton.getLocator(), "#login");
+
+        writeLocator("#sign-in");
+
+        long deadline = System.currentTimeMillis() + 15000;
+        while (!"#sign-in".equals(loginButton.getLocator()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(loginButton.getLocator(), "#sign-in", "Existing element should use the reloaded locator");
+    }
+
+    @Test
+    public void testBrokenEditKeepsPreviousLocators() throws Exception {
+        LocatorManager manager = LocatorManager.getInstance();
+        manager.enableHotReload(locatorsDir);
+        JsonObject pageLocators = manager.getPageLocators("SamplePage", filePath);
+        Button loginButton = (Button) manager.createElement(pageLocators, "loginButton");
+
+        Files.writeString(locatorFile, "{ \"SamplePage\": { ", StandardCharsets.UTF_8);
+        manager.reloadFile(locatorFile);
+
+        assertEquals(loginButton.getLocator(), "#login", "Unparseable file should not replace cached locators");
+    }
+
+    @Test
+    public void testReloadDropsTrackedPagesOfTheFile() throws Exception {
+        LocatorManager manager = LocatorManager.getInstance();
+        manager.enableHotReload(locatorsDir);
+        Button loginButton = (Button) manager.createElement(manager.getPageLocators("SamplePage", filePath), "loginButton");
+        manager.getPageLocators("SamplePage", filePath);
+        for (int i = 0; i < 3; i++) {
+            loginButton.getLocator();
+        }
+        assertEquals(manager.getTrackedPageCount(), 1, "Lookups by live elements should not be tracked");
+
+        writeLocator("#sign-in");
+        manager.reloadFile(locatorFile);
+
+        assertEquals(manager.getTrackedPageCount(), 0);
+        assertEquals(loginButton.getLocator(), "#sign-in");
+    }
+
+    @Test
+    public void testXPathPrefixesAreSharedByEveryMode() {
+        assertEquals(LocatorManager.toBy("(//button)[1]"), By.xpath("(//button)[1]"));
+        assertEquals(LocatorManager.toBy("//button[@id='login']"), By.xpath("//button[@id='login']"));
+        assertEquals(LocatorManager.toBy("#login > span"), By.cssSelector("#login > span"));
+    }
+
+    @Test
+    public void testLiveElementResolvesXPathLocator() throws Exception {
+        LocatorManager manager = LocatorManager.getInstance();
+        manager.enableHotReload(locatorsDir);
+        writeLocator("//button[@id='login']");
+        manager.reloadFile(locatorFile);
+        List<By> searched = new ArrayList<>();
+        SearchContext context = new SearchContext() {
+            @Override
+            public List<WebElement> findElements(By by) {
+                searched.add(by);
+                return List.of();
+            }
+
+            @Override
+            public WebElement findElement(By by) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        new LiveLocator(filePath, "SamplePage", "loginButton").findElements(context);
+
+        assertEquals(searched, List.of(By.xpath("//button[@id='login']")));
+    }
+
+    private void writeLocator(String locator) throws Exception {
+        String json = "{ \"SamplePage\": { \"loginButton\": "
+                + "{ \"name\": \"Login Button\", \"locator\": \"" + locator + "\", \"type\": \"Button\" } } }";
+        Files.writeString(locatorFile, json, StandardCharsets.UTF_8);
+    }
+}
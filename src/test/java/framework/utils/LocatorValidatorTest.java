@@ -0,0 +1,78 @@
+package framework.utils;
+
+import framework.utils.LocatorValidator.PageDefinition;
+import framework.utils.LocatorValidator.Status;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Locator file discovery and match classification, without a browser
+ */
+public class LocatorValidatorTest {
+
+    private Path root;
+    private Path locatorDir;
+
+    @BeforeMethod
+    public void createDirs() throws IOException {
+        root = Files.createTempDirectory("locator-validator");
+        locatorDir = Files.createDirectories(root.resolve("locators"));
+        Files.createDirectories(locatorDir.resolve("agoda"));
+        Files.createDirectories(locatorDir.resolve("vietjet"));
+        Files.writeString(locatorDir.resolve("agoda/agoda_locators.json"),
+            "{\"SearchResultsPage\": {\"hotelItems\": {\"locator\": \"li.hotel\", \"type\": \"ElementCollection\"}}}",
+            StandardCharsets.UTF_8);
+        Files.writeString(locatorDir.resolve("vietjet/vietjet_locators.json"),
+            "{\"SearchResultsPage\": {\"flight\": {\"locator\": \"#flight\"}, \"note\": \"not a locator\"}}",
+            StandardCharsets.UTF_8);
+        Files.writeString(locatorDir.resolve("performance_budgets.json"),
+            "{\"SearchResultsPage\": {\"largestContentfulPaint\": 2500}}", StandardCharsets.UTF_8);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirs() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testSamePageInTwoFilesGetsSeparateSnapshots() {
+        List<PageDefinition> pages = new LocatorValidator(locatorDir, root.resolve("snapshots"), 1).loadPages();
+
+        assertEquals(pages.stream().map(page -> page.file).collect(Collectors.toList()),
+            List.of("locators/agoda/agoda_locators.json", "locators/vietjet/vietjet_locators.json"));
+        assertEquals(pages.get(0).locators.get("hotelItems"), new String[] {"li.hotel", "ElementCollection"});
+        assertEquals(pages.get(1).locators.keySet(), Set.of("flight"));
+        assertEquals(pages.get(1).locators.get("flight")[1], "Element");
+
+        Path snapshots = root.resolve("snapshots");
+        assertNotEquals(DomSnapshotStore.getSnapshotPath(pages.get(0).file, pages.get(0).name, snapshots),
+            DomSnapshotStore.getSnapshotPath(pages.get(1).file, pages.get(1).name, snapshots));
+        assertEquals(DomSnapshotStore.getSnapshotPath(pages.get(0).file, pages.get(0).name, snapshots),
+            snapshots.resolve("locators/agoda/agoda_locators/SearchResultsPage.html"));
+    }
+
+    @Test
+    public void testMatchCountsMapToStatus() {
+        assertEquals(LocatorValidator.toStatus(-1, "Button"), Status.INVALID);
+        assertEquals(LocatorValidator.toStatus(0, "Button"), Status.NOT_FOUND);
+        assertEquals(LocatorValidator.toStatus(1, "Button"), Status.OK);
+        assertEquals(LocatorValidator.toStatus(3, "Button"), Status.AMBIGUOUS);
+        assertEquals(LocatorValidator.toStatus(3, "ElementCollection"), Status.OK);
+        assertEquals(LocatorValidator.toStatus(0, "ElementCollection"), Status.NOT_FOUND);
+    }
+}
@@ -0,0 +1,84 @@
+package framework.utils;
+
+import framework.testing.FakeBrowser;
+import framework.testing.FakeNode;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static com.codeborne.selenide.Selenide.$;
+import static org.testng.Assert.*;
+
+/**
+ * Screenshot pipeline against the fake driver, which has no CDP and returns a fixed PNG
+ */
+public class ScreenshotServiceTest {
+
+    private FakeBrowser browser;
+    private Path dir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        browser = FakeBrowser.start();
+        dir = Files.createTempDirectory("screenshots");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        browser.close();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testIdenticalFramesAreHardLinkedUnderUniqueNames() throws IOException {
+        ScreenshotService service = new ScreenshotService(dir, "png", 80);
+
+        Path first = service.capturePage("checkout");
+        Path second = service.capturePage("checkout");
+        service.flush(Duration.ofSeconds(5));
+
+        assertNotEquals(first, second);
+        assertTrue(Files.isSameFile(first, second));
+        assertEquals(Files.readAllBytes(first)[1], (byte) 'P');
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(files.filter(p -> p.toString().endsWith(".tmp")).count(), 0);
+        }
+    }
+
+    @Test
+    public void testPngFromDriverIsReencodedAsJpeg() throws IOException {
+        browser.getDom().add(new FakeNode("div").id("banner").text("Sale"));
+        ScreenshotService service = new ScreenshotService(dir, "jpeg", 70);
+
+        Path file = service.captureElement($("#banner").toWebElement(), "banner");
+        service.flush(Duration.ofSeconds(5));
+
+        assertTrue(file.getFileName().toString().endsWith(".jpg"));
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(bytes[0], (byte) 0xFF);
+        assertEquals(bytes[1], (byte) 0xD8);
+        assertNotNull(ImageIO.read(file.toFile()));
+    }
+
+    @Test
+    public void testCaptureAndWaitReturnsWrittenFile() throws IOException {
+        ScreenshotService service = new ScreenshotService(dir.resolve("nested"), "png", 80);
+
+        Path file = service.capturePageAndWait("receipt", Duration.ofSeconds(5));
+
+        assertTrue(Files.size(file) > 0);
+        try (Stream<Path> files = Files.list(dir.resolve("nested"))) {
+            assertEquals(files.count(), 1);
+        }
+    }
+}
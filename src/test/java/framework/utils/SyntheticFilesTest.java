@@ -0,0 +1,58 @@
+package framework.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+/**
+ * Size and content of generated upload files
+ */
+public class SyntheticFilesTest {
+
+    private static final int BLOCK = 64 * 1024;
+
+    @Test
+    public void testFilesHaveRequestedSize() throws IOException {
+        for (long size : new long[] {0, 1, 79, BLOCK, BLOCK * 2L + 123}) {
+            assertEquals(Files.size(SyntheticFiles.pattern(size, ".txt")), size);
+            assertEquals(Files.size(SyntheticFiles.sparse(size, ".bin")), size);
+        }
+    }
+
+    @Test
+    public void testPatternIsSeededAndDoesNotRepeat() throws IOException {
+        byte[] first = pattern(BLOCK * 3);
+        byte[] second = pattern(BLOCK * 3);
+
+        assertEquals(first, second);
+        assertFalse(Arrays.equals(Arrays.copyOfRange(first, 0, BLOCK), Arrays.copyOfRange(first, BLOCK, BLOCK * 2)));
+        // A shorter file is a prefix of a longer one
+        assertEquals(pattern(1000), Arrays.copyOf(first, 1000));
+        assertEquals(Files.readAllBytes(SyntheticFiles.pattern(BLOCK + 7, ".csv")), Arrays.copyOf(first, BLOCK + 7));
+    }
+
+    @Test
+    public void testPatternIsPrintableLines() throws IOException {
+        byte[] content = pattern(800);
+
+        for (int i = 0; i < content.length; i++) {
+            if (i % 80 == 79) {
+                assertEquals(content[i], (byte) '\n', "at " + i);
+            } else {
+                assertTrue(content[i] >= '!' && content[i] <= '~', "at " + i);
+            }
+        }
+    }
+
+    private static byte[] pattern(long bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SyntheticFiles.writePattern(out, bytes);
+        return out.toByteArray();
+    }
+}
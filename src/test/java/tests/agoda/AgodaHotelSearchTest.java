@@ -10,7 +10,6 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import static com.codeborne.selenide.Selenide.open;
 import static com.codeborne.selenide.Selenide.sleep;
 
 /**
@@ -27,8 +26,10 @@ public class AgodaHotelSearchTest extends AgodaBaseTest {
     @BeforeMethod
     public void initializePages() {
         LogUtils.logAction("AgodaHotelSearchTest", "Setting up test");
-        open("");
         homePage = new AgodaHomePage();
+        // Through BasePage so every run also records the home page's load metrics
+        homePage.openPage("");
+        homePage.waitForPageToLoad();
         searchResultsPage = new SearchResultsPage();
         
         LogUtils.logSuccess("AgodaHotelSearchTest", "Test setup completed successfully");